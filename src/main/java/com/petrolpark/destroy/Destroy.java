@@ -10,6 +10,7 @@ import com.petrolpark.destroy.block.entity.DestroyBlockEntityTypes;
 import com.petrolpark.destroy.block.movementchecks.DestroyMovementChecks;
 import com.petrolpark.destroy.chemistry.api.Chemistry;
 import com.petrolpark.destroy.chemistry.forge.event.ForgeChemistryEventFirer;
+import com.petrolpark.destroy.chemistry.legacy.LegacyStructureIndex;
 import com.petrolpark.destroy.chemistry.legacy.index.DestroyGenericReactions;
 import com.petrolpark.destroy.chemistry.legacy.index.DestroyGroupFinder;
 import com.petrolpark.destroy.chemistry.legacy.index.DestroyMolecules;
@@ -169,6 +170,8 @@ public class Destroy {
         DestroyGroupFinder.register();
         DestroyTopologies.register();
         DestroyMolecules.register();
+        LegacyStructureIndex.rebuild();
+        if (Boolean.getBoolean(LegacyStructureIndex.BENCHMARK_PROPERTY)) LegacyStructureIndex.benchmark();
         DestroyReactions.register();
         DestroyGenericReactions.register();
 
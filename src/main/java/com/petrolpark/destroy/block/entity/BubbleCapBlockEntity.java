@@ -14,6 +14,7 @@ import com.petrolpark.destroy.block.BubbleCapBlock;
 import com.petrolpark.destroy.block.display.MixtureContentsDisplaySource;
 import com.petrolpark.destroy.block.entity.behaviour.DestroyAdvancementBehaviour;
 import com.petrolpark.destroy.block.entity.behaviour.PollutingBehaviour;
+import com.petrolpark.destroy.block.entity.behaviour.ThrottledSyncBehaviour;
 import com.petrolpark.destroy.block.entity.behaviour.fluidTankBehaviour.GeniusFluidTankBehaviour;
 import com.petrolpark.destroy.client.particle.DestroyParticleTypes;
 import com.petrolpark.destroy.client.particle.data.GasParticleData;
@@ -73,6 +74,7 @@ public class BubbleCapBlockEntity extends SmartBlockEntity implements IHaveLabGo
 
     public DestroyAdvancementBehaviour advancementBehaviour;
     protected PollutingBehaviour pollutingBehaviour;
+    protected ThrottledSyncBehaviour syncBehaviour;
 
     private int initializationTicks;
 
@@ -90,11 +92,11 @@ public class BubbleCapBlockEntity extends SmartBlockEntity implements IHaveLabGo
     @Override
     public void addBehaviours(List<BlockEntityBehaviour> behaviours) {
         tank = new GeniusFluidTankBehaviour(SmartFluidTankBehaviour.OUTPUT, this, 1, getTankCapacity(), true)
-            .whenFluidUpdates(this::notifyUpdate);
+            .whenFluidUpdates(this::onFluidChanged);
         internalTank = new GeniusFluidTankBehaviour(SmartFluidTankBehaviour.INPUT, this, 1, getTankCapacity(), true)
             .forbidExtraction()
             .forbidInsertion()
-            .whenFluidUpdates(this::notifyUpdate);
+            .whenFluidUpdates(this::onFluidChanged);
         behaviours.add(tank);
         behaviours.add(internalTank);
         allFluidCapability = LazyOptional.of(() -> { // For Polluting Behaviour, we need access to all tanks
@@ -106,6 +108,17 @@ public class BubbleCapBlockEntity extends SmartBlockEntity implements IHaveLabGo
 
         pollutingBehaviour = new PollutingBehaviour(this);
         behaviours.add(pollutingBehaviour);
+
+        syncBehaviour = new ThrottledSyncBehaviour(this);
+        behaviours.add(syncBehaviour);
+    };
+
+    /**
+     * Fluid moves between Bubble Caps every tick while a Distillation Tower is running, so rather than syncing every time, wait for the {@link ThrottledSyncBehaviour}.
+     */
+    private void onFluidChanged() {
+        setChanged();
+        syncBehaviour.markDirty();
     };
 
     @Override
@@ -191,7 +204,7 @@ public class BubbleCapBlockEntity extends SmartBlockEntity implements IHaveLabGo
         if (isController && hasLevel()) {
             tower.tick(getLevel());
         };
-        sendData();
+        if (!particleFluid.isEmpty() && !getLevel().isClientSide()) sendData(); // The Particle Fluid is only kept for one tick, so this can't wait for the Sync Behaviour
     };
 
     public void onDistill() {
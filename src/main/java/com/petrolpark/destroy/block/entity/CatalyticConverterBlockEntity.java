@@ -43,7 +43,7 @@ public class CatalyticConverterBlockEntity extends SmartBlockEntity {
             ticksToFlush = 10;
             if (tankBehaviour.isEmpty()) return;
             float multiplier = DestroyAllConfigs.SERVER.blocks.catalyticConverterReduction.getF();
-            if (multiplier > 0f) PollutionHelper.pollute(level, getBlockPos().relative(getBlockState().getValue(CatalyticConverterBlock.FACING)), multiplier, 10, tankBehaviour.getPrimaryHandler().getFluid());
+            if (multiplier > 0f) PollutionHelper.pollute(level, getBlockPos().relative(getBlockState().getValue(CatalyticConverterBlock.FACING)), "catalytic_converter", multiplier, 10, tankBehaviour.getPrimaryHandler().getFluid());
             advancementBehaviour.awardDestroyAdvancement(DestroyAdvancementTrigger.CATALYTIC_CONVERTER);
             tankBehaviour.getPrimaryHandler().drain(1000000, FluidAction.EXECUTE);
             notifyUpdate();
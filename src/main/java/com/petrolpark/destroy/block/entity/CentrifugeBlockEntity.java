@@ -30,6 +30,7 @@ import com.petrolpark.destroy.fluid.DestroyFluids;
 import com.petrolpark.destroy.fluid.MixtureFluid;
 import com.petrolpark.destroy.recipe.CentrifugationRecipe;
 import com.petrolpark.destroy.recipe.DestroyRecipeTypes;
+import com.petrolpark.destroy.recipe.MixtureRecipeIndex;
 import com.petrolpark.destroy.util.DestroyLang;
 import com.simibubi.create.AllFluids;
 import com.simibubi.create.content.fluids.FluidFX;
@@ -40,7 +41,6 @@ import com.simibubi.create.foundation.blockEntity.behaviour.BlockEntityBehaviour
 import com.simibubi.create.foundation.blockEntity.behaviour.fluid.SmartFluidTankBehaviour;
 import com.simibubi.create.foundation.fluid.CombinedTankWrapper;
 import com.simibubi.create.foundation.fluid.SmartFluidTank;
-import com.simibubi.create.foundation.recipe.RecipeFinder;
 import com.simibubi.create.foundation.utility.Couple;
 import com.simibubi.create.foundation.utility.NBTHelper;
 import com.simibubi.create.foundation.utility.Pair;
@@ -71,7 +71,6 @@ import net.minecraftforge.registries.ForgeRegistries;
 
 public class CentrifugeBlockEntity extends KineticBlockEntity implements IDirectionalOutputFluidBlockEntity, IHaveLabGoggleInformation {
 
-    private static final Object centrifugationRecipeKey = new Object();
 
     private SmartFluidTankBehaviour inputTank, denseOutputTank, lightOutputTank;
     protected LazyOptional<IFluidHandler> allFluidCapability;
@@ -156,7 +155,7 @@ public class CentrifugeBlockEntity extends KineticBlockEntity implements IDirect
             FluidStack inputFluidStack = getInputTank().getFluid();
 
             // Standard recipes
-            List<Recipe<?>> possibleRecipes = RecipeFinder.get(centrifugationRecipeKey, getLevel(), r -> r.getType() == DestroyRecipeTypes.CENTRIFUGATION.getType()).stream().filter(r -> {
+            List<Recipe<?>> possibleRecipes = MixtureRecipeIndex.getCandidates(getLevel(), DestroyRecipeTypes.CENTRIFUGATION.getType(), inputFluidStack).stream().filter(r -> {
                 CentrifugationRecipe recipe = (CentrifugationRecipe) r;
                 if (!recipe.isValidAt(getLevel(), getBlockPos())) return false; // Biome-specific recipes
                 if (!recipe.getRequiredFluid().test(inputFluidStack)) return false; // If there is insufficient input Fluid
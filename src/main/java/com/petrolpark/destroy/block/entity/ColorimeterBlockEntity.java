@@ -11,10 +11,10 @@ import com.petrolpark.destroy.block.display.MixtureContentsDisplaySource;
 import com.petrolpark.destroy.block.entity.behaviour.DestroyAdvancementBehaviour;
 import com.petrolpark.destroy.block.entity.behaviour.RedstoneQuantityMonitorBehaviour;
 import com.petrolpark.destroy.chemistry.legacy.LegacySpecies;
-import com.petrolpark.destroy.chemistry.legacy.ReadOnlyMixture;
-import com.petrolpark.destroy.fluid.DestroyFluids;
 import com.petrolpark.destroy.util.DestroyLang;
+import com.petrolpark.destroy.util.vat.IVatObserver;
 import com.petrolpark.destroy.util.vat.VatMaterial;
+import com.petrolpark.destroy.util.vat.VatSnapshot;
 import com.simibubi.create.content.redstone.displayLink.DisplayLinkContext;
 import com.simibubi.create.content.redstone.displayLink.source.DisplaySource;
 import com.simibubi.create.content.redstone.displayLink.target.DisplayTargetStats;
@@ -29,9 +29,8 @@ import net.minecraft.network.chat.Component;
 import net.minecraft.network.chat.MutableComponent;
 import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockState;
-import net.minecraftforge.fluids.FluidStack;
 
-public class ColorimeterBlockEntity extends SmartBlockEntity {
+public class ColorimeterBlockEntity extends SmartBlockEntity implements IVatObserver {
 
     public static final DecimalFormat df = new DecimalFormat();
     static {
@@ -43,6 +42,15 @@ public class ColorimeterBlockEntity extends SmartBlockEntity {
     protected LegacySpecies molecule;
     public RedstoneQuantityMonitorBehaviour redstoneMonitor;
 
+    /**
+     * The Vat this Colorimeter is {@link VatControllerBlockEntity#observe observing}, if any.
+     */
+    protected VatControllerBlockEntity observedVat;
+    /**
+     * The concentration of the observed Molecule in the last {@link VatSnapshot snapshot} of the observed Vat.
+     */
+    protected float observedConcentration;
+
     protected DestroyAdvancementBehaviour advancementBehaviour;
 
     public ColorimeterBlockEntity(BlockEntityType<?> type, BlockPos pos, BlockState state) {
@@ -66,11 +74,23 @@ public class ColorimeterBlockEntity extends SmartBlockEntity {
         if (molecule != null && getVatOptional().isPresent()) advancementBehaviour.awardDestroyAdvancement(DestroyAdvancementTrigger.COLORIMETER);
     };
 
+    @Override
+    public void lazyTick() {
+        super.lazyTick();
+        if (molecule != null && (observedVat == null || observedVat.isRemoved())) updateVat(); // Start observing a Vat which has been built (or rebuilt)
+    };
+
+    @Override
+    public void invalidate() {
+        super.invalidate();
+        if (observedVat != null) observedVat.stopObserving(this);
+    };
+
     @Override
     protected void read(CompoundTag tag, boolean clientPacket) {
         super.read(tag, clientPacket);
+        observingGas = tag.getBoolean("ObservingGas"); // Read this first, as it's needed to start observing the Vat again
         setMolecule(LegacySpecies.getMolecule(tag.getString("Molecule")));
-        if (tag.contains("ObservingGas")) observingGas = true;
     };
 
     @Override
@@ -106,20 +126,23 @@ public class ColorimeterBlockEntity extends SmartBlockEntity {
 
     public void updateVat() {
         Optional<VatControllerBlockEntity> vat = getVatOptional();
+        if (observedVat != null) observedVat.stopObserving(this);
+        observedVat = null;
         if (molecule != null && vat.isPresent()) {
-            redstoneMonitor.quantityObserved = Optional.of(() -> {
-                FluidStack mixtureStack = (observingGas ? vat.get().getGasTankContents() : vat.get().getLiquidTankContents());
-                if (DestroyFluids.isMixture(mixtureStack)) {
-                    ReadOnlyMixture mixture = ReadOnlyMixture.readNBT(ReadOnlyMixture::new, mixtureStack.getOrCreateChildTag("Mixture"));
-                    return mixture.getConcentrationOf(molecule);
-                };
-                return 0f;
-            });
+            observedVat = vat.get();
+            observedVat.observe(this);
+            redstoneMonitor.quantityObserved = Optional.of(() -> observedConcentration);
             return;
         };
+        observedConcentration = 0f;
         redstoneMonitor.quantityObserved = Optional.empty();
     };
 
+    @Override
+    public void onVatSnapshot(VatSnapshot snapshot) {
+        if (molecule != null) observedConcentration = snapshot.getConcentration(molecule, observingGas);
+    };
+
     public static class ColorimeterDisplaySource extends DisplaySource {
 
         private static final DecimalFormat df = new DecimalFormat();
@@ -132,12 +155,11 @@ public class ColorimeterBlockEntity extends SmartBlockEntity {
         public List<MutableComponent> provideText(DisplayLinkContext context, DisplayTargetStats stats) {
             if (!(context.getSourceBlockEntity() instanceof ColorimeterBlockEntity cbe)) return Collections.emptyList();
             Optional<VatControllerBlockEntity> vat = cbe.getVatOptional();
-            if (!vat.isPresent()) return Collections.emptyList();
-            FluidStack fluid = cbe.observingGas ? vat.get().getGasTankContents() : vat.get().getGasTankContents();
+            if (!vat.isPresent() || cbe.molecule == null) return Collections.emptyList();
             return Collections.singletonList(
                 Lang.builder()
                     .add(context.sourceConfig().getBoolean("ShowSpeciesName") ? cbe.molecule.getName(!context.sourceConfig().getBoolean("MoleculeNameType")).copy().append(" ") : Component.literal(""))
-                    .add(DestroyLang.quantity(ReadOnlyMixture.readNBT(ReadOnlyMixture::new, fluid.getOrCreateChildTag("Mixture")).getConcentrationOf(cbe.molecule), false, df))
+                    .add(DestroyLang.quantity(vat.get().getSnapshot().getConcentration(cbe.molecule, cbe.observingGas), false, df))
                     .component() 
             );
         };
@@ -125,7 +125,7 @@ public class CoolerBlockEntity extends SmartBlockEntity implements IHaveGoggleIn
 
         // Discard the Fluid
         tank.getPrimaryHandler().drain(TANK_CAPACITY, FluidAction.EXECUTE);
-        PollutionHelper.pollute(getLevel(), getBlockPos(), fluidStack);
+        PollutionHelper.pollute(getLevel(), getBlockPos(), "refrigerstrayter", fluidStack);
 
         notifyUpdate();
     };
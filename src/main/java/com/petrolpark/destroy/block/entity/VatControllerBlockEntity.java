@@ -2,8 +2,11 @@ package com.petrolpark.destroy.block.entity;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -16,10 +19,12 @@ import com.petrolpark.destroy.block.VatControllerBlock;
 import com.petrolpark.destroy.block.display.MixtureContentsDisplaySource;
 import com.petrolpark.destroy.block.entity.VatSideBlockEntity.DisplayType;
 import com.petrolpark.destroy.block.entity.behaviour.DestroyAdvancementBehaviour;
+import com.petrolpark.destroy.block.entity.behaviour.ThrottledSyncBehaviour;
 import com.petrolpark.destroy.block.entity.behaviour.fluidTankBehaviour.VatFluidTankBehaviour;
 import com.petrolpark.destroy.block.entity.behaviour.fluidTankBehaviour.VatFluidTankBehaviour.VatTankSegment.VatFluidTank;
 import com.petrolpark.destroy.capability.Pollution;
 import com.petrolpark.destroy.chemistry.api.util.Constants;
+import com.petrolpark.destroy.chemistry.legacy.KineticsEngine;
 import com.petrolpark.destroy.chemistry.legacy.LegacyMixture;
 import com.petrolpark.destroy.chemistry.legacy.LegacyReaction;
 import com.petrolpark.destroy.chemistry.legacy.ReadOnlyMixture;
@@ -28,11 +33,15 @@ import com.petrolpark.destroy.client.particle.data.BoilingFluidBubbleParticleDat
 import com.petrolpark.destroy.config.DestroyAllConfigs;
 import com.petrolpark.destroy.fluid.DestroyFluids;
 import com.petrolpark.destroy.fluid.MixtureFluid;
-import com.petrolpark.destroy.recipe.DestroyRecipeTypes;
+import com.petrolpark.destroy.network.DestroyMessages;
+import com.petrolpark.destroy.network.packet.SyncVatStateS2CPacket;
 import com.petrolpark.destroy.recipe.MixtureConversionRecipe;
+import com.petrolpark.destroy.recipe.MixtureRecipeIndex;
 import com.petrolpark.destroy.util.DestroyLang;
 import com.petrolpark.destroy.util.PollutionHelper;
+import com.petrolpark.destroy.util.vat.IVatObserver;
 import com.petrolpark.destroy.util.vat.Vat;
+import com.petrolpark.destroy.util.vat.VatSnapshot;
 import com.petrolpark.destroy.world.explosion.SmartExplosion;
 import com.simibubi.create.CreateClient;
 import com.simibubi.create.content.contraptions.ITransformableBlockEntity;
@@ -45,7 +54,6 @@ import com.simibubi.create.foundation.fluid.CombinedTankWrapper;
 import com.simibubi.create.foundation.item.ItemHelper;
 import com.simibubi.create.foundation.item.SmartInventory;
 import com.simibubi.create.foundation.item.TooltipHelper;
-import com.simibubi.create.foundation.recipe.RecipeFinder;
 import com.simibubi.create.foundation.utility.Lang;
 import com.simibubi.create.foundation.utility.Pair;
 import com.simibubi.create.foundation.utility.animation.LerpedFloat;
@@ -89,6 +97,16 @@ public class VatControllerBlockEntity extends SmartBlockEntity implements IHaveL
      * This Mixture belongs to an imaginary Fluid Stack with a size equal to the capacity of the Vat.
      */
     protected LegacyMixture cachedMixture;
+    /**
+     * Whether the cached Mixture has changed since it was last written to the Fluids in the {@link VatControllerBlockEntity#tankBehaviour tanks}.
+     * On the server the cached Mixture is the source of truth, and the Fluids are only {@link VatControllerBlockEntity#updateFluidMixture brought up to date}
+     * when something actually needs them (such as draining, saving or syncing), rather than every tick.
+     */
+    protected boolean fluidMixtureOutdated;
+    /**
+     * Whether the cached Mixture is currently being written to the Fluids, in which case the changes to the Fluids don't need syncing separately.
+     */
+    private boolean updatingFluidMixture;
     /**
      * The power (in W) being supplied to this Vat. This can be positive (if the Vat is
      * being heated) or negative (if it is being cooled).
@@ -107,6 +125,16 @@ public class VatControllerBlockEntity extends SmartBlockEntity implements IHaveL
     protected boolean cachedMixtureBoiling = false;
     protected boolean cachedMixtureReacting = false;
 
+    /*
+     * Server-side only record of the visual state clients were last sent, so it is only sent again if it has changed noticeably
+     */
+    protected float lastSyncedPressure;
+    protected float lastSyncedTemperature;
+    protected boolean lastSyncedBoiling;
+    protected boolean lastSyncedReacting;
+
+    protected ThrottledSyncBehaviour syncBehaviour;
+
     protected VatFluidTankBehaviour tankBehaviour;
     protected LazyOptional<IFluidHandler> fluidCapability;
     protected BlockPos openVentPos;
@@ -116,6 +144,17 @@ public class VatControllerBlockEntity extends SmartBlockEntity implements IHaveL
 
     protected VatAdvancementBehaviour advancementBehaviour;
 
+    /**
+     * Things {@link VatControllerBlockEntity#observe observing} this Vat. These are weakly held, so observers which are never
+     * {@link VatControllerBlockEntity#stopObserving removed} are forgotten once unloaded.
+     */
+    private final Set<IVatObserver> observers = Collections.newSetFromMap(new WeakHashMap<>());
+    protected VatSnapshot snapshot = VatSnapshot.EMPTY;
+    /**
+     * Whether the contents, temperature or pressure might have changed since the {@link VatControllerBlockEntity#snapshot snapshot} was taken.
+     */
+    protected boolean snapshotOutdated = true;
+
     protected int initializationTicks;
     /**
      * Whether the {@link com.petrolpark.destroy.util.vat.Vat Vat} associated with this Vat Controller is already under the process of being deleted.
@@ -149,6 +188,11 @@ public class VatControllerBlockEntity extends SmartBlockEntity implements IHaveL
         // Advancement behaviour
         advancementBehaviour = new VatAdvancementBehaviour();
         behaviours.add(advancementBehaviour);
+
+        // Sync behaviour
+        syncBehaviour = new ThrottledSyncBehaviour(this)
+            .withVisualState(this::hasVisualStateChanged, this::sendVisualState);
+        behaviours.add(syncBehaviour);
     };
 
     protected void updateItemCapability() {
@@ -184,6 +228,8 @@ public class VatControllerBlockEntity extends SmartBlockEntity implements IHaveL
             initializationTicks--;
         };
 
+        publishSnapshot(); // Publish any changes since the last tick
+
         if (getLevel().isClientSide()) { // It thinks getLevel() might be null (it's not)
             pressure.tickChaser();
             temperature.tickChaser();
@@ -198,13 +244,15 @@ public class VatControllerBlockEntity extends SmartBlockEntity implements IHaveL
             int cyclesPerTick = getSimulationLevel();
 
             // Heating
+            float outsideTemperature = Pollution.getLocalTemperature(getLevel(), getBlockPos()); // Doesn't change between cycles
             for (int cycle = 0; cycle < cyclesPerTick; cycle++) {
                 float energyChange = heatingPower;
-                energyChange += (Pollution.getLocalTemperature(getLevel(), getBlockPos()) - cachedMixture.getTemperature()) * vat.getConductance(); // Fourier's Law (sort of), the divide by 20 is for 20 ticks per second
+                energyChange += (outsideTemperature - cachedMixture.getTemperature()) * vat.getConductance(); // Fourier's Law (sort of), the divide by 20 is for 20 ticks per second
                 energyChange /= 20 * cyclesPerTick;
                 if (Math.abs(energyChange / (fluidAmount * cachedMixture.getVolumetricHeatCapacity())) > 0.001f && fluidAmount != 0d) { // Only bother heating if the temperature change will be somewhat significant
                     cachedMixture.heat(energyChange / (float)fluidAmount);
                     cachedMixture.disturbEquilibrium();
+                    snapshotOutdated = true;
                 } else {
                     break;
                 };
@@ -228,7 +276,7 @@ public class VatControllerBlockEntity extends SmartBlockEntity implements IHaveL
 
                 // React
                 context = new ReactionContext(availableItemStacks, UVPower, false); // Update the context
-                cachedMixture.reactForTick(context, getSimulationLevel());
+                cachedMixture.reactForTick(context, getSimulationLevel(), getKineticsEngine());
                 shouldUpdateFluidMixture = true;
 
 		// Put all Items back in the Inventory
@@ -244,20 +292,21 @@ public class VatControllerBlockEntity extends SmartBlockEntity implements IHaveL
                 cachedMixture.getCompletedResults(fluidAmount).entrySet().forEach(entry -> {
                     for (int i = 0; i < entry.getValue(); i++) entry.getKey().onVatReaction(getLevel(), this);
                 });
-                updateFluidMixture();
+                fluidMixtureOutdated = true;
+                snapshotOutdated = true;
+                setChanged();
+                syncBehaviour.markDirty(); // The contents have changed, but this is only sent as often as the sync interval allows
             };
 
             // Releasing gas if there is an open vent
             VatSideBlockEntity openVent = getOpenVent();
             if (openVent != null && !getGasTank().isEmptyOrFullOfAir()) {
-                PollutionHelper.pollute(getLevel(), openVent.getBlockPos().relative(openVent.direction), 10, flush());
+                PollutionHelper.pollute(getLevel(), openVent.getBlockPos().relative(openVent.direction), "vat_vent", 10, flush());
                 updateCachedMixture();
             };
 
             // Check for Explosion
             if (DestroyAllConfigs.SERVER.blocks.vatExplodesAtHighPressure.get() && Math.abs(getPercentagePressure()) >= 1f) explode();
-
-            sendData();
         };
     };
 
@@ -278,6 +327,10 @@ public class VatControllerBlockEntity extends SmartBlockEntity implements IHaveL
         return DestroyAllConfigs.SERVER.blocks.simulationLevel.get();
     };
 
+    public static KineticsEngine getKineticsEngine() {
+        return DestroyAllConfigs.SERVER.blocks.kineticsEngine.get();
+    };
+
     @Override
     protected void read(CompoundTag tag, boolean clientPacket) {
         super.read(tag, clientPacket);
@@ -297,14 +350,14 @@ public class VatControllerBlockEntity extends SmartBlockEntity implements IHaveL
         // Inventory
         inventory.deserializeNBT(tag.getCompound("Inventory"));
 
+        snapshotOutdated = true;
+
         // Mixture
         if (clientPacket) {
-            pressure.chase(tag.getFloat("Pressure"), 0.125f, Chaser.EXP);
-            temperature.chase(tag.getFloat("Temperature"), 0.125f, Chaser.EXP);
-            cachedMixtureBoiling = tag.getBoolean("AnythingBoiling");
-            cachedMixtureReacting = tag.getBoolean("AnythingReacting");
+            receiveVisualState(tag.getFloat("Pressure"), tag.getFloat("Temperature"), tag.getBoolean("AnythingBoiling"), tag.getBoolean("AnythingReacting"));
         } else {
             if (tag.contains("VentPos", Tag.TAG_COMPOUND)) openVentPos = NbtUtils.readBlockPos(tag.getCompound("VentPos"));
+            fluidMixtureOutdated = false; // The Fluids we just read are now the source of truth
             updateCachedMixture();
         };
     };
@@ -312,6 +365,7 @@ public class VatControllerBlockEntity extends SmartBlockEntity implements IHaveL
     @Override
     @SuppressWarnings("null")
     protected void write(CompoundTag tag, boolean clientPacket) {
+        updateFluidMixture(); // Make sure the tanks we are about to write are up to date
         super.write(tag, clientPacket);
 
         tag.putFloat("HeatingPower", heatingPower);
@@ -332,16 +386,67 @@ public class VatControllerBlockEntity extends SmartBlockEntity implements IHaveL
         if (!getLevel().isClientSide()) { // It thinks getLevel() might be null (it's not)
             tag.putFloat("Pressure", getPressure());
             tag.putFloat("Temperature", getTemperature());
-            tag.putBoolean("AnythingBoiling", cachedMixture != null && cachedMixture.isBoiling());
-            tag.putBoolean("AnythingReacting", cachedMixture != null && !cachedMixture.isAtEquilibrium());
+            tag.putBoolean("AnythingBoiling", isAnythingBoiling());
+            tag.putBoolean("AnythingReacting", isAnythingReacting());
+            if (clientPacket) recordVisualState();
         };
 
         if (openVentPos != null) tag.put("VentPos", NbtUtils.writeBlockPos(openVentPos));
     };
 
     private void onFluidStackChanged() {
+        snapshotOutdated = true;
         if (!vat.isPresent()) return;
-        notifyUpdate();
+        setChanged();
+        if (!updatingFluidMixture) syncBehaviour.markDirty();
+    };
+
+    protected boolean isAnythingBoiling() {
+        return cachedMixture != null && cachedMixture.isBoiling();
+    };
+
+    protected boolean isAnythingReacting() {
+        return cachedMixture != null && !cachedMixture.isAtEquilibrium();
+    };
+
+    /**
+     * Whether the pressure, temperature, or whether anything is boiling or reacting has changed enough since clients were last told about them that they would notice.
+     */
+    protected boolean hasVisualStateChanged() {
+        if (getVatOptional().isEmpty()) return false;
+        return Math.abs(getPressure() - lastSyncedPressure) >= DestroyAllConfigs.SERVER.blocks.vatSyncPressureThreshold.getF()
+            || Math.abs(getTemperature() - lastSyncedTemperature) >= DestroyAllConfigs.SERVER.blocks.vatSyncTemperatureThreshold.getF()
+            || isAnythingBoiling() != lastSyncedBoiling
+            || isAnythingReacting() != lastSyncedReacting;
+    };
+
+    /**
+     * Tell clients about the pressure, temperature, and whether anything is boiling or reacting, without sending the whole Vat.
+     */
+    @SuppressWarnings("null")
+    protected void sendVisualState() {
+        if (!hasLevel() || getLevel().isClientSide()) return; // It thinks getLevel() might be null (it's not)
+        recordVisualState();
+        DestroyMessages.sendToClientsTrackingChunk(new SyncVatStateS2CPacket(getBlockPos(), lastSyncedPressure, lastSyncedTemperature, lastSyncedBoiling, lastSyncedReacting), getLevel().getChunkAt(getBlockPos()));
+    };
+
+    private void recordVisualState() {
+        lastSyncedPressure = getPressure();
+        lastSyncedTemperature = getTemperature();
+        lastSyncedBoiling = isAnythingBoiling();
+        lastSyncedReacting = isAnythingReacting();
+    };
+
+    /**
+     * Client-side only.
+     * @see SyncVatStateS2CPacket
+     */
+    public void receiveVisualState(float newPressure, float newTemperature, boolean boiling, boolean reacting) {
+        pressure.chase(newPressure, 0.125f, Chaser.EXP);
+        temperature.chase(newTemperature, 0.125f, Chaser.EXP);
+        cachedMixtureBoiling = boiling;
+        cachedMixtureReacting = reacting;
+        snapshotOutdated = true;
     };
 
     public Optional<Vat> getVatOptional() {
@@ -352,6 +457,7 @@ public class VatControllerBlockEntity extends SmartBlockEntity implements IHaveL
      * Whether this Vat is able to accomodate Fluid, considering its fullness and whether or not the Vat has been initialized yet.
      */
     public boolean canFitFluid() {
+        updateFluidMixture();
         return vat.map(v -> !tankBehaviour.isFull()).orElse(false);
     };
 
@@ -361,6 +467,7 @@ public class VatControllerBlockEntity extends SmartBlockEntity implements IHaveL
      * @return The amount (in mB) of Fluid which could be or was added
      */
     public int addFluid(FluidStack stack, FluidAction action) {
+        updateFluidMixture();
         int amountAdded = fluidCapability.map(fh -> fh.fill(stack, action)).orElse(0);
         if (amountAdded != 0 && action == FluidAction.EXECUTE) {
             updateCachedMixture();
@@ -383,20 +490,25 @@ public class VatControllerBlockEntity extends SmartBlockEntity implements IHaveL
         LegacyMixture emptyMixture = new LegacyMixture();
         if (!getVatOptional().isPresent()) {
             cachedMixture = emptyMixture;
+            fluidMixtureOutdated = false;
             return;
         };
+        updateFluidMixture(); // Don't lose any changes to the cached Mixture which haven't been written yet
         cachedMixture = tankBehaviour.getCombinedMixture();
     };
 
     /**
-     * Set the Mixture stored in the NBT of the contained Fluids to the cached Mixture.
+     * Set the Mixture stored in the NBT of the contained Fluids to the cached Mixture, if it has changed since this was last done.
+     * This should be called before anything reads or modifies the Fluids directly.
      * @see VatControllerBlockEntity#updateCachedMixture Doing the opposite
      */
     private void updateFluidMixture() {
-        if (getVatOptional().isEmpty()) return;
+        if (!fluidMixtureOutdated || getVatOptional().isEmpty() || cachedMixture == null) return;
+        fluidMixtureOutdated = false; // Set this first, as changing the Fluids will cause this Block Entity to be written again
+        updatingFluidMixture = true;
         tankBehaviour.setMixture(cachedMixture, vat.get().getCapacity()); //TODO swap Fluid to not use entire vat capacity
         updateGasVolume();
-        sendData();
+        updatingFluidMixture = false;
     };
 
     /**
@@ -481,7 +593,8 @@ public class VatControllerBlockEntity extends SmartBlockEntity implements IHaveL
         ItemHelper.dropContents(getLevel(), posDestroyed, inventory);
         itemCapability.invalidate();
         removeVent();
-        PollutionHelper.pollute(getLevel(), pollutionPos, getLiquidTank().getFluid(), getGasTank().getFluid());
+        updateFluidMixture();
+        PollutionHelper.pollute(getLevel(), pollutionPos, "destroyed_vat", getLiquidTank().getFluid(), getGasTank().getFluid());
 
         getLiquidTank().setFluid(FluidStack.EMPTY);
         getGasTank().setFluid(FluidStack.EMPTY);
@@ -500,6 +613,8 @@ public class VatControllerBlockEntity extends SmartBlockEntity implements IHaveL
         UVPower = 0f;
 
         cachedMixture = new LegacyMixture();
+        fluidMixtureOutdated = false;
+        snapshotOutdated = true;
         vat = Optional.empty();
         underDeconstruction = false;
         invalidateRenderBoundingBox(); // Update the render bounding box to be smaller
@@ -508,6 +623,7 @@ public class VatControllerBlockEntity extends SmartBlockEntity implements IHaveL
 
     // Nullable, just not annotated so VSC stops giving me ugly yellow lines
     protected VatFluidTank getLiquidTank() {
+        updateFluidMixture();
         return tankBehaviour.getLiquidHandler();
     };
 
@@ -519,6 +635,7 @@ public class VatControllerBlockEntity extends SmartBlockEntity implements IHaveL
     };
 
     protected VatFluidTank getGasTank() {
+        updateFluidMixture();
         return tankBehaviour.getGasHandler();
     };
 
@@ -552,6 +669,7 @@ public class VatControllerBlockEntity extends SmartBlockEntity implements IHaveL
 
     public FluidStack flush() {
         if (cachedMixture == null) return FluidStack.EMPTY;
+        updateFluidMixture();
         return tankBehaviour.flush(cachedMixture.getTemperature());
     };
 
@@ -599,7 +717,44 @@ public class VatControllerBlockEntity extends SmartBlockEntity implements IHaveL
         sendData();
     };
 
+    /**
+     * Start sending an observer a {@link VatSnapshot snapshot} of this Vat whenever it changes. The observer is sent the current snapshot straight away.
+     * @param observer
+     */
+    public void observe(IVatObserver observer) {
+        observers.add(observer);
+        observer.onVatSnapshot(getSnapshot());
+    };
+
+    public void stopObserving(IVatObserver observer) {
+        observers.remove(observer);
+    };
+
+    /**
+     * Get the contents, temperature and pressure of this Vat, taking a new {@link VatSnapshot snapshot} if they might have changed.
+     * Taking a snapshot brings the Fluids up to date with the cached Mixture, so this shouldn't be called every tick if nothing needs it.
+     */
+    public VatSnapshot getSnapshot() {
+        if (snapshotOutdated) {
+            VatFluidTank liquidTank = getLiquidTank(); // Bringing the Fluids up to date marks the snapshot as outdated again, so do this first
+            VatFluidTank gasTank = getGasTank();
+            snapshotOutdated = false;
+            snapshot = VatSnapshot.of(snapshot, liquidTank.getFluid(), gasTank.getFluid(), getTemperature(), getPressure());
+        };
+        return snapshot;
+    };
+
+    /**
+     * Send a new {@link VatSnapshot snapshot} to all observers, if anything has changed and there are any.
+     */
+    protected void publishSnapshot() {
+        if (!snapshotOutdated || observers.isEmpty()) return;
+        VatSnapshot snapshot = getSnapshot();
+        for (IVatObserver observer : List.copyOf(observers)) observer.onVatSnapshot(snapshot);
+    };
+
     public ReadOnlyMixture getCombinedReadOnlyMixture() {
+        updateFluidMixture();
         return tankBehaviour.getCombinedReadOnlyMixture();
     };
 
@@ -634,6 +789,13 @@ public class VatControllerBlockEntity extends SmartBlockEntity implements IHaveL
     public float getPressure() {
         if (getLevel().isClientSide()) return pressure.getChaseTarget(); // It thinks getLevel() might be null (it's not)
         if (!getVatOptional().isPresent()) return 0f;
+        if (cachedMixture != null) { // Work this out from the cached Mixture, so the Fluids don't have to be updated (and then read back) just to find it
+            int capacity = getCapacity();
+            int liquidAmount = (int)(Math.min(cachedMixture.getLiquidVolume(capacity), capacity - 1) + 0.5d);
+            double molesOfGas = cachedMixture.getMolesOfGas(capacity);
+            if (molesOfGas <= 0d) return liquidAmount == capacity ? 0f : AIR_PRESSURE;
+            return LegacyReaction.GAS_CONSTANT * 1000f * getTemperature() * (float)(molesOfGas / (capacity - liquidAmount + 1)) - AIR_PRESSURE;
+        };
         if (getGasTank().isEmpty()) {
             return getLiquidTank().getFluidAmount() == getLiquidTank().getCapacity() ? 0f : AIR_PRESSURE; // Return 0 for a vacuum, and normal air pressure for a full Vat
         };
@@ -712,7 +874,6 @@ public class VatControllerBlockEntity extends SmartBlockEntity implements IHaveL
      */
     public static abstract class VatTankWrapper extends CombinedTankWrapper {
 
-        public final Object recipeCacheKey = new Object();
         public MixtureConversionRecipe lastRecipe;
 
         protected final Supplier<VatControllerBlockEntity> vatControllerGetter;
@@ -740,12 +901,7 @@ public class VatControllerBlockEntity extends SmartBlockEntity implements IHaveL
 
             // Non-Mixture -> Mixture conversion
             if (lastRecipe == null || !lastRecipe.getFluidIngredients().get(0).test(stack)) {
-                lastRecipe = RecipeFinder.get(recipeCacheKey, controller.getLevel(), r -> r.getType() == DestroyRecipeTypes.MIXTURE_CONVERSION.getType())
-                    .stream()
-                    .map(r -> (MixtureConversionRecipe)r)
-                    .filter(r -> r.getFluidIngredients().get(0).test(stack))
-                    .findFirst()
-                    .orElse(null);
+                lastRecipe = MixtureRecipeIndex.getMixtureConversion(controller.getLevel(), stack);
             };
             if (lastRecipe != null) return consumer.fill(lastRecipe.apply(stack), fluidAction);
 
@@ -2,6 +2,9 @@ package com.petrolpark.destroy.block.entity.behaviour;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import javax.annotation.Nullable;
 
 import com.petrolpark.destroy.chemistry.legacy.LegacyReaction;
 import com.petrolpark.destroy.chemistry.legacy.ReactionResult;
@@ -25,12 +28,20 @@ public class ExtendedBasinBehaviour extends BlockEntityBehaviour {
     public static final BehaviourType<ExtendedBasinBehaviour> TYPE = new BehaviourType<>();
 
     public boolean tooFullToReact;
+    /**
+     * Whether the Reaction of the contents of this Basin is still being {@link com.petrolpark.destroy.recipe.BasinReactionSimulator simulated}.
+     */
+    public boolean computingReaction;
+    @Nullable
+    private CompletableFuture<?> pendingReaction;
     private Map<ReactionResult, Integer> reactionResults;
     public FluidStack evaporatedFluid;
 
     public ExtendedBasinBehaviour(SmartBlockEntity be) {
         super(be);
         tooFullToReact = false;
+        computingReaction = false;
+        pendingReaction = null;
         reactionResults = new HashMap<>();
         evaporatedFluid = FluidStack.EMPTY;
     };
@@ -39,12 +50,29 @@ public class ExtendedBasinBehaviour extends BlockEntityBehaviour {
         this.reactionResults = results;
     };
 
+    /**
+     * Show that the Reaction of the contents of this Basin is being worked out, and look for a Recipe again once it has been.
+     * The Basin should be synced after calling this.
+     * @param simulation
+     */
+    public void awaitReaction(CompletableFuture<?> simulation) {
+        pendingReaction = simulation;
+        computingReaction = true;
+    };
+
     @Override
     @SuppressWarnings("null")
     public void tick() {
         if (!blockEntity.hasLevel()) return;
         if (!(blockEntity instanceof BasinBlockEntity basin) || basin.getLevel().isClientSide()) return; // It thinks getLevel() might be null (it's not)
 
+        if (pendingReaction != null && pendingReaction.isDone()) {
+            pendingReaction = null;
+            computingReaction = false;
+            basin.notifyChangeOfContents(); // Get the Mixer to look for a Recipe again, now the Reaction is known
+            basin.sendData();
+        };
+
         BlockEntity potentialOperator = getWorld().getBlockEntity(getPos().above(2));
         if (potentialOperator instanceof MechanicalMixerBlockEntity mixer) {
             if (mixer.processingTicks == 1) enactReactionResults(basin);
@@ -60,7 +88,7 @@ public class ExtendedBasinBehaviour extends BlockEntityBehaviour {
         reactionResults.clear();
 
         if (!evaporatedFluid.isEmpty()) {
-            PollutionHelper.pollute(basin.getLevel(), basin.getBlockPos(), evaporatedFluid);
+            PollutionHelper.pollute(basin.getLevel(), basin.getBlockPos(), "basin", evaporatedFluid);
             evaporatedFluid = FluidStack.EMPTY;
         };
     };
@@ -70,7 +98,7 @@ public class ExtendedBasinBehaviour extends BlockEntityBehaviour {
 	 */
 	public void destroy() {
         if (!evaporatedFluid.isEmpty() && blockEntity.getLevel() instanceof ServerLevel serverLevel) {
-            PollutionHelper.pollute(serverLevel, blockEntity.getBlockPos(), evaporatedFluid);
+            PollutionHelper.pollute(serverLevel, blockEntity.getBlockPos(), "basin", evaporatedFluid);
             evaporatedFluid = FluidStack.EMPTY;
         };
     };
@@ -83,6 +111,7 @@ public class ExtendedBasinBehaviour extends BlockEntityBehaviour {
     @Override
     public void read(CompoundTag nbt, boolean clientPacket) {
         tooFullToReact = nbt.getBoolean("TooFullToReact");
+        computingReaction = nbt.getBoolean("ComputingReaction");
 
         reactionResults = new HashMap<>();
         ListTag results = nbt.getList("Results", Tag.TAG_COMPOUND);
@@ -100,6 +129,7 @@ public class ExtendedBasinBehaviour extends BlockEntityBehaviour {
     @Override
 	public void write(CompoundTag nbt, boolean clientPacket) {
         nbt.putBoolean("TooFullToReact", tooFullToReact);
+        nbt.putBoolean("ComputingReaction", computingReaction);
 
         nbt.put("Results", NBTHelper.writeCompoundList(reactionResults.entrySet().stream().filter(entry -> entry.getKey().getReaction().isPresent()).toList(), entry -> {
             CompoundTag resultTag = new CompoundTag();
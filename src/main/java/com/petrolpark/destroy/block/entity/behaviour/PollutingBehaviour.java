@@ -34,7 +34,7 @@ public class PollutingBehaviour extends BlockEntityBehaviour {
             fluidsToRelease.add(fluidStack);
         };
 
-        PollutionHelper.pollute(getWorld(), getPos(), fluidsToRelease.toArray((i) -> new FluidStack[i]));
+        PollutionHelper.pollute(getWorld(), getPos(), "destroyed_block", fluidsToRelease.toArray((i) -> new FluidStack[i]));
 
         super.destroy();
     };
@@ -27,6 +27,13 @@ public class RedstoneQuantityMonitorBehaviour extends BlockEntityBehaviour {
     public float upperThreshold;
     protected int oldStrength;
 
+    /*
+     * The quantity and thresholds the strength was last worked out from, so it is only worked out again if one changes
+     */
+    protected float lastQuantity = Float.NaN;
+    protected float lastLowerThreshold;
+    protected float lastUpperThreshold;
+
     protected IntConsumer strengthChangeCallback = i -> {};
 
     public RedstoneQuantityMonitorBehaviour(SmartBlockEntity be) {
@@ -61,7 +68,16 @@ public class RedstoneQuantityMonitorBehaviour extends BlockEntityBehaviour {
     @Override
     public void tick() {
         int strength = 0;
-        if (quantityObserved.isPresent()) strength = (int)(Mth.clamp((quantityObserved.get().get() - lowerThreshold) / (upperThreshold - lowerThreshold), 0f, 1f) * 15f);
+        if (quantityObserved.isPresent()) {
+            float quantity = quantityObserved.get().get();
+            if (quantity == lastQuantity && lowerThreshold == lastLowerThreshold && upperThreshold == lastUpperThreshold) return;
+            lastQuantity = quantity;
+            lastLowerThreshold = lowerThreshold;
+            lastUpperThreshold = upperThreshold;
+            strength = (int)(Mth.clamp((quantity - lowerThreshold) / (upperThreshold - lowerThreshold), 0f, 1f) * 15f);
+        } else {
+            lastQuantity = Float.NaN;
+        };
         if (strength != oldStrength) {
             oldStrength = strength;
             update();
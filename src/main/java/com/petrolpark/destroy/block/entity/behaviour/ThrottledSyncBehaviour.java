@@ -0,0 +1,78 @@
+package com.petrolpark.destroy.block.entity.behaviour;
+
+import java.util.function.BooleanSupplier;
+
+import com.petrolpark.destroy.config.DestroyAllConfigs;
+import com.simibubi.create.foundation.blockEntity.SmartBlockEntity;
+import com.simibubi.create.foundation.blockEntity.behaviour.BehaviourType;
+import com.simibubi.create.foundation.blockEntity.behaviour.BlockEntityBehaviour;
+
+/**
+ * Behaviour for Block Entities whose contents change often, so they don't {@link SmartBlockEntity#sendData sync} to clients every tick.
+ * Changes are {@link ThrottledSyncBehaviour#markDirty marked} instead, and the whole Block Entity is sent at most once every
+ * {@link ThrottledSyncBehaviour#getSyncInterval few ticks}. If nothing has been marked, Block Entities with some small
+ * {@link ThrottledSyncBehaviour#withVisualState visual state} (such as a temperature) can send just that, if it has changed enough to be seen.
+ */
+public class ThrottledSyncBehaviour extends BlockEntityBehaviour {
+
+    public static final BehaviourType<ThrottledSyncBehaviour> TYPE = new BehaviourType<>();
+
+    protected boolean dirty;
+    protected int ticksSinceSync;
+
+    protected BooleanSupplier visualStateChanged;
+    protected Runnable visualStateSender;
+
+    public ThrottledSyncBehaviour(SmartBlockEntity be) {
+        super(be);
+        dirty = false;
+        ticksSinceSync = 0;
+        visualStateChanged = () -> false;
+        visualStateSender = () -> {};
+    };
+
+    /**
+     * @param hasChanged Whether the visual state has changed enough since it (or the whole Block Entity) was last sent that clients would notice
+     * @param sender Sends just the visual state to clients
+     */
+    public ThrottledSyncBehaviour withVisualState(BooleanSupplier hasChanged, Runnable sender) {
+        visualStateChanged = hasChanged;
+        visualStateSender = sender;
+        return this;
+    };
+
+    /**
+     * Send the whole Block Entity to clients as soon as the sync interval allows.
+     */
+    public void markDirty() {
+        dirty = true;
+    };
+
+    @Override
+    public void tick() {
+        super.tick();
+        if (getWorld().isClientSide()) return;
+        int interval = getSyncInterval();
+        if (ticksSinceSync < interval) ticksSinceSync++;
+        if (ticksSinceSync < interval) return;
+        if (dirty) {
+            dirty = false;
+            blockEntity.sendData();
+        } else if (visualStateChanged.getAsBoolean()) {
+            visualStateSender.run();
+        } else {
+            return;
+        };
+        ticksSinceSync = 0;
+    };
+
+    public static int getSyncInterval() {
+        return DestroyAllConfigs.SERVER.blocks.blockEntitySyncInterval.get();
+    };
+
+    @Override
+    public BehaviourType<?> getType() {
+        return TYPE;
+    };
+    
+};
@@ -123,12 +123,35 @@ public class VatFluidTankBehaviour extends GeniusFluidTankBehaviour {
         return mixture;
     };
 
+    /**
+     * Replace the contents of both tanks with the given Mixture, split into its liquid and gas phases.
+     * This has the same result as emptying the tanks and {@link VatFluidHandler#fill filling} them with the Mixture, but without
+     * serializing the Mixture and reading it straight back in, or working out the possible Reactions of each phase.
+     * @param mixture This is not modified
+     * @param amount The volume (in mB) of the Mixture
+     */
     public void setMixture(LegacyMixture mixture, int amount) {
-        capability.ifPresent(fluidHandler -> {
-            fluidHandler.drain(vatCapacity, FluidAction.EXECUTE);
-            liquidFull = false;
-            fluidHandler.fill(MixtureFluid.of(amount, mixture), FluidAction.EXECUTE);
-        });
+        Phases phases = mixture.separatePhases(amount, false);
+        liquidFull = false;
+
+        // Liquid
+        double liquidVolume = phases.liquidVolume();
+        if (liquidVolume > vatCapacity - 1) {
+            liquidFull = true;
+            liquidVolume = vatCapacity - 1;
+        };
+        int liquidAmount = (int)(liquidVolume + 0.5d);
+        getLiquidHandler().setFluid(liquidAmount > 0 ? MixtureFluid.of(liquidAmount, phases.liquidMixture(), "") : FluidStack.EMPTY);
+
+        // Gas
+        int freeSpace = vatCapacity - liquidAmount + 1;
+        LegacyMixture gasMixture = phases.gasMixture();
+        if (phases.gasVolume() > 0d && !gasMixture.isEmpty()) {
+            gasMixture.scale((float)(freeSpace / phases.gasVolume())); // Scale it so it takes up all available space not taken up by the liquid
+            getGasHandler().setFluid(MixtureFluid.of(freeSpace, gasMixture));
+        } else {
+            getGasHandler().setFluid(FluidStack.EMPTY);
+        };
     };
 
     /**
@@ -1,12 +1,14 @@
 package com.petrolpark.destroy.capability;
 
 import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.function.Supplier;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import com.petrolpark.destroy.capability.chunk.EnvironmentTemperature;
 import com.petrolpark.destroy.chemistry.legacy.LegacySpeciesTag;
 import com.petrolpark.destroy.chemistry.legacy.index.DestroyMolecules;
 import com.petrolpark.destroy.client.gui.DestroyIcons;
@@ -20,6 +22,7 @@ import com.simibubi.create.foundation.utility.Lang;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.tags.TagKey;
 import net.minecraft.util.Mth;
 import net.minecraft.world.level.material.Fluid;
@@ -158,11 +161,41 @@ public class Pollution {
     public static class Chunk extends Pollution {
 
         private int smogLevelSinceLastRerender;
-
+        /**
+         * The types of Pollution which have changed since clients were last told about this chunk.
+         */
+        private final EnumSet<PollutionType> changedTypes;
 
         public Chunk() {
             super(true);
             smogLevelSinceLastRerender = levels.get(PollutionType.SMOG);
+            changedTypes = EnumSet.noneOf(PollutionType.class);
+        };
+
+        @Override
+        public int set(PollutionType pollutionType, int value) {
+            int oldValue = get(pollutionType);
+            int result = super.set(pollutionType, value);
+            if (result != oldValue) changedTypes.add(pollutionType);
+            return result;
+        };
+
+        /**
+         * Whether any type of Pollution has changed since {@link Chunk#takeChanges} was last called.
+         */
+        public boolean hasChanges() {
+            return !changedTypes.isEmpty();
+        };
+
+        /**
+         * Get the types of Pollution which have changed since this was last called, mapped to their current values.
+         * @see com.petrolpark.destroy.capability.chunk.ChunkPollutionSync Syncing these to clients
+         */
+        public EnumMap<PollutionType, Integer> takeChanges() {
+            EnumMap<PollutionType, Integer> changes = new EnumMap<>(PollutionType.class);
+            for (PollutionType pollutionType : changedTypes) changes.put(pollutionType, levels.get(pollutionType));
+            changedTypes.clear();
+            return changes;
         };
 
         public boolean checkRerender() {
@@ -225,8 +258,10 @@ public class Pollution {
      * @param pos
      * @return Temperature in kelvins
      * @see Pollution#getGlobalTemperature Get the temperature not accounting for the Biome
+     * @see EnvironmentTemperature Where the Biome temperatures in server Levels are remembered
      */
     public static float getLocalTemperature(net.minecraft.world.level.Level level, BlockPos pos) {
+        if (level instanceof ServerLevel serverLevel) return EnvironmentTemperature.get(serverLevel, pos);
         return level.getCapability(CAPABILITY).map(pollution -> {
             return ((Pollution.Level)pollution).getOutdoorTemperature() + (10f * level.getBiome(pos).get().getBaseTemperature());
         }).orElse(289f);
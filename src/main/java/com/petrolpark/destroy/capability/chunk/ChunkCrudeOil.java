@@ -9,11 +9,9 @@ import com.petrolpark.destroy.item.SeismographItem;
 import net.minecraft.core.Direction;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.server.level.ServerLevel;
-import net.minecraft.util.RandomSource;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.chunk.LevelChunk;
-import net.minecraft.world.level.levelgen.synth.PerlinNoise;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.capabilities.CapabilityManager;
 import net.minecraftforge.common.capabilities.CapabilityToken;
@@ -35,12 +33,7 @@ public class ChunkCrudeOil {
      * @param chunkZ
      */
     public static int getTheoreticalOil(ServerLevel level, int chunkX, int chunkZ) {
-        // Get the seeded randomizer for this level
-        RandomSource random = RandomSource.create(level.getSeed() ^ SALT);
-        // Generate the noise value for this Chunk
-        double value = (PerlinNoise.create(random, -2, 1d).getValue(chunkX * 1.5d, chunkZ * 1.5d, 0));
-        // Don't generate any oil if the value is less than a threshold
-        return value < 0.3d ? 0 : (int)(value * 100000d);
+        return CrudeOilField.get(level).getTheoreticalOil(chunkX, chunkZ);
     };
 
     /**
@@ -63,10 +56,7 @@ public class ChunkCrudeOil {
      * @return {@code true} for roughly a quarter of all chunks
      */
     public static boolean randomSeismicActivity(ServerLevel level, int chunkX, int chunkZ) {
-        RandomSource random = RandomSource.create(level.getSeed() ^ SALT ^ chunkX ^ chunkZ);
-        random.nextInt();
-        boolean signal = random.nextInt(4) == 0;
-        return signal;
+        return CrudeOilField.get(level).isRedHerring(chunkX, chunkZ);
     };
 
     private static boolean debug = false;
@@ -84,14 +74,20 @@ public class ChunkCrudeOil {
         boolean[][] redHerring = new boolean[10][3];
         int widthAxis = xNotZ ? chunkZ : chunkX;
         int lengthAxis = xNotZ ? chunkX : chunkZ;
-        for (int width = 0; width < 3; width++) {
-            for (int length = 0; length < 10; length++) {
-                int lengthCoordinate = SeismographItem.mapChunkLowerCorner(lengthAxis) - 1 + length;
-                int widthCoordinate = widthAxis - 1 + width;
-                int x = xNotZ ? lengthCoordinate : widthCoordinate;
-                int z = xNotZ ? widthCoordinate : lengthCoordinate;
-                oil[length][width] = hasOil(level, x, z);
-                redHerring[length][width] = randomSeismicActivity(level, x, z);
+        int minLength = SeismographItem.mapChunkLowerCorner(lengthAxis) - 1;
+        int minWidth = widthAxis - 1;
+        CrudeOilField field = CrudeOilField.get(level);
+        if (xNotZ) {
+            field.getRegion(minLength, minWidth, 10, 3, oil, redHerring);
+        } else { // The region is indexed [x][z], so needs transposing to [length][width]
+            boolean[][] oilColumn = new boolean[3][10];
+            boolean[][] redHerringColumn = new boolean[3][10];
+            field.getRegion(minWidth, minLength, 3, 10, oilColumn, redHerringColumn);
+            for (int width = 0; width < 3; width++) {
+                for (int length = 0; length < 10; length++) {
+                    oil[length][width] = oilColumn[width][length];
+                    redHerring[length][width] = redHerringColumn[width][length];
+                };
             };
         };
         byte signals = 0;
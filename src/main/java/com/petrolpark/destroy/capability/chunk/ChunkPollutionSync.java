@@ -0,0 +1,86 @@
+package com.petrolpark.destroy.capability.chunk;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.petrolpark.destroy.capability.Pollution;
+import com.petrolpark.destroy.capability.Pollution.PollutionType;
+import com.petrolpark.destroy.config.DestroyAllConfigs;
+import com.petrolpark.destroy.network.DestroyMessages;
+import com.petrolpark.destroy.network.packet.SyncChunkPollutionS2CPacket;
+import com.petrolpark.destroy.network.packet.SyncChunkPollutionS2CPacket.ChunkPollutionChange;
+
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.chunk.LevelChunk;
+
+/**
+ * Server-side record of which chunks have had their {@link Pollution.Chunk Pollution} changed, so that only those changes get sent to clients.
+ * Rather than syncing every chunk every tick, the changes are collected and sent every {@link ChunkPollutionSync#getSyncInterval few ticks},
+ * in one {@link SyncChunkPollutionS2CPacket} per Player for all the chunks they can see.
+ * <p>This should only be accessed from the server thread.</p>
+ */
+public class ChunkPollutionSync {
+
+    private static final Map<ResourceKey<Level>, LongSet> DIRTY_CHUNKS = new HashMap<>();
+
+    /**
+     * Let clients know about the Pollution of a chunk next time changes are sent, if any of it has changed.
+     * @param level
+     * @param pos
+     * @param pollution The Pollution of that chunk
+     */
+    public static void markDirty(ServerLevel level, ChunkPos pos, Pollution pollution) {
+        if (!(pollution instanceof Pollution.Chunk chunkPollution) || !chunkPollution.hasChanges()) return;
+        DIRTY_CHUNKS.computeIfAbsent(level.dimension(), d -> new LongOpenHashSet()).add(pos.toLong());
+    };
+
+    /**
+     * Send all changes to chunks in this Level, if it is time to.
+     * @param level
+     */
+    public static void tick(ServerLevel level) {
+        if (level.getGameTime() % getSyncInterval() != 0) return;
+        LongSet dirtyChunks = DIRTY_CHUNKS.get(level.dimension());
+        if (dirtyChunks == null || dirtyChunks.isEmpty()) return;
+
+        Map<ServerPlayer, List<ChunkPollutionChange>> changesToSend = new HashMap<>();
+        for (LongIterator iterator = dirtyChunks.iterator(); iterator.hasNext();) {
+            ChunkPos pos = new ChunkPos(iterator.nextLong());
+            LevelChunk chunk = level.getChunkSource().getChunkNow(pos.x, pos.z);
+            if (chunk == null) continue; // Players who see this chunk when it is next loaded will be sent the whole of it anyway
+            chunk.getCapability(Pollution.CAPABILITY).ifPresent(pollution -> {
+                if (!(pollution instanceof Pollution.Chunk chunkPollution)) return;
+                EnumMap<PollutionType, Integer> changedLevels = chunkPollution.takeChanges();
+                if (changedLevels.isEmpty()) return;
+                ChunkPollutionChange change = new ChunkPollutionChange(pos, changedLevels);
+                for (ServerPlayer player : level.getChunkSource().chunkMap.getPlayers(pos, false)) {
+                    changesToSend.computeIfAbsent(player, p -> new ArrayList<>()).add(change);
+                };
+            });
+        };
+        dirtyChunks.clear();
+
+        changesToSend.forEach((player, changes) -> DestroyMessages.sendToClient(new SyncChunkPollutionS2CPacket(changes), player));
+    };
+
+    /**
+     * Forget all changes in the given Level, for example because it is unloading.
+     */
+    public static void clear(ServerLevel level) {
+        DIRTY_CHUNKS.remove(level.dimension());
+    };
+
+    public static int getSyncInterval() {
+        return DestroyAllConfigs.SERVER.pollution.chunkPollutionSyncInterval.get();
+    };
+};
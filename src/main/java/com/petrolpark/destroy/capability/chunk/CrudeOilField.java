@@ -0,0 +1,121 @@
+package com.petrolpark.destroy.capability.chunk;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.levelgen.synth.PerlinNoise;
+
+/**
+ * The {@link ChunkCrudeOil theoretical} amount of Crude Oil in every chunk of a Level, and whether each chunk shows up as a
+ * {@link ChunkCrudeOil#randomSeismicActivity red herring} when prospecting. The noise is only created once per Level, and the
+ * values for each chunk are remembered, as prospecting asks about the same chunks over and over.
+ * <p>This should only be accessed from the server thread.</p>
+ */
+public class CrudeOilField {
+
+    private static final Map<ResourceKey<Level>, CrudeOilField> FIELDS = new HashMap<>();
+
+    /**
+     * Chunks are forgotten all at once when this many are remembered.
+     */
+    private static final int MAX_CACHED_CHUNKS = 16384;
+
+    /**
+     * Marks a chunk which has not been worked out yet. Real values are never negative.
+     */
+    private static final int UNKNOWN = -1;
+
+    private final long seed;
+    private final PerlinNoise noise;
+
+    /**
+     * Chunk positions mapped to the theoretical Crude Oil in that chunk shifted left by one, with the lowest bit set if it is a red herring.
+     */
+    private final Long2IntOpenHashMap chunks;
+
+    private CrudeOilField(long seed) {
+        this.seed = seed;
+        noise = PerlinNoise.create(RandomSource.create(seed ^ ChunkCrudeOil.SALT), -2, 1d);
+        chunks = new Long2IntOpenHashMap();
+        chunks.defaultReturnValue(UNKNOWN);
+    };
+
+    public static CrudeOilField get(ServerLevel level) {
+        CrudeOilField field = FIELDS.get(level.dimension());
+        if (field == null || field.seed != level.getSeed()) {
+            field = new CrudeOilField(level.getSeed());
+            FIELDS.put(level.dimension(), field);
+        };
+        return field;
+    };
+
+    /**
+     * Forget the field of a Level, for example when it is unloaded.
+     * @param level
+     */
+    public static void clear(ServerLevel level) {
+        FIELDS.remove(level.dimension());
+    };
+
+    /**
+     * @see ChunkCrudeOil#getTheoreticalOil
+     */
+    public int getTheoreticalOil(int chunkX, int chunkZ) {
+        return getChunk(chunkX, chunkZ) >> 1;
+    };
+
+    /**
+     * @see ChunkCrudeOil#randomSeismicActivity
+     */
+    public boolean isRedHerring(int chunkX, int chunkZ) {
+        return (getChunk(chunkX, chunkZ) & 1) != 0;
+    };
+
+    /**
+     * Get whether every chunk in a rectangle has oil and whether it is a red herring, for example for a row or column of a Seismograph.
+     * @param minChunkX
+     * @param minChunkZ
+     * @param sizeX
+     * @param sizeZ
+     * @param oil Filled with whether each chunk (indexed {@code [x][z]}, relative to the minimum) has any oil
+     * @param redHerrings Filled with whether each chunk is a red herring
+     */
+    public void getRegion(int minChunkX, int minChunkZ, int sizeX, int sizeZ, boolean[][] oil, boolean[][] redHerrings) {
+        for (int x = 0; x < sizeX; x++) {
+            for (int z = 0; z < sizeZ; z++) {
+                int chunk = getChunk(minChunkX + x, minChunkZ + z);
+                oil[x][z] = chunk >> 1 > 0;
+                redHerrings[x][z] = (chunk & 1) != 0;
+            };
+        };
+    };
+
+    private int getChunk(int chunkX, int chunkZ) {
+        long pos = ChunkPos.asLong(chunkX, chunkZ);
+        int chunk = chunks.get(pos);
+        if (chunk == UNKNOWN) {
+            if (chunks.size() >= MAX_CACHED_CHUNKS) chunks.clear();
+            chunk = (computeTheoreticalOil(chunkX, chunkZ) << 1) | (computeRedHerring(chunkX, chunkZ) ? 1 : 0);
+            chunks.put(pos, chunk);
+        };
+        return chunk;
+    };
+
+    private int computeTheoreticalOil(int chunkX, int chunkZ) {
+        double value = noise.getValue(chunkX * 1.5d, chunkZ * 1.5d, 0);
+        // Don't generate any oil if the value is less than a threshold
+        return value < 0.3d ? 0 : (int)(value * 100000d);
+    };
+
+    private boolean computeRedHerring(int chunkX, int chunkZ) {
+        RandomSource random = RandomSource.create(seed ^ ChunkCrudeOil.SALT ^ chunkX ^ chunkZ);
+        random.nextInt();
+        return random.nextInt(4) == 0;
+    };
+};
@@ -0,0 +1,98 @@
+package com.petrolpark.destroy.capability.chunk;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.petrolpark.destroy.capability.Pollution;
+
+import it.unimi.dsi.fastutil.longs.Long2FloatOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+
+/**
+ * Remembers the part of the {@link Pollution#getLocalTemperature outdoor temperature} which comes from the Biome at each position asked about,
+ * grouped by chunk. Vats, Distillation Towers and Basins ask about the same position every tick, and looking up the Biome each time is
+ * much more expensive than the rest of the calculation. The part which comes from Pollution is not remembered, as it is already
+ * {@link Pollution.Level#getOutdoorTemperature kept up to date} whenever the Pollution changes.
+ * <p>The Biome temperatures of a chunk are forgotten when it is {@link EnvironmentTemperature#forgetChunk unloaded}, and every
+ * {@link EnvironmentTemperature#BIOME_EXPIRY_TICKS minute} in case the Biomes have been changed with a command.</p>
+ * <p>This should only be accessed from the server thread.</p>
+ */
+public class EnvironmentTemperature {
+
+    /**
+     * How long the Biome temperatures of a chunk are remembered for.
+     */
+    public static final long BIOME_EXPIRY_TICKS = 1200l;
+
+    private static final Map<ResourceKey<Level>, Long2ObjectOpenHashMap<ChunkBiomeTemperatures>> CHUNKS = new HashMap<>();
+
+    /**
+     * Get the outdoor temperature at the given position, accounting for the change in temperature due to Pollution and the natural heat of the Biome.
+     * @param level
+     * @param pos
+     * @return Temperature in kelvins
+     */
+    public static float get(ServerLevel level, BlockPos pos) {
+        return level.getCapability(Pollution.CAPABILITY).map(pollution -> {
+            return ((Pollution.Level)pollution).getOutdoorTemperature() + getBiomeTemperature(level, pos);
+        }).orElse(289f);
+    };
+
+    private static float getBiomeTemperature(ServerLevel level, BlockPos pos) {
+        long chunkPos = ChunkPos.asLong(SectionPos.blockToSectionCoord(pos.getX()), SectionPos.blockToSectionCoord(pos.getZ()));
+        Long2ObjectOpenHashMap<ChunkBiomeTemperatures> chunks = CHUNKS.computeIfAbsent(level.dimension(), d -> new Long2ObjectOpenHashMap<>());
+        ChunkBiomeTemperatures chunk = chunks.get(chunkPos);
+        if (chunk == null) {
+            chunk = new ChunkBiomeTemperatures();
+            chunks.put(chunkPos, chunk);
+        };
+        long gameTime = level.getGameTime();
+        if (gameTime >= chunk.expiryTime) {
+            chunk.temperatures.clear();
+            chunk.expiryTime = gameTime + BIOME_EXPIRY_TICKS;
+        };
+        long blockPos = pos.asLong();
+        float temperature = chunk.temperatures.get(blockPos);
+        if (Float.isNaN(temperature)) {
+            temperature = 10f * level.getBiome(pos).get().getBaseTemperature();
+            chunk.temperatures.put(blockPos, temperature);
+        };
+        return temperature;
+    };
+
+    /**
+     * Forget the Biome temperatures in a chunk, for example because it is unloading.
+     * @param level
+     * @param pos
+     */
+    public static void forgetChunk(ServerLevel level, ChunkPos pos) {
+        Long2ObjectOpenHashMap<ChunkBiomeTemperatures> chunks = CHUNKS.get(level.dimension());
+        if (chunks != null) chunks.remove(pos.toLong());
+    };
+
+    /**
+     * Forget all Biome temperatures in a Level, for example because it is unloading.
+     * @param level
+     */
+    public static void clear(ServerLevel level) {
+        CHUNKS.remove(level.dimension());
+    };
+
+    private static class ChunkBiomeTemperatures {
+
+        private final Long2FloatOpenHashMap temperatures;
+        private long expiryTime;
+
+        private ChunkBiomeTemperatures() {
+            temperatures = new Long2FloatOpenHashMap();
+            temperatures.defaultReturnValue(Float.NaN);
+            expiryTime = 0l;
+        };
+    };
+};
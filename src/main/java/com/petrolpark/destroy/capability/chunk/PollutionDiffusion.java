@@ -0,0 +1,265 @@
+package com.petrolpark.destroy.capability.chunk;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import com.petrolpark.destroy.capability.Pollution;
+import com.petrolpark.destroy.capability.Pollution.PollutionType;
+import com.petrolpark.destroy.config.DestroyAllConfigs;
+import com.petrolpark.destroy.util.PollutionHelper;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.chunk.LevelChunk;
+
+/**
+ * An alternative to {@link com.petrolpark.destroy.mixin.ServerLevelMixin spreading} {@link PollutionType#local local} Pollution by random
+ * transfers between pairs of chunks every tick. Every {@link com.petrolpark.destroy.config.DestroyPollutionConfigs#pollutionDiffusionInterval few ticks}, the Pollution of all
+ * chunks which have been ticking is copied into dense grids covering 32x32-chunk regions, one diffusion and decay step is worked out for every
+ * chunk at once (in parallel if there are many regions), and the results are written back to each chunk's {@link Pollution.Chunk Pollution}.
+ * <p>The amount which moves between two chunks is the expected amount which would have moved with random spreading, so this is deterministic.
+ * Fractions of a point of Pollution are remembered between steps. If anything else changes the Pollution of a chunk, the change is added on
+ * to the remembered value, so the fractions aren't lost and the diffusion stays conservative. Regions with no
+ * ticking chunks are forgotten, so memory only grows with the number of loaded chunks.</p>
+ * <p>This should only be accessed from the server thread.</p>
+ */
+public class PollutionDiffusion {
+
+    private static final PollutionType[] LOCAL_POLLUTION_TYPES = Stream.of(PollutionType.values()).filter(p -> p.local).toArray(PollutionType[]::new);
+
+    private static final int REGION_SIZE_BITS = 5;
+    private static final int REGION_SIZE = 1 << REGION_SIZE_BITS;
+    private static final int REGION_MASK = REGION_SIZE - 1;
+
+    /**
+     * The most of its Pollution a chunk can give to each neighbour in one step, above which the diffusion would overshoot and oscillate.
+     */
+    private static final float MAX_DIFFUSION_COEFFICIENT = 0.25f;
+
+    private static final Map<ResourceKey<Level>, PollutionDiffusion> FIELDS = new HashMap<>();
+
+    /**
+     * Chunks which have ticked since the last step.
+     */
+    private final LongSet tickingChunks = new LongOpenHashSet();
+    private Long2ObjectMap<Region> regions = new Long2ObjectOpenHashMap<>();
+
+    public static boolean enabled() {
+        return PollutionHelper.pollutionEnabled() && DestroyAllConfigs.SERVER.pollution.pollutionDiffusion.get();
+    };
+
+    /**
+     * Include a chunk in the next step. This should be called whenever a chunk ticks.
+     * @param level
+     * @param pos
+     */
+    public static void markTicking(ServerLevel level, ChunkPos pos) {
+        FIELDS.computeIfAbsent(level.dimension(), d -> new PollutionDiffusion()).tickingChunks.add(pos.toLong());
+    };
+
+    /**
+     * Diffuse and decrease the local Pollution of all chunks which have ticked since the last step, if it is time to.
+     * This should be called at the end of every tick.
+     * @param level
+     */
+    public static void tick(ServerLevel level) {
+        PollutionDiffusion field = FIELDS.get(level.dimension());
+        if (field == null) return;
+        if (!enabled()) {
+            FIELDS.remove(level.dimension());
+            return;
+        };
+        int interval = DestroyAllConfigs.SERVER.pollution.pollutionDiffusionInterval.get();
+        if (level.getGameTime() % interval != 0) return;
+        field.step(level, interval);
+    };
+
+    /**
+     * Forget the grids of a Level, for example when it is unloaded.
+     * @param level
+     */
+    public static void clear(ServerLevel level) {
+        FIELDS.remove(level.dimension());
+    };
+
+    private void step(ServerLevel level, int ticks) {
+        if (tickingChunks.isEmpty()) {
+            regions.clear();
+            return;
+        };
+
+        // Work out the regions, keeping the grids of those which are still loaded so that fractions of Pollution are remembered
+        Long2ObjectMap<Region> newRegions = new Long2ObjectOpenHashMap<>();
+        for (LongIterator iterator = tickingChunks.iterator(); iterator.hasNext();) {
+            long pos = iterator.nextLong();
+            int chunkX = ChunkPos.getX(pos);
+            int chunkZ = ChunkPos.getZ(pos);
+            long regionPos = ChunkPos.asLong(chunkX >> REGION_SIZE_BITS, chunkZ >> REGION_SIZE_BITS);
+            Region region = newRegions.get(regionPos);
+            if (region == null) {
+                region = regions.get(regionPos);
+                if (region == null) region = new Region(chunkX >> REGION_SIZE_BITS, chunkZ >> REGION_SIZE_BITS);
+                newRegions.put(regionPos, region);
+            };
+            LevelChunk chunk = level.getChunkSource().getChunkNow(chunkX, chunkZ);
+            if (chunk != null) region.gather(chunk);
+        };
+        tickingChunks.clear();
+        regions = newRegions;
+        for (Region region : regions.values()) region.findNeighbours(regions);
+
+        // Work out the diffusion coefficient and decrease for each type of Pollution over the number of ticks since the last step
+        float[] diffusionCoefficients = new float[LOCAL_POLLUTION_TYPES.length];
+        float[] decreases = new float[LOCAL_POLLUTION_TYPES.length];
+        for (int t = 0; t < LOCAL_POLLUTION_TYPES.length; t++) {
+            PollutionType pollutionType = LOCAL_POLLUTION_TYPES[t];
+            // Random spreading has this chance each tick of moving this proportion of half the difference across each chunk boundary
+            diffusionCoefficients[t] = Math.min(MAX_DIFFUSION_COEFFICIENT, ticks * 0.5f
+                * DestroyAllConfigs.SERVER.pollution.pollutionSpreadingRates.get(pollutionType).getF()
+                * DestroyAllConfigs.SERVER.pollution.pollutionSpreadingAmounts.get(pollutionType).getF()
+            );
+            decreases[t] = ticks * DestroyAllConfigs.SERVER.pollution.pollutionDecreaseRates.get(pollutionType).getF();
+        };
+
+        // Step every region, reading only from the current grids so regions can be done in any order
+        Region[] regionArray = regions.values().toArray(Region[]::new);
+        int parallelRegions = DestroyAllConfigs.SERVER.pollution.pollutionDiffusionParallelRegions.get();
+        IntStream indices = IntStream.range(0, regionArray.length);
+        if (parallelRegions > 0 && regionArray.length >= parallelRegions) indices = indices.parallel();
+        indices.forEach(i -> regionArray[i].diffuse(diffusionCoefficients, decreases));
+
+        // Write the results back to the chunks
+        for (Region region : regionArray) region.apply(level);
+    };
+
+    private static class Region {
+
+        private static final int[][] NEIGHBOUR_OFFSETS = new int[][]{{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
+
+        private final int regionX;
+        private final int regionZ;
+
+        /**
+         * The Pollution of each chunk, indexed by type and then by {@code (z << 5) | x} relative to the corner of this region.
+         */
+        private float[][] values = new float[LOCAL_POLLUTION_TYPES.length][REGION_SIZE * REGION_SIZE];
+        private float[][] nextValues = new float[LOCAL_POLLUTION_TYPES.length][REGION_SIZE * REGION_SIZE];
+        /**
+         * The whole value each chunk's Pollution was last set to by this, so that changes made by anything else are noticed.
+         */
+        private final int[][] writtenValues = new int[LOCAL_POLLUTION_TYPES.length][REGION_SIZE * REGION_SIZE];
+        /**
+         * The chunks which ticked since the last step. These are only held onto during a step.
+         */
+        private final LevelChunk[] chunks = new LevelChunk[REGION_SIZE * REGION_SIZE];
+        /**
+         * The regions to the -X, +X, -Z and +Z of this one, or {@code null} if none of their chunks are ticking.
+         */
+        private final Region[] neighbours = new Region[4];
+
+        private Region(int regionX, int regionZ) {
+            this.regionX = regionX;
+            this.regionZ = regionZ;
+            for (int[] written : writtenValues) Arrays.fill(written, -1);
+        };
+
+        private void gather(LevelChunk chunk) {
+            int index = index(chunk.getPos().x & REGION_MASK, chunk.getPos().z & REGION_MASK);
+            chunk.getCapability(Pollution.CAPABILITY).ifPresent(pollution -> {
+                chunks[index] = chunk;
+                for (int t = 0; t < LOCAL_POLLUTION_TYPES.length; t++) {
+                    int value = pollution.get(LOCAL_POLLUTION_TYPES[t]);
+                    int written = writtenValues[t][index];
+                    if (written < 0) { // This chunk hasn't been stepped before, or has been re-read since
+                        values[t][index] = value;
+                    } else if (value != written) { // Something else has changed this chunk, so apply the same change while keeping the fraction
+                        values[t][index] = Math.max(0f, values[t][index] + value - written);
+                    };
+                };
+            });
+        };
+
+        private void findNeighbours(Long2ObjectMap<Region> regions) {
+            for (int n = 0; n < 4; n++) neighbours[n] = regions.get(ChunkPos.asLong(regionX + NEIGHBOUR_OFFSETS[n][0], regionZ + NEIGHBOUR_OFFSETS[n][1]));
+        };
+
+        private void diffuse(float[] diffusionCoefficients, float[] decreases) {
+            for (int z = 0; z < REGION_SIZE; z++) {
+                for (int x = 0; x < REGION_SIZE; x++) {
+                    int index = index(x, z);
+                    if (chunks[index] == null) continue;
+                    for (int t = 0; t < LOCAL_POLLUTION_TYPES.length; t++) {
+                        float value = values[t][index];
+                        float flux = 0f;
+                        for (int n = 0; n < 4; n++) {
+                            float neighbourValue = getNeighbourValue(t, x + NEIGHBOUR_OFFSETS[n][0], z + NEIGHBOUR_OFFSETS[n][1]);
+                            if (!Float.isNaN(neighbourValue)) flux += neighbourValue - value;
+                        };
+                        nextValues[t][index] = Math.max(0f, Math.min(LOCAL_POLLUTION_TYPES[t].max, value + diffusionCoefficients[t] * flux - decreases[t]));
+                    };
+                };
+            };
+        };
+
+        /**
+         * @return The current Pollution of a chunk, which may be in a neighbouring region, or {@code NaN} if it is not ticking (and so nothing moves to or from it)
+         */
+        private float getNeighbourValue(int t, int x, int z) {
+            Region region = this;
+            if (x < 0) {
+                region = neighbours[0];
+                x += REGION_SIZE;
+            } else if (x >= REGION_SIZE) {
+                region = neighbours[1];
+                x -= REGION_SIZE;
+            } else if (z < 0) {
+                region = neighbours[2];
+                z += REGION_SIZE;
+            } else if (z >= REGION_SIZE) {
+                region = neighbours[3];
+                z -= REGION_SIZE;
+            };
+            if (region == null) return Float.NaN;
+            int index = index(x, z);
+            if (region.chunks[index] == null) return Float.NaN;
+            return region.values[t][index];
+        };
+
+        private void apply(ServerLevel level) {
+            float[][] oldValues = values;
+            values = nextValues;
+            nextValues = oldValues;
+            for (int index = 0; index < chunks.length; index++) {
+                LevelChunk chunk = chunks[index];
+                if (chunk == null) {
+                    for (int[] written : writtenValues) written[index] = -1; // Re-read chunks which weren't ticking this step, if they ever tick again
+                    continue;
+                };
+                chunks[index] = null;
+                final int i = index;
+                chunk.getCapability(Pollution.CAPABILITY).ifPresent(pollution -> {
+                    for (int t = 0; t < LOCAL_POLLUTION_TYPES.length; t++) {
+                        int value = Math.round(values[t][i]);
+                        pollution.set(LOCAL_POLLUTION_TYPES[t], value);
+                        writtenValues[t][i] = value;
+                    };
+                    ChunkPollutionSync.markDirty(level, chunk.getPos(), pollution);
+                });
+            };
+        };
+
+        private static int index(int x, int z) {
+            return (z << REGION_SIZE_BITS) | x;
+        };
+    };
+};
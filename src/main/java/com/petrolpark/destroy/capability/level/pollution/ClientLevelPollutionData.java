@@ -3,8 +3,6 @@ package com.petrolpark.destroy.capability.level.pollution;
 import com.petrolpark.destroy.capability.Pollution;
 import com.petrolpark.destroy.capability.Pollution.PollutionType;
 
-import net.minecraft.client.Minecraft;
-import net.minecraft.client.renderer.chunk.ChunkRenderDispatcher.RenderChunk;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
 
@@ -18,8 +16,7 @@ public class ClientLevelPollutionData {
     public static void setLevelPollution(Pollution levelPollution) {
         ClientLevelPollutionData.levelPollution = levelPollution;
         if (lastRenderedSmogLevel == null || Math.abs(lastRenderedSmogLevel - levelPollution.get(PollutionType.SMOG)) >= 1000) {
-            Minecraft mc = Minecraft.getInstance();
-            for (RenderChunk chunk : mc.levelRenderer.viewArea.chunks) chunk.setDirty(false); // Re-render all chunks
+            SmogRerenderer.queueRerenderAll();
             lastRenderedSmogLevel = levelPollution.get(PollutionType.SMOG);
         };
     };
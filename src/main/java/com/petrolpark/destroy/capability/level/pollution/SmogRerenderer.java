@@ -0,0 +1,84 @@
+package com.petrolpark.destroy.capability.level.pollution;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Queue;
+
+import com.petrolpark.destroy.config.DestroyAllConfigs;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.client.renderer.chunk.ChunkRenderDispatcher.RenderChunk;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+
+/**
+ * Re-renders the parts of the world whose colors depend on the {@link com.petrolpark.destroy.capability.Pollution.PollutionType#SMOG smog} level.
+ * Smog in one chunk only tints blocks within the biome blend radius of it, so only those sections are re-rendered. Changes in global smog
+ * re-render everything, but this is spread over several frames.
+ */
+@OnlyIn(Dist.CLIENT)
+public class SmogRerenderer {
+
+    private static final Queue<RenderChunk> queuedRenderChunks = new ArrayDeque<>();
+
+    /**
+     * Re-render every section which contains a block whose {@link com.petrolpark.destroy.block.color.SmogAffectedBlockColor color} might
+     * depend on the smog in the given chunk, and forget the cached colors for those chunks.
+     * @param pos
+     */
+    public static void rerenderAround(ChunkPos pos) {
+        Minecraft mc = Minecraft.getInstance();
+        ClientLevel level = mc.level;
+        if (level == null) return;
+        int blendRadius = mc.options.biomeBlendRadius().get();
+        int minX = SectionPos.blockToSectionCoord(pos.getMinBlockX() - blendRadius);
+        int maxX = SectionPos.blockToSectionCoord(pos.getMaxBlockX() + blendRadius);
+        int minZ = SectionPos.blockToSectionCoord(pos.getMinBlockZ() - blendRadius);
+        int maxZ = SectionPos.blockToSectionCoord(pos.getMaxBlockZ() + blendRadius);
+        for (int x = minX; x <= maxX; x++) {
+            for (int z = minZ; z <= maxZ; z++) {
+                ((SmogTintCaches)level).invalidateSmogTints(x, z);
+                for (int y = level.getMinSection(); y < level.getMaxSection(); y++) mc.levelRenderer.setSectionDirty(x, y, z);
+            };
+        };
+    };
+
+    /**
+     * Re-render every section in view, closest to the camera first. Only {@link DestroyAllConfigs#CLIENT the configured} number are re-rendered each frame.
+     */
+    public static void queueRerenderAll() {
+        Minecraft mc = Minecraft.getInstance();
+        if (mc.level == null || mc.levelRenderer.viewArea == null) return;
+        BlockPos cameraPos = mc.gameRenderer.getMainCamera().getBlockPosition();
+        RenderChunk[] renderChunks = Arrays.copyOf(mc.levelRenderer.viewArea.chunks, mc.levelRenderer.viewArea.chunks.length);
+        Arrays.sort(renderChunks, Comparator.comparingDouble(renderChunk -> renderChunk.getOrigin().distSqr(cameraPos)));
+        queuedRenderChunks.clear();
+        queuedRenderChunks.addAll(Arrays.asList(renderChunks));
+    };
+
+    /**
+     * Re-render the next few queued sections. This should be called once per frame.
+     */
+    public static void renderTick() {
+        if (queuedRenderChunks.isEmpty()) return;
+        if (Minecraft.getInstance().level == null) {
+            queuedRenderChunks.clear();
+            return;
+        };
+        int budget = DestroyAllConfigs.CLIENT.smogRerenderSectionsPerFrame.get();
+        for (int i = 0; i < budget && !queuedRenderChunks.isEmpty(); i++) queuedRenderChunks.poll().setDirty(false);
+    };
+
+    /**
+     * Implemented by {@link ClientLevel} so that the cached colors of smog-affected blocks can be forgotten one chunk at a time.
+     */
+    public static interface SmogTintCaches {
+
+        public void invalidateSmogTints(int chunkX, int chunkZ);
+    };
+};
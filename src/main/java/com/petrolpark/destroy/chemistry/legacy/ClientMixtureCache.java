@@ -0,0 +1,68 @@
+package com.petrolpark.destroy.chemistry.legacy;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.petrolpark.destroy.config.DestroyAllConfigs;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.server.packs.resources.ResourceManager;
+import net.minecraft.server.packs.resources.ResourceManagerReloadListener;
+
+/**
+ * Remembers the {@link ClientMixture}s decoded from Mixture Compound Tags, so that rendering the name, color and contents of the same
+ * Fluid Stack every frame does not mean reading every Molecule and working out the name again.
+ * <p>Tags are compared by their contents, as the Fluid Stacks of items are {@link com.petrolpark.destroy.item.IMixtureStorageItem drained} afresh (with a
+ * copied tag) every time they are rendered. A copy of each tag is remembered, so changing the original doesn't affect this. Mixture tags are
+ * {@link PackedMixtureContents packed}, so comparing them is cheap. The least recently used Mixtures are forgotten first. The decoded Mixtures are shared,
+ * so should not be modified.</p>
+ */
+public class ClientMixtureCache {
+
+    public static final int MAX_CACHED_MIXTURES = 256;
+
+    public static final Listener RELOAD_LISTENER = new Listener();
+
+    private static final Cache<CompoundTag, ClientMixture> MIXTURES = CacheBuilder.newBuilder()
+        .maximumSize(MAX_CACHED_MIXTURES)
+        .build();
+
+    /**
+     * Whether the cached names use IUPAC names, so they can be worked out again if the config changes.
+     */
+    private static boolean iupac = true;
+
+    /**
+     * Get the Mixture stored in the given tag.
+     * @param compound A tag {@link ReadOnlyMixture#writeNBT written} by a Mixture
+     * @return A shared Mixture which should not be modified
+     */
+    public static ClientMixture get(CompoundTag compound) {
+        if (compound == null) return ReadOnlyMixture.readNBT(ClientMixture::new, compound);
+        boolean iupacNames = DestroyAllConfigs.CLIENT.chemistry.iupacNames.get();
+        if (iupacNames != iupac) {
+            iupac = iupacNames;
+            clear();
+        };
+        ClientMixture mixture = MIXTURES.getIfPresent(compound);
+        if (mixture == null) {
+            mixture = ReadOnlyMixture.readNBT(ClientMixture::new, compound);
+            MIXTURES.put(compound.copy(), mixture);
+        };
+        return mixture;
+    };
+
+    public static void clear() {
+        MIXTURES.invalidateAll();
+    };
+
+    /**
+     * Forgets every decoded Mixture when resources are reloaded, as the language (and so the names) might have changed.
+     */
+    public static class Listener implements ResourceManagerReloadListener {
+
+        @Override
+        public void onResourceManagerReload(ResourceManager resourceManager) {
+            clear();
+        };
+    };
+};
@@ -0,0 +1,372 @@
+package com.petrolpark.destroy.chemistry.legacy;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.function.Function;
+
+import com.petrolpark.destroy.chemistry.legacy.LegacyMixture.ReactionContext;
+
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import it.unimi.dsi.fastutil.ints.IntComparator;
+import net.minecraft.world.item.ItemStack;
+
+/**
+ * The {@link LegacyMixture#possibleReactions possible Reactions} of a {@link LegacyMixture} flattened into primitive arrays, so that
+ * {@link LegacyMixture#reactForTick reacting} does not need to walk the reactant, product and order {@code Map}s of every {@link LegacyReaction}
+ * or allocate anything each cycle.
+ * <p>Each Reaction is a row. The reactants, products and rate-determining {@link LegacySpecies Molecules} of row {@code r} are the terms from
+ * {@code start[r]} (inclusive) to {@code start[r + 1]} (exclusive) of the corresponding term arrays - together these form a sparse stoichiometry matrix.
+ * Terms refer to Molecules by their slot in the Mixture's {@link SpeciesIndex}.</p>
+ * <p>The rows are {@link CompiledReactionNetwork#compile compiled} when the possible Reactions change. When Molecules are only added or removed, the
+ * existing rows are just {@link CompiledReactionNetwork#link relinked} to the new slots.</p>
+ */
+public class CompiledReactionNetwork {
+
+    private int reactionCount;
+    private LegacyReaction[] reactions;
+
+    // Per-Reaction columns
+
+    private float[] preexponentialFactors;
+    /**
+     * The activation energy of each Reaction divided by the gas constant, in kelvins, so the rate constant is {@code A * exp(-this / T)}.
+     */
+    private float[] activationTemperatures;
+    private float[] enthalpyChanges;
+    private boolean[] needsUV;
+    /**
+     * Whether each Reaction consumes Items, and so should only happen when {@link LegacyMixture#dissolveItems dissolving}.
+     */
+    private boolean[] consumesItem;
+    /**
+     * Whether each Reaction has its Item catalysts available in the current {@link ReactionContext}.
+     */
+    private boolean[] available;
+
+    // Terms
+
+    private final Terms orders;
+    private final Terms reactants;
+    private final Terms products;
+
+    // Scratch space reused every cycle
+
+    private float[] rateConstants;
+    private float rateConstantTemperature;
+    private float[] rates;
+    private int[] orderedReactions;
+    private final IntComparator byRate;
+
+    /**
+     * The {@link SpeciesIndex#getStructureVersion structure version} of the Species Index to which the terms were last linked.
+     */
+    private int linkedStructureVersion;
+    private SpeciesIndex linkedIndex;
+
+    public CompiledReactionNetwork() {
+        orders = new Terms();
+        reactants = new Terms();
+        products = new Terms();
+        byRate = (r1, r2) -> {
+            int comparison = Float.compare(rates[r1], rates[r2]);
+            return comparison == 0 ? Integer.compare(r1, r2) : comparison;
+        };
+        allocate(0);
+    };
+
+    private void allocate(int capacity) {
+        reactions = new LegacyReaction[capacity];
+        preexponentialFactors = new float[capacity];
+        activationTemperatures = new float[capacity];
+        enthalpyChanges = new float[capacity];
+        needsUV = new boolean[capacity];
+        consumesItem = new boolean[capacity];
+        available = new boolean[capacity];
+        rateConstants = new float[capacity];
+        rates = new float[capacity];
+        orderedReactions = new int[capacity];
+    };
+
+    /**
+     * Flatten the given Reactions into this network, replacing any which were there before.
+     * @param possibleReactions
+     */
+    public void compile(Collection<LegacyReaction> possibleReactions) {
+        reactionCount = possibleReactions.size();
+        if (reactions.length < reactionCount) allocate(reactionCount);
+        orders.clear();
+        reactants.clear();
+        products.clear();
+
+        int r = 0;
+        for (LegacyReaction reaction : possibleReactions) {
+            reactions[r] = reaction;
+            preexponentialFactors[r] = reaction.getPreexponentialFactor();
+            activationTemperatures[r] = reaction.getActivationEnergy() * 1000f / LegacyReaction.GAS_CONSTANT;
+            enthalpyChanges[r] = reaction.getEnthalpyChange();
+            needsUV[r] = reaction.needsUV();
+            consumesItem[r] = reaction.consumesItem();
+            available[r] = reaction.getItemReactants().isEmpty();
+            orders.addRow(reaction.getOrders());
+            reactants.addRow(reaction.getReactants(), reaction::getReactantMolarRatio);
+            products.addRow(reaction.getProducts(), reaction::getProductMolarRatio);
+            r++;
+        };
+        Arrays.fill(reactions, reactionCount, reactions.length, null);
+
+        rateConstantTemperature = Float.NaN;
+        linkedIndex = null; // Force the new terms to be linked
+    };
+
+    /**
+     * Make sure every term refers to the current slot of its {@link LegacySpecies Molecule}. This is cheap if no Molecules have been added or removed.
+     * @param index
+     */
+    public void link(SpeciesIndex index) {
+        if (linkedIndex == index && linkedStructureVersion == index.getStructureVersion()) return;
+        orders.link(index);
+        reactants.link(index);
+        products.link(index);
+        linkedIndex = index;
+        linkedStructureVersion = index.getStructureVersion();
+    };
+
+    /**
+     * Work out which Reactions have the Item Stacks they need as catalysts. This only needs doing once per {@link ReactionContext}.
+     * @param context
+     */
+    public void updateAvailability(ReactionContext context) {
+        for (int r = 0; r < reactionCount; r++) {
+            available[r] = true;
+            for (IItemReactant itemReactant : reactions[r].getItemReactants()) {
+                boolean validStackFound = false;
+                for (ItemStack stack : context.availableItemStacks) {
+                    if (itemReactant.isItemValid(stack)) {
+                        validStackFound = true;
+                        break;
+                    };
+                };
+                if (!validStackFound) {
+                    available[r] = false;
+                    break;
+                };
+            };
+        };
+    };
+
+    /**
+     * Calculate the moles of every available Reaction which would occur in one sub-tick, and order them slowest first.
+     * @param index The Species Index to which this network is {@link CompiledReactionNetwork#link linked}
+     * @param temperature
+     * @param UVPower
+     * @param cycles The number of sub-ticks into which the tick is divided
+     * @param ticksPerSecond
+     * @return The number of Reactions which can be got with {@link CompiledReactionNetwork#getOrderedReaction}
+     */
+    public int calculateRates(SpeciesIndex index, float temperature, float UVPower, int cycles, int ticksPerSecond) {
+        updateRateConstants(temperature);
+
+        int count = 0;
+        for (int r = 0; r < reactionCount; r++) {
+            if (!canReact(r)) continue;
+            float rate = rateConstants[r] / (float)ticksPerSecond;
+            for (int term = orders.start[r]; term < orders.start[r + 1]; term++) {
+                rate *= power(orders.slot[term] < 0 ? 0f : index.getConcentration(orders.slot[term]), orders.coefficient[term]);
+            };
+            if (needsUV[r]) rate *= UVPower;
+            rates[r] = rate / cycles;
+            orderedReactions[count++] = r;
+        };
+        IntArrays.quickSort(orderedReactions, 0, count, byRate);
+        return count;
+    };
+
+    /**
+     * Recalculate the {@link CompiledReactionNetwork#getRateConstant rate constant} of every Reaction, if the temperature has changed since they were last calculated.
+     * @param temperature
+     */
+    public void updateRateConstants(float temperature) {
+        if (temperature == rateConstantTemperature) return;
+        for (int r = 0; r < reactionCount; r++) {
+            rateConstants[r] = preexponentialFactors[r] * (float)Math.exp(-activationTemperatures[r] / temperature);
+        };
+        rateConstantTemperature = temperature;
+    };
+
+    /**
+     * The rate constant of this Reaction, as calculated in the last call to {@link CompiledReactionNetwork#updateRateConstants}.
+     * @param r The row of the Reaction
+     */
+    public float getRateConstant(int r) {
+        return rateConstants[r];
+    };
+
+    /**
+     * Whether this Reaction can happen outside of {@link LegacyMixture#dissolveItems dissolving} - that is, it does not consume Items
+     * and has all its Item catalysts {@link CompiledReactionNetwork#updateAvailability available}.
+     * @param r The row of the Reaction
+     */
+    public boolean canReact(int r) {
+        return !consumesItem[r] && available[r];
+    };
+
+    public boolean needsUV(int r) {
+        return needsUV[r];
+    };
+
+    /**
+     * Get the moles (per Bucket) of this Reaction which can actually occur, given the concentrations of its reactants.
+     * @param r The row of the Reaction
+     * @param molesOfReaction The moles per Bucket which would occur if there were no limiting reagent
+     * @param index
+     */
+    public float limitByReactants(int r, float molesOfReaction, SpeciesIndex index) {
+        for (int term = reactants.start[r]; term < reactants.start[r + 1]; term++) {
+            int ratio = reactants.coefficient[term];
+            float reactantConcentration = reactants.slot[term] < 0 ? 0f : index.getConcentration(reactants.slot[term]);
+            if (reactantConcentration < ratio * molesOfReaction) molesOfReaction = reactantConcentration / (float)ratio;
+        };
+        return molesOfReaction;
+    };
+
+    private static float power(float concentration, int order) {
+        switch (order) {
+            case 0: return 1f;
+            case 1: return concentration;
+            case 2: return concentration * concentration;
+            default: return (float)Math.pow(concentration, order);
+        }
+    };
+
+    /**
+     * The row of the {@code i}th slowest Reaction, as calculated in the last call to {@link CompiledReactionNetwork#calculateRates}.
+     */
+    public int getOrderedReaction(int i) {
+        return orderedReactions[i];
+    };
+
+    /**
+     * The moles per Bucket of Reaction in one sub-tick, as calculated in the last call to {@link CompiledReactionNetwork#calculateRates}.
+     * @param r The row of the Reaction
+     */
+    public float getRate(int r) {
+        return rates[r];
+    };
+
+    public LegacyReaction getReaction(int r) {
+        return reactions[r];
+    };
+
+    public float getEnthalpyChange(int r) {
+        return enthalpyChanges[r];
+    };
+
+    public int size() {
+        return reactionCount;
+    };
+
+    public Terms getOrders() {
+        return orders;
+    };
+
+    public Terms getReactants() {
+        return reactants;
+    };
+
+    public Terms getProducts() {
+        return products;
+    };
+
+    /**
+     * One kind of term (reactants, products or orders) of every Reaction in the network, stored row by row.
+     */
+    public static class Terms {
+
+        /**
+         * The index of the first term of each row. There is one more of these than there are rows.
+         */
+        private int[] start;
+        private int rows;
+        private int size;
+
+        private LegacySpecies[] species;
+        private int[] slot;
+        /**
+         * The stoichometric ratio or order of each term.
+         */
+        private int[] coefficient;
+
+        private Terms() {
+            start = new int[1];
+            species = new LegacySpecies[0];
+            slot = new int[0];
+            coefficient = new int[0];
+            clear();
+        };
+
+        private void clear() {
+            Arrays.fill(species, 0, size, null);
+            rows = 0;
+            size = 0;
+            start[0] = 0;
+        };
+
+        private void addRow(Map<LegacySpecies, Integer> coefficients) {
+            for (Entry<LegacySpecies, Integer> entry : coefficients.entrySet()) add(entry.getKey(), entry.getValue());
+            endRow();
+        };
+
+        private void addRow(Collection<LegacySpecies> molecules, Function<LegacySpecies, Integer> coefficients) {
+            for (LegacySpecies molecule : molecules) add(molecule, coefficients.apply(molecule));
+            endRow();
+        };
+
+        private void add(LegacySpecies molecule, int termCoefficient) {
+            if (size == species.length) {
+                int newCapacity = Math.max(8, size * 2);
+                species = Arrays.copyOf(species, newCapacity);
+                slot = Arrays.copyOf(slot, newCapacity);
+                coefficient = Arrays.copyOf(coefficient, newCapacity);
+            };
+            species[size] = molecule;
+            slot[size] = -1;
+            coefficient[size] = termCoefficient;
+            size++;
+        };
+
+        private void endRow() {
+            rows++;
+            if (start.length <= rows) start = Arrays.copyOf(start, Math.max(8, start.length * 2));
+            start[rows] = size;
+        };
+
+        private void link(SpeciesIndex index) {
+            for (int term = 0; term < size; term++) slot[term] = index.getSlot(species[term]);
+        };
+
+        public int getStart(int row) {
+            return start[row];
+        };
+
+        public int getEnd(int row) {
+            return start[row + 1];
+        };
+
+        public LegacySpecies getSpecies(int term) {
+            return species[term];
+        };
+
+        /**
+         * @return {@code -1} if the {@link LegacySpecies Molecule} of this term is not in the Mixture
+         */
+        public int getSlot(int term) {
+            return slot[term];
+        };
+
+        public int getCoefficient(int term) {
+            return coefficient[term];
+        };
+    };
+};
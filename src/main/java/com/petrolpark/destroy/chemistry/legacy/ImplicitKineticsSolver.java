@@ -0,0 +1,367 @@
+package com.petrolpark.destroy.chemistry.legacy;
+
+import java.util.Arrays;
+
+/**
+ * An adaptive-step, linearly-implicit (Rosenbrock-Euler) integrator for the concentrations of the {@link LegacySpecies Molecules} in a {@link LegacyMixture},
+ * used by the {@link KineticsEngine#ADAPTIVE_IMPLICIT adaptive implicit} {@link KineticsEngine kinetics engine}.
+ * <p>Each step solves {@code (I - hJ) dc = h f(c)}, where {@code f} gives the rate of change of every concentration and {@code J} is its Jacobian.
+ * The Jacobian is assembled from the sparse terms of the {@link CompiledReactionNetwork} - each Reaction only contributes where one of its reactants or
+ * products meets one of the Molecules which determine its rate. Because the step is implicit, fast equilibria do not make it unstable, so the step size
+ * is limited only by accuracy, which is estimated by comparing the step with the trapezium rule.</p>
+ * <p>Time is measured in ticks. One solver is kept per Mixture so the step size it settles on carries over between ticks, until the Mixture is
+ * changed from outside and the solver is {@link ImplicitKineticsSolver#reset reset}.</p>
+ * <p>The linear system is dense and solved by elimination, which takes time proportional to the cube of the number of Molecules, so Mixtures with
+ * more than {@link ImplicitKineticsSolver#MAX_SPECIES} Molecules are reacted explicitly instead.</p>
+ */
+public class ImplicitKineticsSolver {
+
+    /**
+     * The most Molecules a Mixture can have for it to be reacted with this solver.
+     */
+    public static final int MAX_SPECIES = 64;
+
+    /**
+     * The error in concentration (in moles per Bucket) which is acceptable however small the concentration is.
+     */
+    private static final double ABSOLUTE_TOLERANCE = 1e-6d;
+    /**
+     * The acceptable error as a proportion of the concentration.
+     */
+    private static final double RELATIVE_TOLERANCE = 1e-3d;
+    private static final double SAFETY_FACTOR = 0.9d;
+    private static final double MIN_STEP_SCALE = 0.2d;
+    private static final double MAX_STEP_SCALE = 5d;
+
+    /**
+     * The number of {@link LegacySpecies Molecules} in the system currently {@link ImplicitKineticsSolver#load loaded}.
+     */
+    private int size;
+    /**
+     * The number of Reactions in the system currently loaded.
+     */
+    private int reactionCount;
+
+    // Per-Molecule
+
+    private double[] concentrations;
+    private double[] derivatives;
+    private double[] change;
+    private double[] newConcentrations;
+    private double[] newDerivatives;
+
+    // Per-Reaction
+
+    /**
+     * The rate constant of each Reaction in per-tick units, including any UV multiplier, or {@code 0} if the Reaction cannot currently happen.
+     */
+    private double[] effectiveRateConstants;
+    private double[] rates;
+    private double[] newRates;
+    private double[] extents;
+
+    /**
+     * The partial derivative of the rate of each Reaction with respect to the concentration of the Molecule in each of its order terms, aligned with {@link CompiledReactionNetwork#getOrders}.
+     */
+    private double[] partials;
+
+    // Linear system
+
+    private double[] jacobian;
+    private double[] matrix;
+
+    /**
+     * The step size (in ticks) to try next, or {@code 0} if there is no estimate yet.
+     */
+    private double stepSize;
+    /**
+     * Whether the last attempted step failed because {@code (I - hJ)} was singular.
+     */
+    private boolean singular;
+
+    public ImplicitKineticsSolver() {
+        allocateSpecies(0);
+        allocateReactions(0);
+        partials = new double[0];
+        stepSize = 0d;
+    };
+
+    private void allocateSpecies(int capacity) {
+        concentrations = new double[capacity];
+        derivatives = new double[capacity];
+        change = new double[capacity];
+        newConcentrations = new double[capacity];
+        newDerivatives = new double[capacity];
+        jacobian = new double[capacity * capacity];
+        matrix = new double[capacity * capacity];
+    };
+
+    private void allocateReactions(int capacity) {
+        effectiveRateConstants = new double[capacity];
+        rates = new double[capacity];
+        newRates = new double[capacity];
+        extents = new double[capacity];
+    };
+
+    /**
+     * Load the current state of a Mixture into this solver, and work out the rates and Jacobian at that state.
+     * @param network A network which has been {@link CompiledReactionNetwork#link linked} to the index and had its {@link CompiledReactionNetwork#updateRateConstants rate constants} calculated
+     * @param index
+     * @param UVPower
+     * @param ticksPerSecond
+     */
+    public void load(CompiledReactionNetwork network, SpeciesIndex index, float UVPower, int ticksPerSecond) {
+        size = index.size();
+        reactionCount = network.size();
+        if (concentrations.length < size) allocateSpecies(Math.max(size, concentrations.length * 2));
+        if (effectiveRateConstants.length < reactionCount) allocateReactions(Math.max(reactionCount, effectiveRateConstants.length * 2));
+        CompiledReactionNetwork.Terms orders = network.getOrders();
+        int orderTerms = reactionCount == 0 ? 0 : orders.getEnd(reactionCount - 1);
+        if (partials.length < orderTerms) partials = new double[orderTerms * 2];
+
+        for (int slot = 0; slot < size; slot++) concentrations[slot] = index.getConcentration(slot);
+
+        for (int r = 0; r < reactionCount; r++) {
+            double rateConstant = 0d;
+            if (network.canReact(r) && !hasMissingReactant(network, r)) {
+                rateConstant = network.getRateConstant(r) / ticksPerSecond;
+                if (network.needsUV(r)) rateConstant *= UVPower;
+            };
+            effectiveRateConstants[r] = rateConstant;
+        };
+
+        evaluate(network, concentrations, rates, derivatives);
+
+        // Assemble the Jacobian
+        Arrays.fill(jacobian, 0, size * size, 0d);
+        CompiledReactionNetwork.Terms reactants = network.getReactants();
+        CompiledReactionNetwork.Terms products = network.getProducts();
+        for (int r = 0; r < reactionCount; r++) {
+            for (int term = orders.getStart(r); term < orders.getEnd(r); term++) {
+                double partial = getPartial(network, r, term);
+                partials[term] = partial;
+                if (partial == 0d) continue;
+                int column = orders.getSlot(term);
+                for (int reactant = reactants.getStart(r); reactant < reactants.getEnd(r); reactant++) {
+                    jacobian[reactants.getSlot(reactant) * size + column] -= reactants.getCoefficient(reactant) * partial;
+                };
+                for (int product = products.getStart(r); product < products.getEnd(r); product++) {
+                    if (products.getSlot(product) < 0) continue; // Products which are not in the Mixture yet are not part of the system
+                    jacobian[products.getSlot(product) * size + column] += products.getCoefficient(product) * partial;
+                };
+            };
+        };
+    };
+
+    /**
+     * Reactions can't happen if a reactant isn't in the Mixture at all, even if the rate does not depend on it.
+     */
+    private static boolean hasMissingReactant(CompiledReactionNetwork network, int r) {
+        CompiledReactionNetwork.Terms reactants = network.getReactants();
+        for (int term = reactants.getStart(r); term < reactants.getEnd(r); term++) {
+            if (reactants.getSlot(term) < 0) return true;
+        };
+        return false;
+    };
+
+    /**
+     * Calculate the rate (in moles per Bucket per tick) of every Reaction and the rate of change of the concentration of every Molecule at the given concentrations.
+     */
+    private void evaluate(CompiledReactionNetwork network, double[] concentrations, double[] ratesOut, double[] derivativesOut) {
+        CompiledReactionNetwork.Terms orders = network.getOrders();
+        CompiledReactionNetwork.Terms reactants = network.getReactants();
+        CompiledReactionNetwork.Terms products = network.getProducts();
+        Arrays.fill(derivativesOut, 0, size, 0d);
+        for (int r = 0; r < reactionCount; r++) {
+            double rate = effectiveRateConstants[r];
+            for (int term = orders.getStart(r); term < orders.getEnd(r) && rate != 0d; term++) {
+                rate *= orders.getSlot(term) < 0 ? 0d : power(concentrations[orders.getSlot(term)], orders.getCoefficient(term));
+            };
+            ratesOut[r] = rate;
+            if (rate == 0d) continue;
+            for (int term = reactants.getStart(r); term < reactants.getEnd(r); term++) {
+                derivativesOut[reactants.getSlot(term)] -= reactants.getCoefficient(term) * rate;
+            };
+            for (int term = products.getStart(r); term < products.getEnd(r); term++) {
+                if (products.getSlot(term) >= 0) derivativesOut[products.getSlot(term)] += products.getCoefficient(term) * rate;
+            };
+        };
+    };
+
+    /**
+     * The partial derivative of the rate of a Reaction with respect to the concentration of the Molecule in one of its order terms.
+     */
+    private double getPartial(CompiledReactionNetwork network, int r, int withRespectTo) {
+        CompiledReactionNetwork.Terms orders = network.getOrders();
+        int order = orders.getCoefficient(withRespectTo);
+        if (effectiveRateConstants[r] == 0d || order == 0 || orders.getSlot(withRespectTo) < 0) return 0d;
+        double partial = effectiveRateConstants[r] * order * power(concentrations[orders.getSlot(withRespectTo)], order - 1);
+        for (int term = orders.getStart(r); term < orders.getEnd(r) && partial != 0d; term++) {
+            if (term == withRespectTo) continue;
+            partial *= orders.getSlot(term) < 0 ? 0d : power(concentrations[orders.getSlot(term)], orders.getCoefficient(term));
+        };
+        return partial;
+    };
+
+    private static double power(double concentration, int order) {
+        switch (order) {
+            case 0: return 1d;
+            case 1: return concentration;
+            case 2: return concentration * concentration;
+            default: return Math.pow(concentration, order);
+        }
+    };
+
+    /**
+     * Whether nothing at all is changing in the loaded system.
+     */
+    public boolean isStationary() {
+        for (int slot = 0; slot < size; slot++) {
+            if (derivatives[slot] != 0d) return false;
+        };
+        for (int r = 0; r < reactionCount; r++) {
+            if (rates[r] != 0d) return false; // Reactions might still be making new Molecules
+        };
+        return true;
+    };
+
+    /**
+     * The size of step (in ticks) which the last step suggested trying next.
+     * @param defaultStepSize The step size to use if there has not been a step yet
+     */
+    public double getStepSize(double defaultStepSize) {
+        return stepSize > 0d ? stepSize : defaultStepSize;
+    };
+
+    /**
+     * Try advancing the {@link ImplicitKineticsSolver#load loaded} system. If the step is accepted, the new concentrations and the moles of each Reaction
+     * which occured can be got with {@link ImplicitKineticsSolver#getNewConcentration} and {@link ImplicitKineticsSolver#getExtent}.
+     * Either way, the {@link ImplicitKineticsSolver#getStepSize suggested step size} is updated.
+     * @param network The network with which the system was loaded
+     * @param h The size of the step, in ticks
+     * @param force Whether to accept the step whatever its estimated error
+     * @return Whether the step was accepted
+     */
+    public boolean attemptStep(CompiledReactionNetwork network, double h, boolean force) {
+
+        // Solve (I - hJ) dc = h f
+        for (int row = 0; row < size; row++) {
+            for (int column = 0; column < size; column++) {
+                matrix[row * size + column] = (row == column ? 1d : 0d) - h * jacobian[row * size + column];
+            };
+            change[row] = h * derivatives[row];
+        };
+        boolean solved = solve();
+        singular = !solved;
+
+        // Estimate the error
+        double error = 0d;
+        if (solved) {
+            for (int slot = 0; slot < size; slot++) {
+                double newConcentration = concentrations[slot] + change[slot];
+                if (newConcentration < -(ABSOLUTE_TOLERANCE + RELATIVE_TOLERANCE * concentrations[slot])) error = Double.POSITIVE_INFINITY; // This step overshot into a negative concentration
+                newConcentrations[slot] = Math.max(newConcentration, 0d);
+            };
+            evaluate(network, newConcentrations, newRates, newDerivatives);
+            for (int slot = 0; slot < size; slot++) {
+                double trapeziumChange = h * 0.5d * (derivatives[slot] + newDerivatives[slot]);
+                double scale = ABSOLUTE_TOLERANCE + RELATIVE_TOLERANCE * Math.max(concentrations[slot], newConcentrations[slot]);
+                error = Math.max(error, Math.abs(change[slot] - trapeziumChange) / scale);
+            };
+        } else {
+            error = Double.POSITIVE_INFINITY;
+        };
+
+        double scale = error == 0d ? MAX_STEP_SCALE : Math.min(MAX_STEP_SCALE, Math.max(MIN_STEP_SCALE, SAFETY_FACTOR / Math.sqrt(error))); // The error of this method goes as the square of the step size
+        stepSize = h * scale;
+
+        if (!solved || (error > 1d && !force)) return false;
+
+        // Work out how much of each Reaction happened, consistently with the change in concentrations
+        CompiledReactionNetwork.Terms orders = network.getOrders();
+        for (int r = 0; r < reactionCount; r++) {
+            double rate = rates[r];
+            for (int term = orders.getStart(r); term < orders.getEnd(r); term++) {
+                if (partials[term] != 0d) rate += partials[term] * change[orders.getSlot(term)];
+            };
+            extents[r] = Math.max(h * rate, 0d);
+        };
+        return true;
+    };
+
+    /**
+     * Solve {@code matrix * x = change} for {@code x} in place, by Gaussian elimination with partial pivoting.
+     * @return {@code false} if the matrix is singular
+     */
+    private boolean solve() {
+        for (int pivot = 0; pivot < size; pivot++) {
+            int bestRow = pivot;
+            for (int row = pivot + 1; row < size; row++) {
+                if (Math.abs(matrix[row * size + pivot]) > Math.abs(matrix[bestRow * size + pivot])) bestRow = row;
+            };
+            if (Math.abs(matrix[bestRow * size + pivot]) < 1e-12d) return false;
+            if (bestRow != pivot) {
+                for (int column = pivot; column < size; column++) {
+                    double temp = matrix[pivot * size + column];
+                    matrix[pivot * size + column] = matrix[bestRow * size + column];
+                    matrix[bestRow * size + column] = temp;
+                };
+                double temp = change[pivot];
+                change[pivot] = change[bestRow];
+                change[bestRow] = temp;
+            };
+            for (int row = pivot + 1; row < size; row++) {
+                double factor = matrix[row * size + pivot] / matrix[pivot * size + pivot];
+                if (factor == 0d) continue; // The matrix is mostly empty, so this saves a lot of work
+                for (int column = pivot; column < size; column++) {
+                    matrix[row * size + column] -= factor * matrix[pivot * size + column];
+                };
+                change[row] -= factor * change[pivot];
+            };
+        };
+        for (int row = size - 1; row >= 0; row--) {
+            double sum = change[row];
+            for (int column = row + 1; column < size; column++) {
+                sum -= matrix[row * size + column] * change[column];
+            };
+            change[row] = sum / matrix[row * size + row];
+        };
+        return true;
+    };
+
+    /**
+     * Whether the last {@link ImplicitKineticsSolver#attemptStep attempted step} failed because the linear system could not be solved, rather than because it was not accurate enough.
+     */
+    public boolean wasSingular() {
+        return singular;
+    };
+
+    /**
+     * The number of Molecules in the loaded system. Molecules in slots beyond this were not part of the last step.
+     */
+    public int size() {
+        return size;
+    };
+
+    /**
+     * The concentration of the Molecule in this slot after the last accepted step.
+     */
+    public double getNewConcentration(int slot) {
+        return newConcentrations[slot];
+    };
+
+    /**
+     * The moles (per Bucket) of this Reaction which happened in the last accepted step.
+     * @param r The row of the Reaction in the network
+     */
+    public double getExtent(int r) {
+        return extents[r];
+    };
+
+    /**
+     * Forget the step size, for example if the Mixture has been changed from outside.
+     */
+    public void reset() {
+        stepSize = 0d;
+    };
+};
@@ -0,0 +1,19 @@
+package com.petrolpark.destroy.chemistry.legacy;
+
+/**
+ * The ways in which a {@link LegacyMixture} can be {@link LegacyMixture#reactForTick reacted}.
+ */
+public enum KineticsEngine {
+
+    /**
+     * Divide each tick into a fixed number of sub-ticks, and in each one do every {@link LegacyReaction} (slowest first) at its current rate,
+     * limited by the reactants left. This is cheap per sub-tick, but fast equilibria need a lot of sub-ticks to be simulated accurately.
+     */
+    EXPLICIT,
+
+    /**
+     * Advance the whole tick with the {@link ImplicitKineticsSolver}, which takes as few or as many steps as are needed for the
+     * concentrations to be accurate. This is stable for fast equilibria however large the steps are.
+     */
+    ADAPTIVE_IMPLICIT;
+};
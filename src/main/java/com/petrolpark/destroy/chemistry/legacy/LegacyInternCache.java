@@ -0,0 +1,199 @@
+package com.petrolpark.destroy.chemistry.legacy;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.petrolpark.destroy.chemistry.api.error.ChemistryException;
+import com.petrolpark.destroy.chemistry.legacy.genericreaction.GenericReactant;
+import com.petrolpark.destroy.chemistry.legacy.genericreaction.GenericReaction;
+
+import net.minecraft.resources.ResourceLocation;
+
+/**
+ * Global intern tables for {@link LegacySpecies#isNovel novel} {@link LegacySpecies Molecules} and the {@link LegacyReaction Reactions} generated by
+ * {@link GenericReaction Generic Reactions}, so that identical ones made in different {@link LegacyMixture Mixtures} share one instance and are only generated once.
+ * Also remembers which Molecule each FROWNS code {@link LegacySpecies#getMolecule deserializes} to, so that loading the same synthesized compound again
+ * (from every Mixture tag it is in) doesn't have to rebuild its structure and search for an equivalent known Molecule.
+ * <p>All tables are bounded and evict the least-recently used entries first. They are safe to use from multiple threads.</p>
+ */
+public class LegacyInternCache {
+
+    public static final int MAX_NOVEL_MOLECULES = 4096;
+    public static final int MAX_GENERATED_REACTIONS = 16384;
+    public static final int DEFAULT_MAX_DESERIALIZED_MOLECULES = 4096;
+
+    /**
+     * Novel Molecules stored by their <a href="https://github.com/petrolpark/Destroy/wiki/FROWNS">FROWNS</a> code.
+     */
+    private static final Cache<String, LegacySpecies> NOVEL_MOLECULES = CacheBuilder.newBuilder()
+        .maximumSize(MAX_NOVEL_MOLECULES)
+        .recordStats()
+        .build();
+
+    /**
+     * The Molecules which FROWNS codes deserialize to, stored by the FROWNS code. This may be a known Molecule if it has the same structure.
+     * Its capacity is {@link com.petrolpark.destroy.config.DestroyCommonConfigs#deserializedMoleculeCacheSize configured}, so it is replaced when the config loads.
+     */
+    private static volatile Cache<String, LegacySpecies> DESERIALIZED_MOLECULES = buildDeserializedMoleculeCache(DEFAULT_MAX_DESERIALIZED_MOLECULES);
+    private static volatile int maxDeserializedMolecules = DEFAULT_MAX_DESERIALIZED_MOLECULES;
+
+    /**
+     * Generated Reactions stored by the Generic Reaction and Reactants from which they were generated. Generic Reactions which threw a {@link ChemistryException}
+     * or returned {@code null} for a set of Reactants are stored as empty, so they are not attempted again.
+     */
+    private static final Cache<GeneratedReactionKey, Optional<LegacyReaction>> GENERATED_REACTIONS = CacheBuilder.newBuilder()
+        .maximumSize(MAX_GENERATED_REACTIONS)
+        .recordStats()
+        .build();
+
+    /**
+     * Get the interned novel Molecule with the given FROWNS code.
+     * @param FROWNS
+     * @return {@code null} if there is no such Molecule interned
+     */
+    @Nullable
+    public static LegacySpecies getNovelMolecule(String FROWNS) {
+        return NOVEL_MOLECULES.getIfPresent(FROWNS);
+    };
+
+    /**
+     * Intern a freshly-built novel Molecule.
+     * @param molecule
+     * @return The Molecule with the same FROWNS code which was already interned if another thread got there first, or the given Molecule otherwise
+     */
+    public static LegacySpecies internNovelMolecule(LegacySpecies molecule) {
+        LegacySpecies existingMolecule = NOVEL_MOLECULES.asMap().putIfAbsent(molecule.getFROWNSCode(), molecule);
+        return existingMolecule == null ? molecule : existingMolecule;
+    };
+
+    /**
+     * Get the Molecule a FROWNS code deserializes to, deserializing it if it has not been recently.
+     * Novel Molecules are {@link LegacyInternCache#internNovelMolecule interned} again, so that the same instance as everywhere else is given even if the
+     * novel Molecule table has since evicted it. The Molecule's {@link LegacySpecies#getRenderer renderer} is kept with it, so it is not rebuilt either.
+     * @param FROWNS
+     * @param deserializer Builds the Molecule from the FROWNS code. Any exception thrown is passed on.
+     */
+    public static LegacySpecies getDeserializedMolecule(String FROWNS, Supplier<LegacySpecies> deserializer) {
+        LegacySpecies molecule;
+        try {
+            molecule = DESERIALIZED_MOLECULES.get(FROWNS, deserializer::get);
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) throw runtimeException;
+            throw new IllegalStateException("Could not deserialize Molecule '" + FROWNS + "'", e.getCause());
+        };
+        return molecule.isNovel() ? internNovelMolecule(molecule) : molecule;
+    };
+
+    /**
+     * Change how many deserialized Molecules are remembered. If this is different to before, the {@link LegacyInternCache#getDeserializedMoleculeStats stats} start again.
+     * If the table grows, every remembered Molecule is kept (though which was used most recently is forgotten); if it shrinks, it is emptied,
+     * as the copied entries would not be evicted in order of use.
+     * @param maxSize
+     */
+    public static synchronized void setMaxDeserializedMolecules(int maxSize) {
+        if (maxSize == maxDeserializedMolecules) return;
+        Cache<String, LegacySpecies> oldCache = DESERIALIZED_MOLECULES;
+        Cache<String, LegacySpecies> newCache = buildDeserializedMoleculeCache(maxSize);
+        if (maxSize > maxDeserializedMolecules) newCache.putAll(oldCache.asMap());
+        DESERIALIZED_MOLECULES = newCache;
+        maxDeserializedMolecules = maxSize;
+        oldCache.invalidateAll();
+    };
+
+    private static Cache<String, LegacySpecies> buildDeserializedMoleculeCache(int maxSize) {
+        return CacheBuilder.newBuilder()
+            .maximumSize(maxSize)
+            .recordStats()
+            .build();
+    };
+
+    /**
+     * Get the Reaction a Generic Reaction generates for the given Reactants, generating it if it has not been already.
+     * @param genericReaction
+     * @param firstReactant
+     * @param secondReactant {@code null} for {@link com.petrolpark.destroy.chemistry.legacy.genericreaction.SingleGroupGenericReaction single-Group Generic Reactions}
+     * @param generator Generates the Reaction. Any {@link ChemistryException} thrown is ignored.
+     * @return {@code null} if the Reaction is impossible
+     */
+    @Nullable
+    public static LegacyReaction getGeneratedReaction(GenericReaction genericReaction, GenericReactant<?> firstReactant, @Nullable GenericReactant<?> secondReactant, Supplier<LegacyReaction> generator) {
+        GeneratedReactionKey key = new GeneratedReactionKey(genericReaction.id,
+            firstReactant.getMolecule().getFullID(), getGroupIndex(firstReactant),
+            secondReactant == null ? null : secondReactant.getMolecule().getFullID(), secondReactant == null ? -1 : getGroupIndex(secondReactant)
+        );
+        LegacyReaction reaction;
+        try {
+            reaction = GENERATED_REACTIONS.get(key, () -> generate(generator)).orElse(null);
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) throw runtimeException;
+            throw new IllegalStateException("Could not generate Reaction for Generic Reaction '" + genericReaction.id + "'", e.getCause());
+        };
+        if (reaction != null && (!isReactantOf(firstReactant, reaction) || !isReactantOf(secondReactant, reaction))) { // The Reaction was generated for an instance of a Molecule which has since been evicted, so it would never match the Molecules in the Mixture
+            Optional<LegacyReaction> regeneratedReaction = generate(generator);
+            GENERATED_REACTIONS.put(key, regeneratedReaction);
+            reaction = regeneratedReaction.orElse(null);
+        };
+        return reaction;
+    };
+
+    private static Optional<LegacyReaction> generate(Supplier<LegacyReaction> generator) {
+        try {
+            return Optional.ofNullable(generator.get());
+        } catch (ChemistryException e) {
+            return Optional.empty(); // Don't do anything for chemistry exceptions
+        }
+    };
+
+    private static boolean isReactantOf(@Nullable GenericReactant<?> reactant, LegacyReaction reaction) {
+        return reactant == null || reaction.getReactants().contains(reactant.getMolecule());
+    };
+
+    /**
+     * Molecules may have more than one {@link LegacyFunctionalGroup functional Group} of the same type, so which of the Molecule's Groups the Reactant refers to is part of the key.
+     */
+    private static int getGroupIndex(GenericReactant<?> reactant) {
+        return reactant.getMolecule().getFunctionalGroups().indexOf(reactant.getGroup());
+    };
+
+    public static CacheStats getNovelMoleculeStats() {
+        return NOVEL_MOLECULES.stats();
+    };
+
+    public static CacheStats getDeserializedMoleculeStats() {
+        return DESERIALIZED_MOLECULES.stats();
+    };
+
+    public static CacheStats getGeneratedReactionStats() {
+        return GENERATED_REACTIONS.stats();
+    };
+
+    public static long getNovelMoleculeCount() {
+        return NOVEL_MOLECULES.size();
+    };
+
+    public static long getDeserializedMoleculeCount() {
+        return DESERIALIZED_MOLECULES.size();
+    };
+
+    public static long getGeneratedReactionCount() {
+        return GENERATED_REACTIONS.size();
+    };
+
+    /**
+     * Forget every interned Molecule and Reaction, for example if the known Molecules have changed.
+     */
+    public static void clear() {
+        NOVEL_MOLECULES.invalidateAll();
+        DESERIALIZED_MOLECULES.invalidateAll();
+        GENERATED_REACTIONS.invalidateAll();
+    };
+
+    private static record GeneratedReactionKey(ResourceLocation genericReactionId, String firstFROWNS, int firstGroup, String secondFROWNS, int secondGroup) {};
+};
@@ -3,22 +3,17 @@ package com.petrolpark.destroy.chemistry.legacy;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
-import java.util.Set;
 
 import com.google.common.collect.ImmutableList;
 import com.petrolpark.destroy.Destroy;
-import com.petrolpark.destroy.chemistry.api.error.ChemistryException;
 import com.petrolpark.destroy.chemistry.api.util.Constants;
-import com.petrolpark.destroy.chemistry.legacy.genericreaction.DoubleGroupGenericReaction;
 import com.petrolpark.destroy.chemistry.legacy.genericreaction.GenericReactant;
 import com.petrolpark.destroy.chemistry.legacy.genericreaction.GenericReaction;
-import com.petrolpark.destroy.chemistry.legacy.genericreaction.SingleGroupGenericReaction;
 import com.petrolpark.destroy.chemistry.legacy.index.DestroyMolecules;
 import com.petrolpark.destroy.chemistry.legacy.reactionresult.NovelCompoundSynthesizedReactionResult;
 import com.petrolpark.destroy.recipe.ReactionInBasinRecipe.ReactionInBasinResult;
@@ -52,6 +47,15 @@ public class LegacyMixture extends ReadOnlyMixture {
      */
     protected List<LegacyReaction> possibleReactions;
 
+    /**
+     * The {@link LegacyMixture#possibleReactions possible Reactions} flattened into primitive arrays for {@link LegacyMixture#reactForTick reacting}.
+     */
+    protected final CompiledReactionNetwork reactionNetwork;
+    /**
+     * Keeps track of which {@link GenericReaction Generic Reactions} have already been generated for the {@link LegacySpecies Molecules} in this Mixture.
+     */
+    protected final LegacyPossibleReactionManager possibleReactionManager;
+
     /**`
      * Every {@link LegacySpecies} in this Mixture that has a {@link LegacyFunctionalGroup functional Group}, indexed by the {@link LegacyFunctionalGroup#getType Type} of that Group.
      * Molecules are stored as {@link com.petrolpark.destroy.chemistry.genericReaction.GenericReactant Generic Reactants}.
@@ -86,16 +90,39 @@ public class LegacyMixture extends ReadOnlyMixture {
      */
     Map<LegacySpecies, Integer> moleculesToRemove;
 
+    /**
+     * The concentrations of every {@link LegacySpecies} at the start of the current reaction cycle, indexed by their slot in the {@link ReadOnlyMixture#speciesIndex species index}.
+     * This is kept between cycles so it does not need to be reallocated.
+     */
+    private float[] equilibriumSnapshot;
+    /**
+     * The concentrations of every Molecule at the start of a tick with the {@link KineticsEngine#ADAPTIVE_IMPLICIT adaptive kinetics engine}, kept apart from the
+     * {@link LegacyMixture#equilibriumSnapshot} as that is used by any {@link LegacyMixture#reactExplicitCycle explicit sub-ticks} it falls back on.
+     */
+    private float[] implicitSnapshot;
+
+    /**
+     * The most steps the {@link KineticsEngine#ADAPTIVE_IMPLICIT adaptive kinetics engine} may take (including rejected ones) in one tick.
+     */
+    private static final int MAX_IMPLICIT_STEPS = 32;
+    /**
+     * Only created if this Mixture is ever reacted with the {@link KineticsEngine#ADAPTIVE_IMPLICIT adaptive kinetics engine}.
+     */
+    private ImplicitKineticsSolver implicitSolver;
+
     public LegacyMixture() {
         super();
         reactionResults = new HashMap<>();
         novelMolecules = new ArrayList<>();
         possibleReactions = new ArrayList<>();
+        reactionNetwork = new CompiledReactionNetwork();
+        possibleReactionManager = new LegacyPossibleReactionManager(this);
         groupIDsAndMolecules = new HashMap<>();
         nextHigherBoilingPoint = Pair.of(Float.MAX_VALUE, null);
         nextLowerBoilingPoint = Pair.of(0f, null);
         moleculesToRemove = new HashMap<>();
         equilibrium = false;
+        equilibriumSnapshot = new float[0];
     };
 
     /**
@@ -129,18 +156,13 @@ public class LegacyMixture extends ReadOnlyMixture {
 
         if (compound.contains("Temperature")) mixture.temperature = compound.getFloat("Temperature");
 
-        ListTag contents = compound.getList("Contents", Tag.TAG_COMPOUND);
-        contents.forEach(tag -> {
-            CompoundTag moleculeTag = (CompoundTag) tag;
-            LegacySpecies molecule = LegacySpecies.getMolecule(moleculeTag.getString("Molecule"));
-            if (molecule == null) return;
-            mixture.internalAddMolecule(molecule, moleculeTag.getFloat("Concentration"), false);
-            if (moleculeTag.contains("Gaseous",Tag.TAG_FLOAT)) {
-                float state = moleculeTag.getFloat("Gaseous");
-                mixture.states.put(molecule, state);
+        PackedMixtureContents.read(compound, (molecule, concentration, state) -> {
+            mixture.internalAddMolecule(molecule, concentration, false);
+            if (!Float.isNaN(state)) {
+                mixture.setStateIfPresent(molecule, state);
                 if (state != 0f && state != 1f) mixture.boiling = true;
             } else { // If we're not told the state, guess it
-                mixture.states.put(molecule, molecule.getBoilingPoint() < mixture.temperature ? 1f : 0f);
+                mixture.setStateIfPresent(molecule, molecule.getBoilingPoint() < mixture.temperature ? 1f : 0f);
             };
         });
 
@@ -190,12 +212,8 @@ public class LegacyMixture extends ReadOnlyMixture {
     public LegacyMixture setTemperature(float temperature) {
         this.temperature = temperature;
         // Ensure everything has the right state
-        for (LegacySpecies molecule : contents.keySet()) {
-            if (molecule.getBoilingPoint() < temperature) {
-                states.put(molecule, 1f);
-            } else {
-                states.put(molecule, 0f);
-            };
+        for (int slot = 0; slot < speciesIndex.size(); slot++) {
+            speciesIndex.setState(slot, speciesIndex.getSpecies(slot).getBoilingPoint() < temperature ? 1f : 0f);
         };
         return this; 
     };
@@ -229,6 +247,7 @@ public class LegacyMixture extends ReadOnlyMixture {
         // If we're not adding a pre-existing Molecule
         internalAddMolecule(molecule, concentration, true);
         equilibrium = false;
+        resetImplicitSolver();
         return this;
     };
 
@@ -271,7 +290,7 @@ public class LegacyMixture extends ReadOnlyMixture {
         for (Entry<LegacySpecies, Double> moleculeAndMoles : moleculesAndMoles.entrySet()) {
             LegacySpecies molecule = moleculeAndMoles.getKey();
             resultMixture.internalAddMolecule(molecule, (float)(moleculeAndMoles.getValue() / totalAmount), false); // Add all these Molecules to the new Mixture
-            resultMixture.states.put(molecule, 0f); // Set it to entirely liquid as we will soon be reheating the Mixture from 0K
+            resultMixture.setStateIfPresent(molecule, 0f); // Set it to entirely liquid as we will soon be reheating the Mixture from 0K
         };
 
         for (Entry<ReactionResult, Double> reactionResultAndMoles : reactionResultsAndMoles.entrySet()) {
@@ -308,100 +327,203 @@ public class LegacyMixture extends ReadOnlyMixture {
      */
     public void disturbEquilibrium() {
         equilibrium = false;
+        resetImplicitSolver();
     };
 
     /**
-     * Reacts the contents of this Mixture for one tick, if it is not already at {@link LegacyMixture#equilibrium equilibrium}.
+     * Let the {@link LegacyMixture#implicitSolver implicit solver} know this Mixture has been changed from outside, so the step size it settled on no longer applies.
+     */
+    private void resetImplicitSolver() {
+        if (implicitSolver != null) implicitSolver.reset();
+    };
+
+    /**
+     * Reacts the contents of this Mixture for one tick with the {@link KineticsEngine#EXPLICIT explicit kinetics engine}, if it is not already at {@link LegacyMixture#equilibrium equilibrium}.
      * @param context
      * @param cycles Number of times each tick the reactions should be enacted
      */
     public void reactForTick(ReactionContext context, int cycles) {
+        reactForTick(context, cycles, KineticsEngine.EXPLICIT);
+    };
 
-        boolean shouldUpdateDisplay = true;
+    /**
+     * Reacts the contents of this Mixture for one tick, if it is not already at {@link LegacyMixture#equilibrium equilibrium}.
+     * @param context
+     * @param cycles Number of times each tick the reactions should be enacted. The {@link KineticsEngine#ADAPTIVE_IMPLICIT adaptive engine} only uses this for its first step size.
+     * @param kineticsEngine How to simulate the Reactions
+     */
+    public void reactForTick(ReactionContext context, int cycles, KineticsEngine kineticsEngine) {
 
-        for (int cycle = 0; cycle < cycles; cycle++) {
+        boolean shouldUpdateDisplay = switch (kineticsEngine) {
+            case ADAPTIVE_IMPLICIT -> reactImplicitly(context, cycles);
+            default -> reactExplicitly(context, cycles);
+        };
 
-            if (equilibrium) { // If we have already reached equilibrium, nothing more is going to happen, so don't bother reacting
-                shouldUpdateDisplay = false;
-                break; 
+        // Purge removed Molecules
+        boolean shouldUpdateReactions = false;
+        Iterator<Entry<LegacySpecies, Integer>> iterator = moleculesToRemove.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Entry<LegacySpecies, Integer> entry = iterator.next();
+            entry.setValue(entry.getValue() - 1);
+            if (entry.getValue() <= 0) {
+                removeMolecule(entry.getKey()); // Completely remove the Molecule from the Mixture if its TTL has expired
+                iterator.remove();  
+                shouldUpdateReactions = true; // Now we know the Molecule isn't coming back, we can update the reactions to reflect its removal
             };
+        };
+        if (shouldUpdateReactions) refreshPossibleReactions();
+        
+        if (shouldUpdateDisplay) {
+            updateName();
+            updateColor();
+        };
+    };
 
-            equilibrium = true; // Start by assuming we have reached equilibrium
-            boolean shouldRefreshPossibleReactions = false; // Rather than refreshing the possible Reactions every time a new Molecule is added or removed, start by assuming we won't need to, and flag for refreshing if we ever do
+    /**
+     * React this Mixture for one tick with the {@link KineticsEngine#EXPLICIT explicit kinetics engine}.
+     * @param context
+     * @param cycles
+     * @return Whether the display of this Mixture should be updated
+     */
+    private boolean reactExplicitly(ReactionContext context, int cycles) {
 
-            Map<LegacySpecies, Float> oldContents = new HashMap<>(contents); // Copy all the old concentrations of everything
+        if (!equilibrium) reactionNetwork.updateAvailability(context); // Check all Reactions have the necessary Item catalysts
 
-            Map<LegacyReaction, Float> reactionRates = new HashMap<>(); // Rates of all Reactions
-            List<LegacyReaction> orderedReactions = new ArrayList<>(); // A list of Reactions in the order of their current rate, fastest first
+        for (int cycle = 0; cycle < cycles; cycle++) {
 
-            orderEachReaction: for (LegacyReaction possibleReaction : possibleReactions) {
-                if (possibleReaction.consumesItem()) continue orderEachReaction; // Don't include Reactions which CONSUME Items at this stage
+            if (equilibrium) return false; // If we have already reached equilibrium, nothing more is going to happen, so don't bother reacting
+            equilibrium = !reactExplicitCycle(context, cycles);
+        };
+        return true;
+    };
 
-                for (IItemReactant itemReactant : possibleReaction.getItemReactants()) { // Check all Reactions have the necessary Item catalysts
-                    boolean validStackFound = false; // Start by assuming we won't have the required Item Stack...
-                    checkAllItems: for (ItemStack stack : context.availableItemStacks) {
-                        if (itemReactant.isItemValid(stack)) {
-                            validStackFound = true; // ...If we do, correct this assumption
-                            break checkAllItems;
-                        };
-                    };
-                    if (!validStackFound) continue orderEachReaction; // If we don't have the requesite Item Stacks, don't do this Reaction
-                };
+    /**
+     * React this Mixture for one sub-tick with the {@link KineticsEngine#EXPLICIT explicit kinetics engine}, whether or not it is at equilibrium.
+     * @param context
+     * @param cycles The number of sub-ticks in a tick
+     * @return Whether anything changed concentration noticeably
+     */
+    private boolean reactExplicitCycle(ReactionContext context, int cycles) {
+        boolean shouldRefreshPossibleReactions = false; // Rather than refreshing the possible Reactions every time a new Molecule is added or removed, start by assuming we won't need to, and flag for refreshing if we ever do
 
-                reactionRates.put(possibleReaction, calculateReactionRate(possibleReaction, context) / cycles); // Calculate the Reaction data for this sub-tick
-                orderedReactions.add(possibleReaction); // Add the Reaction to the rate-ordered list, which is currently not sorted
-            };
+        equilibriumSnapshot = speciesIndex.snapshotConcentrations(equilibriumSnapshot); // Copy all the old concentrations of everything
+        int snapshotSize = speciesIndex.size(); // Molecules are only ever added while reacting, so every Molecule in the snapshot keeps its slot
 
-            Collections.sort(orderedReactions, (r1, r2) -> reactionRates.get(r1).compareTo(reactionRates.get(r2))); // Sort the Reactions by rate
+        reactionNetwork.link(speciesIndex); // Make sure the compiled Reactions point at the right Molecules, in case any have been added since the last cycle
+        int reactionCount = reactionNetwork.calculateRates(speciesIndex, temperature, context.UVPower, cycles, TICKS_PER_SECOND); // Calculate the Reaction data for this sub-tick, excluding Reactions which CONSUME Items and those without their Item catalysts, and sort them by rate
 
-            doEachReaction: for (LegacyReaction reaction : orderedReactions) { // Go through each Reaction, fastest first
+        doEachReaction: for (int i = 0; i < reactionCount; i++) { // Go through each Reaction in order of rate
 
-                Float molesOfReaction = reactionRates.get(reaction); // We are reacting over one tick, so moles of Reaction that take place in this time = rate of Reaction in M per sub-tick
+            int reaction = reactionNetwork.getOrderedReaction(i);
+            float molesOfReaction = reactionNetwork.getRate(reaction); // We are reacting over one tick, so moles of Reaction that take place in this time = rate of Reaction in M per sub-tick
+            molesOfReaction = reactionNetwork.limitByReactants(reaction, molesOfReaction, speciesIndex); // Determine the limiting reagent, if there is one
 
-                for (LegacySpecies reactant : reaction.getReactants()) {
-                    int reactantMolarRatio = reaction.getReactantMolarRatio(reactant);
-                    float reactantConcentration = getConcentrationOf(reactant);
-                    if (reactantConcentration < reactantMolarRatio * molesOfReaction) { // Determine the limiting reagent, if there is one
-                        molesOfReaction = reactantConcentration / (float) reactantMolarRatio; // If there is a new limiting reagent, alter the moles of reaction which will take place
-                    };
-                };
+            if (molesOfReaction <= 0f) continue doEachReaction; // Don't bother going any further if this Reaction won't happen
 
-                if (molesOfReaction <= 0f) continue doEachReaction; // Don't bother going any further if this Reaction won't happen
+            shouldRefreshPossibleReactions |= doCompiledReaction(reaction, molesOfReaction); // Increment the amount of this Reaction which has occured, add all products and remove all reactants
+        };
 
-                shouldRefreshPossibleReactions |= doReaction(reaction, molesOfReaction); // Increment the amount of this Reaction which has occured, add all products and remove all reactants
-            };
+        if (shouldRefreshPossibleReactions) { // If we added a new Molecule at any point
+            refreshPossibleReactions();
+            reactionNetwork.updateAvailability(context); // The newly-compiled Reactions still need checking for Item catalysts
+        };
+
+        // Check now if we have actually reached equilibrium - if there's something that has changed concentration noticeably, we cannot have
+        return !speciesIndex.concentrationsMatch(equilibriumSnapshot, snapshotSize);
+    };
 
-            // Check now if we have actually reached equilibrium or if that was a false assumption at the start
-            for (LegacySpecies molecule : oldContents.keySet()) {
-                if (!areVeryClose(oldContents.get(molecule), getConcentrationOf(molecule))) { // If there's something that has changed concentration noticeably in this tick...
-                    equilibrium = false; // ...we cannot have reached equilibrium
+    /**
+     * React this Mixture for one tick with the {@link KineticsEngine#ADAPTIVE_IMPLICIT adaptive implicit kinetics engine}.
+     * @param context
+     * @param cycles Used to decide the size of the first step, if there has not been one before
+     * @return Whether the display of this Mixture should be updated
+     */
+    private boolean reactImplicitly(ReactionContext context, int cycles) {
+        if (equilibrium) return false;
+        if (speciesIndex.size() > ImplicitKineticsSolver.MAX_SPECIES) return reactExplicitly(context, cycles); // The dense linear system would be too expensive
+        if (implicitSolver == null) implicitSolver = new ImplicitKineticsSolver();
+
+        reactionNetwork.updateAvailability(context); // Check all Reactions have the necessary Item catalysts
+
+        implicitSnapshot = speciesIndex.snapshotConcentrations(implicitSnapshot);
+        int snapshotSize = speciesIndex.size();
+
+        double time = 0d; // In ticks
+        boolean finished = false; // Whether the whole tick has been simulated
+        boolean loaded = false;
+        for (int step = 0; step < MAX_IMPLICIT_STEPS; step++) {
+            if (time >= 1d) {
+                finished = true;
+                break;
+            };
+            if (speciesIndex.size() > ImplicitKineticsSolver.MAX_SPECIES) break; // New products have made the system too large, so finish the tick explicitly
+            if (!loaded) {
+                reactionNetwork.link(speciesIndex);
+                reactionNetwork.updateRateConstants(temperature);
+                implicitSolver.load(reactionNetwork, speciesIndex, context.UVPower, TICKS_PER_SECOND);
+                loaded = true;
+                if (implicitSolver.isStationary()) { // Nothing is going to happen for the rest of this tick
+                    finished = true;
+                    break;
                 };
             };
 
-            if (shouldRefreshPossibleReactions) { // If we added a new Molecule at any point
+            boolean lastStep = step == MAX_IMPLICIT_STEPS - 1;
+            double stepSize = lastStep ? 1d - time : Math.min(implicitSolver.getStepSize(1d / Math.max(cycles, 1)), 1d - time); // If we have run out of steps, finish the tick in one (stable, if less accurate) step
+            if (!implicitSolver.attemptStep(reactionNetwork, stepSize, lastStep)) {
+                if (implicitSolver.wasSingular()) break; // Smaller steps won't necessarily help, so finish the tick explicitly
+                continue; // Try again with the smaller step size the solver suggested
+            };
+
+            time += stepSize;
+            loaded = false;
+            if (applyImplicitStep()) { // If we added a new Molecule
                 refreshPossibleReactions();
+                reactionNetwork.updateAvailability(context); // The newly-compiled Reactions still need checking for Item catalysts
             };
+        };
+        if (!finished && time >= 1d) finished = true; // The last allowed step finished the tick
 
+        // If the implicit steps could not finish the tick, finish it with explicit sub-ticks
+        if (!finished) {
+            int remainingCycles = Math.max(1, (int)Math.ceil((1d - time) * Math.max(cycles, 1)));
+            for (int cycle = 0; cycle < remainingCycles; cycle++) reactExplicitCycle(context, Math.max(cycles, 1));
+            implicitSolver.reset(); // The step size it suggested did not work
         };
 
-        // Purge removed Molecules
-        boolean shouldUpdateReactions = false;
-        Iterator<Entry<LegacySpecies, Integer>> iterator = moleculesToRemove.entrySet().iterator();
-        while (iterator.hasNext()) {
-            Entry<LegacySpecies, Integer> entry = iterator.next();
-            entry.setValue(entry.getValue() - 1);
-            if (entry.getValue() <= 0) {
-                removeMolecule(entry.getKey()); // Completely remove the Molecule from the Mixture if its TTL has expired
-                iterator.remove();  
-                shouldUpdateReactions = true; // Now we know the Molecule isn't coming back, we can update the reactions to reflect its removal
-            };
+        // Only this whole tick having changed nothing means equilibrium
+        equilibrium = speciesIndex.size() == snapshotSize && speciesIndex.concentrationsMatch(implicitSnapshot, snapshotSize);
+        return true;
+    };
+
+    /**
+     * Apply the last step the {@link LegacyMixture#implicitSolver implicit solver} accepted to this Mixture.
+     * @return Whether the possible Reactions for this Mixture should be updated
+     */
+    private boolean applyImplicitStep() {
+        boolean shouldRefreshPossibleReactions = false;
+
+        // Molecules already in the Mixture
+        for (int slot = 0; slot < implicitSolver.size(); slot++) {
+            float change = (float)implicitSolver.getNewConcentration(slot) - speciesIndex.getConcentration(slot);
+            if (change != 0f) changeConcentrationAtSlot(slot, change);
         };
-        if (shouldUpdateReactions) refreshPossibleReactions();
-        
-        if (shouldUpdateDisplay) {
-            updateName();
-            updateColor();
+
+        // New products, heat and Reaction Results
+        float enthalpyChange = 0f;
+        CompiledReactionNetwork.Terms products = reactionNetwork.getProducts();
+        for (int reaction = 0; reaction < reactionNetwork.size(); reaction++) {
+            float molesOfReaction = (float)implicitSolver.getExtent(reaction);
+            if (molesOfReaction <= 0f) continue;
+            for (int term = products.getStart(reaction); term < products.getEnd(reaction); term++) {
+                if (products.getSlot(term) < 0) shouldRefreshPossibleReactions |= addProduct(products.getSpecies(term), molesOfReaction * products.getCoefficient(term));
+            };
+            enthalpyChange += reactionNetwork.getEnthalpyChange(reaction) * molesOfReaction;
+            incrementReactionResults(reactionNetwork.getReaction(reaction), molesOfReaction);
         };
+        if (enthalpyChange != 0f) heat(-enthalpyChange * 1000);
+
+        return shouldRefreshPossibleReactions;
     };
 
     /**
@@ -604,6 +726,31 @@ public class LegacyMixture extends ReadOnlyMixture {
 
     public static record Phases(LegacyMixture gasMixture, Double gasVolume, LegacyMixture liquidMixture, Double liquidVolume) {};
 
+    /**
+     * The volume the liquid phase of this Mixture would take up if it were {@link LegacyMixture#separatePhases separated}, without actually creating the new Mixtures.
+     * @param initialVolume The initial volume of this Mixture from which to scale
+     * @return A volume in the same units as {@code initialVolume}
+     */
+    public double getLiquidVolume(double initialVolume) {
+        double liquidVolume = 0d;
+        for (Entry<LegacySpecies, Float> entry : contents.entrySet()) {
+            liquidVolume += entry.getValue() * (1f - states.get(entry.getKey())) * initialVolume / entry.getKey().getPureConcentration();
+        };
+        return liquidVolume;
+    };
+
+    /**
+     * The number of moles of gas in this Mixture, without actually {@link LegacyMixture#separatePhases separating} it.
+     * @param initialVolume The initial volume of this Mixture from which to scale
+     */
+    public double getMolesOfGas(double initialVolume) {
+        double moles = 0d;
+        for (Entry<LegacySpecies, Float> entry : contents.entrySet()) {
+            moles += entry.getValue() * states.get(entry.getKey()) * initialVolume;
+        };
+        return moles;
+    };
+
     /**
      * Get two new Mixtures from one - one containing all gas, one containing all liquid.
      * This doesn't mutate this Mixture.
@@ -615,6 +762,17 @@ public class LegacyMixture extends ReadOnlyMixture {
      * <li>{@code liquidVolume} A volume of liquid in the same units as {@code initialVolume}.</li></ul>
      */
     public Phases separatePhases(double initialVolume) {
+        return separatePhases(initialVolume, true);
+    };
+
+    /**
+     * Get two new Mixtures from one - one containing all gas, one containing all liquid.
+     * This doesn't mutate this Mixture.
+     * @param initialVolume The initial volume of this Mixture from which to scale, ideally in buckets.
+     * @param shouldRefreshReactions Whether to work out the possible {@link LegacyReaction Reactions} of the new Mixtures. This can be skipped if they are only going to be serialized.
+     * @see LegacyMixture#separatePhases(double) The return value
+     */
+    public Phases separatePhases(double initialVolume, boolean shouldRefreshReactions) {
         Map<LegacySpecies, Double> liquidMoles = new HashMap<>();
         Map<LegacySpecies, Double> gasMoles = new HashMap<>();
 
@@ -643,13 +801,13 @@ public class LegacyMixture extends ReadOnlyMixture {
             double moles = entry.getValue();
             if (moles == 0d) continue;
             liquidMixture.internalAddMolecule(entry.getKey(), (float)(moles / newLiquidVolume), false);
-            liquidMixture.states.put(entry.getKey(), 0f);
+            liquidMixture.setStateIfPresent(entry.getKey(), 0f);
         };
         for (Entry<LegacySpecies, Double> entry : gasMoles.entrySet()) {
             double moles = entry.getValue();
             if (moles == 0d) continue;
             gasMixture.internalAddMolecule(entry.getKey(), (float)(moles / newGasVolume), false);
-            gasMixture.states.put(entry.getKey(), 1f);
+            gasMixture.setStateIfPresent(entry.getKey(), 1f);
         };
 
         // Add Reaction Results to new Mixtures
@@ -662,8 +820,10 @@ public class LegacyMixture extends ReadOnlyMixture {
 
         liquidMixture.temperature = temperature;
         gasMixture.temperature = temperature;
-        liquidMixture.refreshPossibleReactions();
-        gasMixture.refreshPossibleReactions();
+        if (shouldRefreshReactions) {
+            liquidMixture.refreshPossibleReactions();
+            gasMixture.refreshPossibleReactions();
+        };
         liquidMixture.equilibrium = equilibrium;
         gasMixture.equilibrium = equilibrium;
 
@@ -684,22 +844,65 @@ public class LegacyMixture extends ReadOnlyMixture {
             changeConcentrationOf(reactant, - (molesPerLiter * reaction.getReactantMolarRatio(reactant)), false); // Use up the right amount of all the reagents
         };
 
-        addEachProduct: for (LegacySpecies product : reaction.getProducts()) {
-            if (product.isNovel() && getConcentrationOf(product) == 0f) { // If we have a novel Molecule that we don't think currently exists in the Mixture...
-                if (internalAddMolecule(product, molesPerLiter * reaction.getProductMolarRatio(product), false)) { // ...add it with this method, as this automatically checks for pre-existing novel Molecules, and if it was actually a brand new Molecule...
-                    shouldRefreshPossibleReactions = true; // ...flag this
-                }; 
-                continue addEachProduct;
+        for (LegacySpecies product : reaction.getProducts()) {
+            shouldRefreshPossibleReactions |= addProduct(product, molesPerLiter * reaction.getProductMolarRatio(product));
+        };
+
+        heat(-reaction.getEnthalpyChange() * 1000 * molesPerLiter);
+        incrementReactionResults(reaction, molesPerLiter);
+
+        return shouldRefreshPossibleReactions;
+    };
+
+    /**
+     * Increase the concentration of a product of a {@link LegacyReaction}, adding it to this Mixture if necessary.
+     * @param product
+     * @param change The increase in concentration
+     * @return Whether the possible Reactions for this Mixture should be updated
+     */
+    private boolean addProduct(LegacySpecies product, float change) {
+        if (product.isNovel() && getConcentrationOf(product) == 0f) { // If we have a novel Molecule that we don't think currently exists in the Mixture...
+            return internalAddMolecule(product, change, false); // ...add it with this method, as this automatically checks for pre-existing novel Molecules, and flag if it was actually a brand new Molecule
+        };
+
+        boolean newProduct = !speciesIndex.contains(product); // If we are adding a new product, the possible Reactions will change
+        changeConcentrationOf(product, change, false); // Increase the concentration of the product
+        return newProduct;
+    };
+
+    /**
+     * The equivalent of {@link LegacyMixture#doReaction} for a Reaction in the {@link LegacyMixture#reactionNetwork compiled Reaction network}, which
+     * avoids looking up {@link LegacySpecies Molecules} that are already in this Mixture.
+     * @param reaction The row of the Reaction in the network
+     * @param molesPerLiter Moles (per liter) of Reaction
+     * @return Whether the possible Reactions for this Mixture should be updated
+     */
+    protected boolean doCompiledReaction(int reaction, float molesPerLiter) {
+
+        boolean shouldRefreshPossibleReactions = false;
+
+        CompiledReactionNetwork.Terms reactants = reactionNetwork.getReactants();
+        for (int term = reactants.getStart(reaction); term < reactants.getEnd(reaction); term++) {
+            float change = - (molesPerLiter * reactants.getCoefficient(term)); // Use up the right amount of all the reagents
+            if (reactants.getSlot(term) >= 0) {
+                changeConcentrationAtSlot(reactants.getSlot(term), change);
+            } else {
+                changeConcentrationOf(reactants.getSpecies(term), change, false);
             };
+        };
 
-            if (!contents.containsKey(product)) { // If we are adding a new product, the possible Reactions will change
-                shouldRefreshPossibleReactions = true;
+        CompiledReactionNetwork.Terms products = reactionNetwork.getProducts();
+        for (int term = products.getStart(reaction); term < products.getEnd(reaction); term++) {
+            float change = molesPerLiter * products.getCoefficient(term);
+            if (products.getSlot(term) >= 0) { // If the product is already in the Mixture, just increase its concentration
+                changeConcentrationAtSlot(products.getSlot(term), change);
+            } else {
+                shouldRefreshPossibleReactions |= addProduct(products.getSpecies(term), change);
             };
-            changeConcentrationOf(product, molesPerLiter * reaction.getProductMolarRatio(product), false); // Increase the concentration of the product
         };
 
-        heat(-reaction.getEnthalpyChange() * 1000 * molesPerLiter);
-        incrementReactionResults(reaction, molesPerLiter);
+        heat(-reactionNetwork.getEnthalpyChange(reaction) * 1000 * molesPerLiter);
+        incrementReactionResults(reactionNetwork.getReaction(reaction), molesPerLiter);
 
         return shouldRefreshPossibleReactions;
     };
@@ -779,14 +982,11 @@ public class LegacyMixture extends ReadOnlyMixture {
     };
 
     /**
-     * Get the heat capacity (in joules per bucket-kelvin) of this Mixture. Probably best to cache this instead of calling it repeatedly.
+     * Get the heat capacity (in joules per bucket-kelvin) of this Mixture. This is {@link SpeciesIndex#getVolumetricHeatCapacity kept up to date}
+     * as the contents change, so is cheap to call repeatedly.
      */
     public float getVolumetricHeatCapacity() {
-        float totalHeatCapacity = 0f;
-        for (Entry<LegacySpecies, Float> entry : contents.entrySet()) {
-            totalHeatCapacity += entry.getKey().getMolarHeatCapacity() * entry.getValue();
-        };
-        return totalHeatCapacity;
+        return speciesIndex.getVolumetricHeatCapacity();
     };
 
     /**
@@ -796,7 +996,8 @@ public class LegacyMixture extends ReadOnlyMixture {
     protected void updateNextBoilingPoints(boolean ignoreCurrentTemperature) {
         nextHigherBoilingPoint = Pair.of(Float.MAX_VALUE, null);
         nextLowerBoilingPoint = Pair.of(0f, null);
-        for (LegacySpecies molecule : contents.keySet()) {
+        for (int slot = 0; slot < speciesIndex.size(); slot++) {
+            LegacySpecies molecule = speciesIndex.getSpecies(slot);
             float bp = molecule.getBoilingPoint();
             if (bp < temperature || (bp == temperature && !ignoreCurrentTemperature)) {
                 if (bp > nextLowerBoilingPoint.getFirst()) nextLowerBoilingPoint = Pair.of(bp, molecule);
@@ -830,7 +1031,10 @@ public class LegacyMixture extends ReadOnlyMixture {
             return false;
         };
 
-        if (!molecule.isNovel()) super.addMolecule(molecule, concentration);
+        if (!molecule.isNovel()) {
+            super.addMolecule(molecule, concentration);
+            possibleReactionManager.componentAdded(molecule);
+        };
 
         List<LegacyFunctionalGroup<?>> functionalGroups = molecule.getFunctionalGroups();
         if (functionalGroups.size() != 0) {
@@ -852,6 +1056,7 @@ public class LegacyMixture extends ReadOnlyMixture {
             if (!found) {
                 super.addMolecule(molecule, concentration);
                 novelMolecules.add(molecule); // If it was actually a brand new Molecule, add it to the novel list
+                possibleReactionManager.componentAdded(molecule);
             };
             if (newMoleculeAdded) {
                 reactionResults.put(new NovelCompoundSynthesizedReactionResult(0f, null, molecule), 1f);
@@ -882,6 +1087,7 @@ public class LegacyMixture extends ReadOnlyMixture {
      * @return This Mixture
      */
     private LegacyMixture removeMolecule(LegacySpecies molecule) {
+        resetImplicitSolver();
 
         List<LegacyFunctionalGroup<?>> functionalGroups = molecule.getFunctionalGroups();
         if (functionalGroups.size() != 0) {
@@ -894,6 +1100,7 @@ public class LegacyMixture extends ReadOnlyMixture {
         if (molecule.isNovel()) novelMolecules.remove(molecule);
 
         contents.remove(molecule);
+        possibleReactionManager.componentRemoved(molecule);
         equilibrium = false; // As we have removed a Molecule the position of equilibrium is likely to change
         updateNextBoilingPoints();
 
@@ -908,19 +1115,42 @@ public class LegacyMixture extends ReadOnlyMixture {
      * @param shouldRefreshReactions Whether to alter the possible {@link LegacyReaction Reactions} in the case that a new Molecule is added to the Mixture (should almost always be {@code true})
      */
     private LegacyMixture changeConcentrationOf(LegacySpecies molecule, float change, boolean shouldRefreshReactions) {
-        Float currentConcentration = getConcentrationOf(molecule);
+        int slot = speciesIndex.getSlot(molecule);
+        float currentConcentration = slot < 0 ? 0f : speciesIndex.getConcentration(slot);
 
-        if (!contents.containsKey(molecule) && change > 0f) internalAddMolecule(molecule, change, shouldRefreshReactions);
+        if (slot < 0 && change > 0f) {
+            internalAddMolecule(molecule, change, shouldRefreshReactions);
+            slot = speciesIndex.getSlot(molecule); // Novel Molecules may have been merged with an existing one, in which case this is still -1
+        };
 
         if (currentConcentration <= 0f && change < 0f) throw new IllegalArgumentException("Attempted to decrease concentration of Molecule '" + molecule.getFullID()+"', which was not in a Mixture. The Mixture contains " + getContentsString());
 
         float newConcentration = Math.max(currentConcentration + change, 0f);
-        contents.replace(molecule, newConcentration);
+        if (slot >= 0) speciesIndex.setConcentration(slot, newConcentration);
         if (newConcentration <= 0f) moleculesToRemove.put(molecule, 10); // Mark this Molecule as imminent for removal - but don't actually remove it in case it gets added back soon
         if (newConcentration > 0f) moleculesToRemove.remove(molecule); // This molecule no longer needs to be removed if it was going to be
         return this;
     };
 
+    /**
+     * Alters the concentration of a {@link LegacySpecies} which is already in this Mixture.
+     * @param slot The slot of the Molecule in the {@link ReadOnlyMixture#speciesIndex species index}
+     * @param change The <em>change</em> in concentration, not the new value (can be positive or negative)
+     * @see LegacyMixture#changeConcentrationOf
+     */
+    private void changeConcentrationAtSlot(int slot, float change) {
+        float currentConcentration = speciesIndex.getConcentration(slot);
+        if (currentConcentration <= 0f && change < 0f) throw new IllegalArgumentException("Attempted to decrease concentration of Molecule '" + speciesIndex.getSpecies(slot).getFullID()+"', which was not in a Mixture. The Mixture contains " + getContentsString());
+
+        float newConcentration = Math.max(currentConcentration + change, 0f);
+        speciesIndex.setConcentration(slot, newConcentration);
+        if (newConcentration <= 0f) {
+            moleculesToRemove.put(speciesIndex.getSpecies(slot), 10); // Mark this Molecule as imminent for removal
+        } else if (!moleculesToRemove.isEmpty()) {
+            moleculesToRemove.remove(speciesIndex.getSpecies(slot)); // This molecule no longer needs to be removed if it was going to be
+        };
+    };
+
     /**
      * Get the rate - in moles of Reaction per Bucket <em>per tick</em> (not per second) - at which this {@link LegacyReaction} will proceed in this Mixture.
      * @param reaction
@@ -938,121 +1168,11 @@ public class LegacyMixture extends ReadOnlyMixture {
      * Determine all {@link LegacyReaction Reactions} - including {@link GenericReactions Generic Reactions} that are possible with the {@link LegacySpecies Molecules} in this Mixture,
      * and update the {@link LegacyMixture#possibleReactions stored possible Reactions} accordingly.
      * This should be called whenever new Molecules have been {@link LegacyMixture#addMolecule added} to the Mixture, or a Molecule has been removed entirely, but rarely otherwise.
+     * Generic Reactions are only generated for Molecules which are new since the last refresh.
      */
     private void refreshPossibleReactions() {
-        possibleReactions = new ArrayList<>();
-        Set<LegacyReaction> newPossibleReactions = new HashSet<>();
-
-        // Generate specific Generic Reactions
-        for (LegacyFunctionalGroupType<?> groupType : groupIDsAndMolecules.keySet()) { // Only search for Generic Reactions of Groups present in this Molecule
-            checkEachGenericReaction: for (GenericReaction genericReaction : LegacyFunctionalGroup.getReactionsOfGroupByID(groupType)) {
-
-                if (!genericReaction.isPossibleIn(this)) continue checkEachGenericReaction;
-
-                if (genericReaction.involvesSingleGroup()) { // Generic Reactions involving only one functional Group
-                    newPossibleReactions.addAll(specifySingleGroupGenericReactions(genericReaction, groupIDsAndMolecules.get(groupType)));
-                
-                } else { // Generic Reactions involving two functional Groups
-                    if (!(genericReaction instanceof DoubleGroupGenericReaction<?, ?> dggr)) continue checkEachGenericReaction; // This check should never fail
-                    if (groupType != dggr.getFirstGroupType()) continue checkEachGenericReaction; // Only generate Reactions when we're dealing with the first Group type
-                    
-                    LegacyFunctionalGroupType<?> secondGroupType = dggr.getSecondGroupType();
-                    if (!groupIDsAndMolecules.keySet().contains(secondGroupType)) continue checkEachGenericReaction; // We can't do this generic reaction if we only have one group type
-                    
-                    List<Pair<GenericReactant<?>, GenericReactant<?>>> reactantPairs = new ArrayList<>();
-                    for (GenericReactant<?> firstGenericReactant : groupIDsAndMolecules.get(groupType)) {
-                        for (GenericReactant<?> secondGenericReactant : groupIDsAndMolecules.get(secondGroupType)) {
-                            reactantPairs.add(Pair.of(firstGenericReactant, secondGenericReactant));
-                        };
-                    };
-
-                    newPossibleReactions.addAll(specifyDoubleGroupGenericReactions(dggr, reactantPairs));
-                };
-            };
-        };
-
-        //All Reactions
-        for (LegacySpecies possibleReactant : contents.keySet()) {
-            newPossibleReactions.addAll(possibleReactant.getReactantReactions());
-        };
-        for (LegacyReaction reaction : newPossibleReactions) {
-            //possibleReactions.add(reaction);
-
-            /* 
-             * This checks if all necessary Reactants were present before proceeding, however this leads to some infinite loops
-             * where one half of a reversible Reaction would happen one tick, then the other one the next, etc.
-             */ 
-            boolean reactionHasAllReactants = true;
-            for (LegacySpecies necessaryReactantOrCatalyst : reaction.getOrders().keySet()) {
-                if (getConcentrationOf(necessaryReactantOrCatalyst) == 0) {
-                    reactionHasAllReactants = false;
-                    break;
-                };
-            };
-            if (reactionHasAllReactants) {
-                possibleReactions.add(reaction);
-            };
-        };
-
-    };
-
-    /**
-     * Given a {@link SingleGroupGenericReaction Generic Reaction} involving only one {@link LegacyFunctionalGroup functional Group},
-     * generates the specified {@link LegacyReaction Reactions} that apply to this Mixture.
-     * 
-     * <p>For example, if the Generic Reaction supplied is the {@link com.petrolpark.destroy.chemistry.legacy.index.genericreaction.SaturatedCarbonHydrolysis hydration of an alkene},
-     * and <b>reactants</b> includes {@code destroy:ethene}, the returned collection will include a Reaction with {@code destroy:ethene} and {@code destroy:water} as reactants,
-     * {@code destroy:ethanol} as a product, and all the appropriate rate constants and catalysts as defined in the {@link com.petrolpark.destroy.chemistry.index.SaturatedCarbonHydrolysis.AlkeneHydration#generateReaction generator}.</p>
-     * 
-     * @param <G> <b>G</b> The Group to which this Generic Reaction applies
-     * @param genericReaction
-     * @param reactants All {@link GenericReactant Reactants} that have the Group
-     * @return A Collection of all specified Reactions
-     */
-    @SuppressWarnings("unchecked")
-    private <G extends LegacyFunctionalGroup<G>> List<LegacyReaction> specifySingleGroupGenericReactions(GenericReaction genericReaction, List<GenericReactant<?>> reactants) {
-        List<LegacyReaction> reactions = new ArrayList<>();
-        SingleGroupGenericReaction<G> singleGroupGenericReaction = (SingleGroupGenericReaction<G>) genericReaction; // Unchecked conversion
-        for (GenericReactant<?> reactant : reactants) {
-            try {
-                LegacyReaction reaction = singleGroupGenericReaction.generateReaction((GenericReactant<G>)reactant);
-                if (reaction != null) reactions.add(reaction); // Unchecked conversion
-            } catch(ChemistryException e) {
-                // Don't do anything for chemistry exceptions
-            };
-        };
-        return reactions;
-    };
-
-    /**
-     * Given a {@link DoubleGroupGenericReaction Generic Reaction} involving two {@link LegacyFunctionalGroup functional Groups},
-     * generates the specified {@link LegacyReaction Reactions} that apply to this Mixture.
-     * 
-     * <p>For example, if the Generic Reaction supplied is {@link com.petrolpark.destroy.chemistry.legacy.index.genericreaction.AcylChlorideEsterification esterification},
-     * and this this Mixture contains methanoyl chloride, ethanoyl chloride, and ethanol, the returned collection will include two Reactions, one of which makes 
-     * ethyl ethanoate and the other ethyl methanoate.</p>
-     * 
-     * @param <G1> <b>G1</b> The first Group to which this Generic Reaction applies
-     * @param <G2> <b>G2</b> The second Group to which this Generic Reaction applies
-     * @param genericReaction
-     * @param reactantPairs All possible pairs of {@link GenericReactant Reactants} in this Mixture
-     * @return A Collection of specified Reactions
-     * @see LegacyMixture#specifySingleGroupGenericReactions A more in-depth description
-     */
-    @SuppressWarnings("unchecked")
-    private <G1 extends LegacyFunctionalGroup<G1>, G2 extends LegacyFunctionalGroup<G2>> List<LegacyReaction> specifyDoubleGroupGenericReactions(GenericReaction genericReaction, List<Pair<GenericReactant<?>, GenericReactant<?>>> reactantPairs) {
-            DoubleGroupGenericReaction<G1, G2> doubleGroupGenericReaction = (DoubleGroupGenericReaction<G1, G2>) genericReaction; // Unchecked conversion
-            List<LegacyReaction> reactions = new ArrayList<>();
-            for (Pair<GenericReactant<?>, GenericReactant<?>> reactantPair : reactantPairs) {
-                if (reactantPair.getFirst().getMolecule() == reactantPair.getSecond().getMolecule()) continue; // Cannot React Molecules with themselves
-                try {
-                    LegacyReaction reaction = doubleGroupGenericReaction.generateReaction((GenericReactant<G1>)reactantPair.getFirst(), (GenericReactant<G2>)reactantPair.getSecond());
-                    if (reaction != null) reactions.add(reaction); // Unchecked conversions {
-                } catch(ChemistryException e) {
-                    // Do nothing for chemistry exceptions
-                };
-            };
-            return reactions;
+        possibleReactions = possibleReactionManager.getPossibleReactions();
+        reactionNetwork.compile(possibleReactions);
     };
 
     public static boolean areVeryClose(float f1, float f2) {
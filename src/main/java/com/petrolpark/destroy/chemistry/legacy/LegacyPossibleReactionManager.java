@@ -0,0 +1,200 @@
+package com.petrolpark.destroy.chemistry.legacy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import com.petrolpark.destroy.chemistry.api.mixture.IPossibleReactionManager;
+import com.petrolpark.destroy.chemistry.legacy.genericreaction.DoubleGroupGenericReaction;
+import com.petrolpark.destroy.chemistry.legacy.genericreaction.GenericReactant;
+import com.petrolpark.destroy.chemistry.legacy.genericreaction.GenericReaction;
+import com.petrolpark.destroy.chemistry.legacy.genericreaction.SingleGroupGenericReaction;
+
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+
+/**
+ * Keeps track of the {@link LegacyReaction Reactions} which are possible in a {@link LegacyMixture}, only generating the {@link GenericReaction Generic Reactions}
+ * which involve {@link LegacySpecies Molecules} that have just been {@link LegacyPossibleReactionManager#componentAdded added}, and only dropping those which
+ * involve Molecules that have just been {@link LegacyPossibleReactionManager#componentRemoved removed}. This means a trace intermediate appearing or disappearing
+ * does not require every Generic Reaction in the Mixture to be regenerated.
+ * <p>This is the legacy equivalent of an {@link IPossibleReactionManager}. It cannot implement that interface, as {@link LegacyReaction}s are not {@code IReaction}s.</p>
+ */
+public class LegacyPossibleReactionManager {
+
+    private final LegacyMixture mixture;
+
+    /**
+     * Every {@link LegacyReaction} which has been generated by a {@link GenericReaction} in this Mixture, and the Molecules from which it was generated.
+     */
+    private final List<GeneratedReaction> generatedReactions;
+
+    /**
+     * The {@link GenericReaction Generic Reactions} which were {@link GenericReaction#isPossibleIn possible} in the Mixture when the possible Reactions were last updated,
+     * and so for which Reactions have already been generated.
+     */
+    private final Set<GenericReaction> enabledGenericReactions;
+
+    /**
+     * Brand new {@link LegacySpecies Molecules} for which Generic Reactions have not yet been generated.
+     */
+    private final Set<LegacySpecies> addedMolecules;
+
+    public LegacyPossibleReactionManager(LegacyMixture mixture) {
+        this.mixture = mixture;
+        generatedReactions = new ArrayList<>();
+        enabledGenericReactions = new ReferenceOpenHashSet<>();
+        addedMolecules = new ReferenceOpenHashSet<>();
+    };
+
+    /**
+     * Let this manager know a brand new {@link LegacySpecies} has been added to the Mixture. Its {@link LegacyFunctionalGroup functional Groups} should already have been indexed.
+     * @param molecule
+     */
+    public void componentAdded(LegacySpecies molecule) {
+        addedMolecules.add(molecule);
+    };
+
+    /**
+     * Let this manager know a {@link LegacySpecies} has been entirely removed from the Mixture.
+     * @param molecule
+     */
+    public void componentRemoved(LegacySpecies molecule) {
+        addedMolecules.remove(molecule);
+        generatedReactions.removeIf(generatedReaction -> generatedReaction.involves(molecule));
+    };
+
+    /**
+     * Determine all {@link LegacyReaction Reactions} which are possible with the {@link LegacySpecies Molecules} in the Mixture.
+     * {@link GenericReaction Generic Reactions} are only generated for Molecules which have been {@link LegacyPossibleReactionManager#componentAdded added}
+     * since this was last called, or for all Molecules if the Generic Reaction has only just become {@link GenericReaction#isPossibleIn possible}.
+     * @return A new mutable List
+     */
+    public List<LegacyReaction> getPossibleReactions() {
+
+        // Work out which Generic Reactions are now possible
+        Set<GenericReaction> nowEnabled = new ReferenceOpenHashSet<>();
+        for (Entry<LegacyFunctionalGroupType<?>, List<GenericReactant<?>>> entry : mixture.groupIDsAndMolecules.entrySet()) { // Only search for Generic Reactions of Groups present in this Mixture
+            if (entry.getValue().isEmpty()) continue;
+            for (GenericReaction genericReaction : LegacyFunctionalGroup.getReactionsOfGroupByID(entry.getKey())) {
+                if (!genericReaction.involvesSingleGroup()) {
+                    if (!(genericReaction instanceof DoubleGroupGenericReaction<?, ?> dggr)) continue; // This check should never fail
+                    if (entry.getKey() != dggr.getFirstGroupType()) continue; // Only consider the Reaction when we're dealing with the first Group type
+                    if (getGenericReactants(dggr.getSecondGroupType()).isEmpty()) continue; // We can't do this Generic Reaction if we only have one Group type
+                };
+                if (genericReaction.isPossibleIn(mixture)) nowEnabled.add(genericReaction);
+            };
+        };
+
+        // Drop the Reactions of Generic Reactions which are no longer possible
+        enabledGenericReactions.removeIf(genericReaction -> {
+            if (nowEnabled.contains(genericReaction)) return false;
+            generatedReactions.removeIf(generatedReaction -> generatedReaction.genericReaction == genericReaction);
+            return true;
+        });
+
+        // Generate new Reactions
+        for (GenericReaction genericReaction : nowEnabled) {
+            boolean newlyEnabled = enabledGenericReactions.add(genericReaction); // If this Generic Reaction has only just become possible, generate it for every Molecule, not just the new ones
+            if (!newlyEnabled && addedMolecules.isEmpty()) continue;
+            if (genericReaction instanceof SingleGroupGenericReaction<?> sggr) {
+                for (GenericReactant<?> reactant : getGenericReactants(sggr.getGroupType())) {
+                    if (newlyEnabled || addedMolecules.contains(reactant.getMolecule())) generateSingleGroupGenericReaction(sggr, reactant);
+                };
+            } else if (genericReaction instanceof DoubleGroupGenericReaction<?, ?> dggr) {
+                List<GenericReactant<?>> firstReactants = getGenericReactants(dggr.getFirstGroupType());
+                List<GenericReactant<?>> secondReactants = getGenericReactants(dggr.getSecondGroupType());
+                for (GenericReactant<?> firstReactant : firstReactants) {
+                    boolean firstIsNew = newlyEnabled || addedMolecules.contains(firstReactant.getMolecule());
+                    for (GenericReactant<?> secondReactant : secondReactants) {
+                        if (firstIsNew || addedMolecules.contains(secondReactant.getMolecule())) generateDoubleGroupGenericReaction(dggr, firstReactant, secondReactant); // Only generate pairs which include a new Molecule
+                    };
+                };
+            };
+        };
+        addedMolecules.clear();
+
+        // Collect all Reactions
+        Set<LegacyReaction> newPossibleReactions = new ReferenceLinkedOpenHashSet<>();
+        for (GeneratedReaction generatedReaction : generatedReactions) {
+            newPossibleReactions.add(generatedReaction.reaction);
+        };
+        for (LegacySpecies possibleReactant : mixture.contents.keySet()) {
+            newPossibleReactions.addAll(possibleReactant.getReactantReactions());
+        };
+
+        List<LegacyReaction> possibleReactions = new ArrayList<>(newPossibleReactions.size());
+        checkEachReaction: for (LegacyReaction reaction : newPossibleReactions) {
+            /*
+             * This checks if all necessary Reactants were present before proceeding, however this leads to some infinite loops
+             * where one half of a reversible Reaction would happen one tick, then the other one the next, etc.
+             */
+            for (LegacySpecies necessaryReactantOrCatalyst : reaction.getOrders().keySet()) {
+                if (mixture.getConcentrationOf(necessaryReactantOrCatalyst) == 0) continue checkEachReaction;
+            };
+            possibleReactions.add(reaction);
+        };
+        return possibleReactions;
+    };
+
+    private List<GenericReactant<?>> getGenericReactants(LegacyFunctionalGroupType<?> groupType) {
+        return mixture.groupIDsAndMolecules.getOrDefault(groupType, Collections.emptyList());
+    };
+
+    /**
+     * Given a {@link SingleGroupGenericReaction Generic Reaction} involving only one {@link LegacyFunctionalGroup functional Group},
+     * generates the specified {@link LegacyReaction Reaction} that applies to the given Reactant, or gets it from the {@link LegacyInternCache intern cache} if it has been generated before.
+     *
+     * <p>For example, if the Generic Reaction supplied is the {@link com.petrolpark.destroy.chemistry.legacy.index.genericreaction.SaturatedCarbonHydrolysis hydration of an alkene},
+     * and the <b>reactant</b> is {@code destroy:ethene}, the generated Reaction will have {@code destroy:ethene} and {@code destroy:water} as reactants,
+     * {@code destroy:ethanol} as a product, and all the appropriate rate constants and catalysts as defined in the generator.</p>
+     *
+     * @param <G> <b>G</b> The Group to which this Generic Reaction applies
+     * @param genericReaction
+     * @param reactant A {@link GenericReactant Reactant} that has the Group
+     */
+    @SuppressWarnings("unchecked")
+    private <G extends LegacyFunctionalGroup<G>> void generateSingleGroupGenericReaction(SingleGroupGenericReaction<?> genericReaction, GenericReactant<?> reactant) {
+        SingleGroupGenericReaction<G> singleGroupGenericReaction = (SingleGroupGenericReaction<G>) genericReaction; // Unchecked conversion
+        LegacyReaction reaction = LegacyInternCache.getGeneratedReaction(genericReaction, reactant, null, () -> singleGroupGenericReaction.generateReaction((GenericReactant<G>)reactant)); // Unchecked conversion
+        if (reaction != null) generatedReactions.add(new GeneratedReaction(genericReaction, reactant.getMolecule(), null, reaction));
+    };
+
+    /**
+     * Given a {@link DoubleGroupGenericReaction Generic Reaction} involving two {@link LegacyFunctionalGroup functional Groups},
+     * generates the specified {@link LegacyReaction Reaction} that applies to the given pair of Reactants.
+     *
+     * <p>For example, if the Generic Reaction supplied is {@link com.petrolpark.destroy.chemistry.legacy.index.genericreaction.AcylChlorideEsterification esterification},
+     * and the Reactants are ethanoyl chloride and ethanol, the generated Reaction will make ethyl ethanoate.</p>
+     *
+     * @param <G1> <b>G1</b> The first Group to which this Generic Reaction applies
+     * @param <G2> <b>G2</b> The second Group to which this Generic Reaction applies
+     * @param genericReaction
+     * @param firstReactant
+     * @param secondReactant
+     * @see LegacyPossibleReactionManager#generateSingleGroupGenericReaction A more in-depth description
+     */
+    @SuppressWarnings("unchecked")
+    private <G1 extends LegacyFunctionalGroup<G1>, G2 extends LegacyFunctionalGroup<G2>> void generateDoubleGroupGenericReaction(DoubleGroupGenericReaction<?, ?> genericReaction, GenericReactant<?> firstReactant, GenericReactant<?> secondReactant) {
+        if (firstReactant.getMolecule() == secondReactant.getMolecule()) return; // Cannot React Molecules with themselves
+        DoubleGroupGenericReaction<G1, G2> doubleGroupGenericReaction = (DoubleGroupGenericReaction<G1, G2>) genericReaction; // Unchecked conversion
+        LegacyReaction reaction = LegacyInternCache.getGeneratedReaction(genericReaction, firstReactant, secondReactant, () -> doubleGroupGenericReaction.generateReaction((GenericReactant<G1>)firstReactant, (GenericReactant<G2>)secondReactant)); // Unchecked conversions
+        if (reaction != null) generatedReactions.add(new GeneratedReaction(genericReaction, firstReactant.getMolecule(), secondReactant.getMolecule(), reaction));
+    };
+
+    /**
+     * A {@link LegacyReaction} generated by a {@link GenericReaction}.
+     * @param genericReaction
+     * @param firstMolecule The Molecule with the (first) {@link LegacyFunctionalGroup functional Group} of the Generic Reaction
+     * @param secondMolecule The Molecule with the second functional Group, or {@code null} for {@link SingleGroupGenericReaction single-Group Generic Reactions}
+     * @param reaction
+     */
+    private static record GeneratedReaction(GenericReaction genericReaction, LegacySpecies firstMolecule, LegacySpecies secondMolecule, LegacyReaction reaction) {
+
+        public boolean involves(LegacySpecies molecule) {
+            return firstMolecule == molecule || secondMolecule == molecule;
+        };
+    };
+};
@@ -106,6 +106,10 @@ public class LegacySpecies implements INameableProduct {
      * The {@link LegacySpeciesTag tags} which apply to this Molecule.
      */
     private Set<LegacySpeciesTag> tags;
+    /**
+     * What this Molecule does when released, worked out from its {@link LegacySpecies#tags tags} the first time it is needed.
+     */
+    private LegacySpeciesHazards hazards;
 
     /**
      * The specific {@link LegacyReaction Reactions} in which this Molecule is a {@link LegacyReaction#getReactants reactant}.
@@ -158,11 +162,11 @@ public class LegacySpecies implements INameableProduct {
      * If given a:<ul>
      * <li>{@link LegacySpecies} {@link LegacySpecies#getFullID ID} (e.g. {@code destroy:ethanol}), gives the Molecule identified by that ID, or {@code null} if it does not exist.</li>
      * <li><a href="https://github.com/petrolpark/Destroy/wiki/FROWNS">FROWNS</a> code (e.g. {@code destroy:linear:OCO}), generates the novel Molecule with that {@link LegacyMolecularStructure}.
-     * An error will be thrown if the FROWNS code is invalid.</li>
+     * An error will be thrown if the FROWNS code is invalid. The Molecule each FROWNS code gives is {@link LegacyInternCache#getDeserializedMolecule remembered}, so this is only slow the first time.</li>
      * </ul><p>This method does not {@link LegacySpecies#getEquivalent check for pre-existing defined Molecules} of the same structure. To generate novel Molecules from a
      * FROWNS code {@code x:y} and also check if they already exist, use a {@link MoleculeBuilder Molecule Builder} with {@code .structure(Formula.deserialize(x:y))}.</p>
      * @param id ID or full FROWNS code.
-     * @return A new Molecule instance for novel Molecules; the existing Molecule object for known ones
+     * @return The interned Molecule instance for novel Molecules; the existing Molecule object for known ones
      */
     @Nullable
     public static LegacySpecies getMolecule(String id) {
@@ -172,9 +176,10 @@ public class LegacySpecies implements INameableProduct {
         LegacySpecies molecule = MOLECULES.get(id);
         if (molecule != null) return molecule;
         if (idComponents.length == 3) {
-            return new MoleculeBuilder("novel")
+            return LegacyInternCache.getDeserializedMolecule(id, () -> new MoleculeBuilder("novel")
                 .structure(LegacyMolecularStructure.deserialize(id))
-                .build();
+                .build()
+            );
         }/* else if (idComponents.length == 2) {
             return MOLECULES.get(id);
         };*/
@@ -210,17 +215,12 @@ public class LegacySpecies implements INameableProduct {
      * which are less processing-intensive.
      * <p>For example, if this Molecule has structure {@code linear:CC(=O)C} this will return {@link DestroyMolecules#ACETONE acetone}.</p>
      * <p>When Generic Reactions are making Molecules to add to {@link LegacyMixture Mixtures}, this step is done at {@link LegacyReaction} generation, not when {@link LegacyMixture#addMolecule adding}.</p>
+     * <p>Known Molecules are looked up in the {@link LegacyStructureIndex structure index} rather than checked one by one.</p>
      * @return A pre-existing Molecule object if there is a match, or this Molecule otherwise
      */
     public LegacySpecies getEquivalent() {
-        for (LegacySpecies molecule : MOLECULES.values()) {
-            if (Math.abs(getMass() - molecule.getMass()) < 0.001) { // Initially just check the masses match
-                if (structure.serialize().equals(molecule.structure.serialize())) { // Check the structures match
-                    return molecule;
-                };
-            };
-        };
-        return this;
+        LegacySpecies equivalent = LegacyStructureIndex.getEquivalent(this);
+        return equivalent == null ? this : equivalent;
     };
 
     public String getFROWNSCode() {
@@ -333,6 +333,14 @@ public class LegacySpecies implements INameableProduct {
         return tags.contains(tag);
     };
 
+    /**
+     * The Pollution this Molecule causes and the hazards it poses to Entities exposed to it.
+     */
+    public LegacySpeciesHazards getHazards() {
+        if (hazards == null) hazards = new LegacySpeciesHazards(this);
+        return hazards;
+    };
+
     /**
      * Whether this Molecule was generated by a {@link com.petrolpark.destroy.chemistry.legacy.genericreaction.GenericReaction Generic Reaction}.
      * @see LegacySpecies What a novel Molecule is
@@ -720,6 +728,7 @@ public class LegacySpecies implements INameableProduct {
         public MoleculeBuilder tag(LegacySpeciesTag ...tags) {
             for (LegacySpeciesTag tag : tags) LegacySpeciesTag.registerMoleculeToTag(molecule, tag);
             molecule.tags.addAll(List.of(tags));
+            molecule.hazards = null;
             return this;
         };
 
@@ -727,6 +736,7 @@ public class LegacySpecies implements INameableProduct {
          * Builds the {@link LegacySpecies}. This will also:<ul>
          * <li>Estimate the {@link MoleculeBuilder#boilingPoint boiling point} and {@link MoleculeBuilder#dipoleMoment dipole moment} if they were not supplied.</li>
          * <li>Check {@link LegacySpecies#MOLECULES existing Molecules} to see if a Molecule with the same {@link LegacyMolecularStructure structure} already exists.</li>
+         * <li>For novel Molecules, check the {@link LegacyInternCache intern cache} for an identical novel Molecule which has already been built.</li>
          * <li>Use all known {@link GroupFinder functional Group Finders} to identify {@link LegacyFunctionalGroup functional Groups} in the Molecule.</li>
          * </ul><p>This is the only safe way to declare a Molecule.</p>
          * @return A new Molecule instance
@@ -749,6 +759,8 @@ public class LegacySpecies implements INameableProduct {
                 if (equivalentMolecule != molecule) {
                     return equivalentMolecule;
                 };
+                LegacySpecies internedMolecule = LegacyInternCache.getNovelMolecule(molecule.getFROWNSCode()); // Share one instance of each novel Molecule between all Mixtures
+                if (internedMolecule != null) return internedMolecule;
             };
 
             double charge = 0d;
@@ -782,6 +794,8 @@ public class LegacySpecies implements INameableProduct {
                 } else {
                     MOLECULES.put(molecule.nameSpace+":"+molecule.id, molecule);
                 };
+            } else {
+                return LegacyInternCache.internNovelMolecule(molecule);
             };
 
             return molecule;
@@ -0,0 +1,71 @@
+package com.petrolpark.destroy.chemistry.legacy;
+
+import com.petrolpark.destroy.capability.Pollution.PollutionType;
+import com.petrolpark.destroy.chemistry.legacy.index.DestroyMolecules;
+
+/**
+ * What releasing a {@link LegacySpecies Molecule} into the environment does, worked out once from its {@link LegacySpeciesTag tags} and formula
+ * so that releasing and being exposed to {@link LegacyMixture Mixtures} doesn't mean checking every tag of every Molecule.
+ * @see LegacySpecies#getHazards
+ */
+public class LegacySpeciesHazards {
+
+    private static final PollutionType[] POLLUTION_TYPES = PollutionType.values();
+
+    public static final int ACUTELY_TOXIC = 1 << 0;
+    public static final int SMELLY = 1 << 1;
+    public static final int CARCINOGEN = 1 << 2;
+    public static final int LACRIMATOR = 1 << 3;
+    public static final int LEAD = 1 << 4;
+
+    /**
+     * Bit {@code n} is set if this Molecule causes the {@link PollutionType} with ordinal {@code n}.
+     */
+    public final int pollutionMask;
+    /**
+     * Bits for each of the hazards this Molecule has, e.g. {@link LegacySpeciesHazards#CARCINOGEN}.
+     */
+    public final int hazardMask;
+    /**
+     * Points of each {@link PollutionType} (indexed by ordinal) one mole of this Molecule causes.
+     */
+    private final float[] pollutionWeights;
+
+    LegacySpeciesHazards(LegacySpecies molecule) {
+        int pollutionMask = 0;
+        pollutionWeights = new float[POLLUTION_TYPES.length];
+        for (PollutionType pollutionType : POLLUTION_TYPES) {
+            if (molecule.hasTag(pollutionType.moleculeTag)) {
+                pollutionMask |= 1 << pollutionType.ordinal();
+                pollutionWeights[pollutionType.ordinal()] = 1f; // One mole of polluting Molecule = one point of Pollution
+            };
+        };
+        this.pollutionMask = pollutionMask;
+
+        int hazardMask = 0;
+        if (molecule.hasTag(DestroyMolecules.Tags.ACUTELY_TOXIC)) hazardMask |= ACUTELY_TOXIC;
+        if (molecule.hasTag(DestroyMolecules.Tags.SMELLY)) hazardMask |= SMELLY;
+        if (molecule.hasTag(DestroyMolecules.Tags.CARCINOGEN)) hazardMask |= CARCINOGEN;
+        if (molecule.hasTag(DestroyMolecules.Tags.LACRIMATOR)) hazardMask |= LACRIMATOR;
+        if (molecule.getMolecularFormula().containsKey(LegacyElement.LEAD)) hazardMask |= LEAD;
+        this.hazardMask = hazardMask;
+    };
+
+    public boolean pollutes() {
+        return pollutionMask != 0;
+    };
+
+    public boolean has(int hazard) {
+        return (hazardMask & hazard) != 0;
+    };
+
+    /**
+     * Add the Pollution caused by some moles of this Molecule to a running total.
+     * @param moles
+     * @param pollution Indexed by {@link PollutionType#ordinal ordinal}
+     */
+    public void addPollution(float moles, float[] pollution) {
+        if (pollutionMask == 0) return;
+        for (int i = 0; i < pollutionWeights.length; i++) pollution[i] += moles * pollutionWeights[i];
+    };
+};
@@ -1,9 +1,8 @@
 package com.petrolpark.destroy.chemistry.legacy;
 
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import net.minecraft.network.chat.Component;
 import net.minecraft.network.chat.Style;
@@ -18,8 +17,12 @@ public class LegacySpeciesTag {
 
     private int color;
 
-    public static final Map<String, LegacySpeciesTag> MOLECULE_TAGS = new HashMap<>();
-    public static final Map<LegacySpeciesTag, Set<LegacySpecies>> MOLECULES_WITH_TAGS = new HashMap<>();
+    public static final Map<String, LegacySpeciesTag> MOLECULE_TAGS = new ConcurrentHashMap<>();
+    /**
+     * Every Molecule with each tag. Novel Molecules are registered here when they are built, which can happen on any thread
+     * (for example while {@link com.petrolpark.destroy.recipe.BasinReactionSimulator simulating Basins}), so this and its sets are concurrent.
+     */
+    public static final Map<LegacySpeciesTag, Set<LegacySpecies>> MOLECULES_WITH_TAGS = new ConcurrentHashMap<>();
 
     public LegacySpeciesTag(String nameSpace, String id) { //TODO replace with proper registry
         this.nameSpace = nameSpace;
@@ -34,8 +37,7 @@ public class LegacySpeciesTag {
     };
 
     public static void registerMoleculeToTag(LegacySpecies molecule, LegacySpeciesTag moleculeTag) {
-        MOLECULES_WITH_TAGS.putIfAbsent(moleculeTag, new HashSet<>());
-        MOLECULES_WITH_TAGS.get(moleculeTag).add(molecule);
+        MOLECULES_WITH_TAGS.computeIfAbsent(moleculeTag, tag -> ConcurrentHashMap.newKeySet()).add(molecule);
     };
 
     public String getId() {
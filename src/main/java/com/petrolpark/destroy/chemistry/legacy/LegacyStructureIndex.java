@@ -0,0 +1,117 @@
+package com.petrolpark.destroy.chemistry.legacy;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+import com.petrolpark.destroy.Destroy;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+
+/**
+ * An index of all {@link LegacySpecies#MOLECULES known Molecules} by their <a href="https://github.com/petrolpark/Destroy/wiki/FROWNS">FROWNS</a> code,
+ * so {@link LegacySpecies#getEquivalent finding the known equivalent} of a novel Molecule does not need to check every known Molecule.
+ * <p>Molecules are first bucketed by mass. If there is no known Molecule of the right mass, the (relatively expensive) FROWNS code of the novel
+ * Molecule does not need to be generated at all.</p>
+ * <p>The index is {@link LegacyStructureIndex#rebuild rebuilt} once all Molecules have been registered, and again whenever the number of known
+ * Molecules has changed since (for example because another mod registered some later).</p>
+ */
+public class LegacyStructureIndex {
+
+    /**
+     * The system property which, if {@code true}, makes Destroy {@link LegacyStructureIndex#benchmark benchmark} this index when it starts.
+     */
+    public static final String BENCHMARK_PROPERTY = "destroy.benchmarkStructureIndex";
+
+    /**
+     * The width of each mass bucket, in grams per mole. This is wider than the tolerance with which masses are compared, so a Molecule only ever needs
+     * to check the buckets either side of that tolerance.
+     */
+    private static final float BUCKET_WIDTH = 0.1f;
+    private static final float MASS_TOLERANCE = 0.001f;
+
+    private static volatile LegacyStructureIndex INSTANCE = new LegacyStructureIndex(0, new Int2ObjectOpenHashMap<>());
+
+    /**
+     * The number of {@link LegacySpecies#MOLECULES known Molecules} when this index was built.
+     */
+    private final int moleculeCount;
+    private final Int2ObjectMap<Map<String, LegacySpecies>> buckets;
+
+    private LegacyStructureIndex(int moleculeCount, Int2ObjectMap<Map<String, LegacySpecies>> buckets) {
+        this.moleculeCount = moleculeCount;
+        this.buckets = buckets;
+    };
+
+    /**
+     * Index all currently {@link LegacySpecies#MOLECULES known Molecules}. This should be called once all Molecules have been registered.
+     */
+    public static synchronized void rebuild() {
+        long startTime = System.nanoTime();
+        Collection<LegacySpecies> molecules = LegacySpecies.MOLECULES.values();
+        Int2ObjectMap<Map<String, LegacySpecies>> buckets = new Int2ObjectOpenHashMap<>();
+        for (LegacySpecies molecule : molecules) {
+            buckets.computeIfAbsent(getBucket(molecule.getMass()), b -> new HashMap<>()).putIfAbsent(molecule.getFROWNSCode(), molecule);
+        };
+        INSTANCE = new LegacyStructureIndex(molecules.size(), buckets);
+        Destroy.LOGGER.debug("Indexed the structures of " + molecules.size() + " Molecules in " + (System.nanoTime() - startTime) / 1000000f + "ms");
+    };
+
+    /**
+     * Find the known Molecule with the same structure as the given one.
+     * @param molecule
+     * @return {@code null} if there is no such known Molecule
+     */
+    @Nullable
+    public static LegacySpecies getEquivalent(LegacySpecies molecule) {
+        LegacyStructureIndex index = INSTANCE;
+        if (index.moleculeCount != LegacySpecies.MOLECULES.size()) {
+            rebuild();
+            index = INSTANCE;
+        };
+        float mass = molecule.getMass();
+        Map<String, LegacySpecies> lowerBucket = index.buckets.get(getBucket(mass - MASS_TOLERANCE));
+        Map<String, LegacySpecies> upperBucket = index.buckets.get(getBucket(mass + MASS_TOLERANCE)); // This is usually the same bucket
+        if (lowerBucket == null && upperBucket == null) return null; // Don't bother working out the FROWNS code if no known Molecule even has the right mass
+        String FROWNS = molecule.getFROWNSCode();
+        LegacySpecies equivalent = lowerBucket == null ? null : lowerBucket.get(FROWNS);
+        if (equivalent == null && upperBucket != null && upperBucket != lowerBucket) equivalent = upperBucket.get(FROWNS);
+        return equivalent;
+    };
+
+    private static int getBucket(float mass) {
+        return (int)Math.floor(mass / BUCKET_WIDTH);
+    };
+
+    /**
+     * Compare how long it takes to find the equivalent of every known Molecule by checking every known Molecule, and with this index.
+     * This is only run when the game is launched with {@code -Ddestroy.benchmarkStructureIndex=true}, and the index must already be {@link LegacyStructureIndex#rebuild built}.
+     */
+    public static void benchmark() {
+        Collection<LegacySpecies> molecules = LegacySpecies.MOLECULES.values();
+
+        long startTime = System.nanoTime();
+        int linearMatches = 0;
+        for (LegacySpecies molecule : molecules) {
+            for (LegacySpecies knownMolecule : molecules) {
+                if (Math.abs(molecule.getMass() - knownMolecule.getMass()) < MASS_TOLERANCE && molecule.getFROWNSCode().equals(knownMolecule.getFROWNSCode())) {
+                    linearMatches++;
+                    break;
+                };
+            };
+        };
+        long linearTime = System.nanoTime() - startTime;
+
+        startTime = System.nanoTime();
+        int indexedMatches = 0;
+        for (LegacySpecies molecule : molecules) {
+            if (getEquivalent(molecule) != null) indexedMatches++;
+        };
+        long indexedTime = System.nanoTime() - startTime;
+
+        Destroy.LOGGER.info("Found the equivalents of " + molecules.size() + " Molecules in " + linearTime / 1000000f + "ms by checking every Molecule (" + linearMatches + " matches) and " + indexedTime / 1000000f + "ms with the structure index (" + indexedMatches + " matches)");
+    };
+};
@@ -0,0 +1,179 @@
+package com.petrolpark.destroy.chemistry.legacy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.petrolpark.destroy.Destroy;
+
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.DecoderException;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.minecraft.nbt.ByteArrayTag;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.network.FriendlyByteBuf;
+
+/**
+ * The contents of a {@link ReadOnlyMixture Mixture} packed into a single {@link ByteArrayTag}, rather than a list of Compound Tags with a String key for every value.
+ * Mixture tags are in every Mixture Fluid packet, Item and saved Block Entity, so this makes them much smaller and quicker to read and write.
+ * <p>The format is:<ul>
+ * <li>A version byte</li>
+ * <li>A palette of the name spaces of the known Molecules, as a var-int count followed by that many Strings</li>
+ * <li>A var-int count of Molecules, then for each one:<ul>
+ *  <li>A flags byte ({@link PackedMixtureContents#NOVEL} and {@link PackedMixtureContents#HAS_STATE})</li>
+ *  <li>For known Molecules, the var-int index of their name space in the palette and their ID without it, which is looked up straight in the {@link LegacySpecies#MOLECULES register}.
+ *  For novel Molecules, their FROWNS code</li>
+ *  <li>The concentration as a float</li>
+ *  <li>The proportion which is gaseous as a float, only if it's not obvious from the temperature</li>
+ * </ul></li>
+ * </ul></p>
+ * <p>Mixture tags written before this format existed (with a {@code Contents} list) can still be {@link PackedMixtureContents#read read}.
+ * The two formats can be compared with {@link com.petrolpark.destroy.commands.MixtureTagBenchmarkCommand /benchmarkmixturetags}.</p>
+ */
+public class PackedMixtureContents {
+
+    public static final String TAG_KEY = "PackedContents";
+    public static final String LEGACY_TAG_KEY = "Contents";
+
+    private static final byte VERSION = 1;
+
+    private static final byte NOVEL = 1 << 0;
+    private static final byte HAS_STATE = 1 << 1;
+
+    /**
+     * Pack the contents of a Mixture into the given Mixture tag.
+     * @param mixtureTag
+     * @param contents Molecules mapped to their concentrations. Molecules with no concentration are left out
+     * @param states Molecules mapped to the proportion of them which is gaseous
+     */
+    public static void write(CompoundTag mixtureTag, Map<LegacySpecies, Float> contents, Map<LegacySpecies, Float> states) {
+        List<LegacySpecies> molecules = new ArrayList<>(contents.size());
+        Object2IntMap<String> nameSpaces = new Object2IntOpenHashMap<>();
+        List<String> nameSpacePalette = new ArrayList<>(1);
+        for (Map.Entry<LegacySpecies, Float> entry : contents.entrySet()) {
+            if (entry.getValue() <= 0f) continue;
+            LegacySpecies molecule = entry.getKey();
+            molecules.add(molecule);
+            if (!molecule.isNovel() && !nameSpaces.containsKey(molecule.nameSpace)) {
+                nameSpaces.put(molecule.nameSpace, nameSpacePalette.size());
+                nameSpacePalette.add(molecule.nameSpace);
+            };
+        };
+
+        FriendlyByteBuf buffer = new FriendlyByteBuf(Unpooled.buffer(16 + 16 * molecules.size()));
+        buffer.writeByte(VERSION);
+        buffer.writeVarInt(nameSpacePalette.size());
+        for (String nameSpace : nameSpacePalette) buffer.writeUtf(nameSpace);
+        buffer.writeVarInt(molecules.size());
+        for (LegacySpecies molecule : molecules) {
+            Float state = states.get(molecule);
+            boolean hasState = state != null && state != 0f && state != 1f; // Only write the state if it's not obvious from the temperature
+            buffer.writeByte((molecule.isNovel() ? NOVEL : 0) | (hasState ? HAS_STATE : 0));
+            if (molecule.isNovel()) {
+                buffer.writeUtf(molecule.getFullID());
+            } else {
+                buffer.writeVarInt(nameSpaces.getInt(molecule.nameSpace));
+                buffer.writeUtf(molecule.getFullID().substring(molecule.nameSpace.length() + 1));
+            };
+            buffer.writeFloat(contents.get(molecule));
+            if (hasState) buffer.writeFloat(state);
+        };
+
+        byte[] bytes = new byte[buffer.readableBytes()];
+        buffer.readBytes(bytes);
+        mixtureTag.put(TAG_KEY, new ByteArrayTag(bytes));
+        mixtureTag.remove(LEGACY_TAG_KEY);
+    };
+
+    /**
+     * Write the contents of a Mixture into the given Mixture tag in the legacy format, as a list of Compound Tags.
+     * This is only kept so the two formats can be {@link com.petrolpark.destroy.commands.MixtureTagBenchmarkCommand compared}.
+     * @param mixtureTag
+     * @param contents Molecules mapped to their concentrations. Molecules with no concentration are left out
+     * @param states Molecules mapped to the proportion of them which is gaseous
+     */
+    @Deprecated
+    public static void writeLegacy(CompoundTag mixtureTag, Map<LegacySpecies, Float> contents, Map<LegacySpecies, Float> states) {
+        ListTag list = new ListTag();
+        for (Map.Entry<LegacySpecies, Float> entry : contents.entrySet()) {
+            if (entry.getValue() <= 0f) continue;
+            CompoundTag moleculeTag = new CompoundTag();
+            moleculeTag.putString("Molecule", entry.getKey().getFullID());
+            moleculeTag.putFloat("Concentration", entry.getValue());
+            Float state = states.get(entry.getKey());
+            if (state != null && state != 0f && state != 1f) moleculeTag.putFloat("Gaseous", state); // Only put the state if it's not obvious from the temperature
+            list.add(moleculeTag);
+        };
+        mixtureTag.put(LEGACY_TAG_KEY, list);
+        mixtureTag.remove(TAG_KEY);
+    };
+
+    /**
+     * Read the contents of a Mixture tag, whether they are packed or in the legacy format.
+     * Molecules which no longer exist are skipped, and packed contents which are corrupt are read as far as they can be.
+     * @param mixtureTag
+     * @param consumer
+     */
+    public static void read(CompoundTag mixtureTag, MoleculeConsumer consumer) {
+        if (mixtureTag.contains(TAG_KEY, Tag.TAG_BYTE_ARRAY)) {
+            readPacked(mixtureTag.getByteArray(TAG_KEY), consumer);
+        } else {
+            readLegacy(mixtureTag.getList(LEGACY_TAG_KEY, Tag.TAG_COMPOUND), consumer);
+        };
+    };
+
+    private static void readPacked(byte[] bytes, MoleculeConsumer consumer) {
+        FriendlyByteBuf buffer = new FriendlyByteBuf(Unpooled.wrappedBuffer(bytes));
+        try {
+            byte version = buffer.readByte();
+            if (version != VERSION) {
+                Destroy.LOGGER.warn("Unknown packed Mixture version "+version);
+                return;
+            };
+            String[] nameSpacePalette = new String[buffer.readVarInt()];
+            for (int i = 0; i < nameSpacePalette.length; i++) nameSpacePalette[i] = buffer.readUtf();
+            int count = buffer.readVarInt();
+            for (int i = 0; i < count; i++) {
+                byte flags = buffer.readByte();
+                LegacySpecies molecule;
+                if ((flags & NOVEL) != 0) {
+                    molecule = LegacySpecies.getMolecule(buffer.readUtf());
+                } else {
+                    String id = nameSpacePalette[buffer.readVarInt()] + ":" + buffer.readUtf();
+                    molecule = LegacySpecies.MOLECULES.get(id);
+                    if (molecule == null) Destroy.LOGGER.warn("Could not find Molecule '"+id+"'.");
+                };
+                float concentration = buffer.readFloat();
+                float state = (flags & HAS_STATE) != 0 ? buffer.readFloat() : Float.NaN;
+                if (molecule != null) consumer.accept(molecule, concentration, state);
+            };
+        } catch (IndexOutOfBoundsException e) {
+            Destroy.LOGGER.warn("Truncated packed Mixture", e);
+        } catch (DecoderException e) {
+            Destroy.LOGGER.warn("Corrupt packed Mixture", e);
+        };
+    };
+
+    private static void readLegacy(ListTag contents, MoleculeConsumer consumer) {
+        for (Tag tag : contents) {
+            CompoundTag moleculeTag = (CompoundTag)tag;
+            LegacySpecies molecule = LegacySpecies.getMolecule(moleculeTag.getString("Molecule"));
+            if (molecule == null) continue;
+            consumer.accept(molecule, moleculeTag.getFloat("Concentration"), moleculeTag.contains("Gaseous", Tag.TAG_FLOAT) ? moleculeTag.getFloat("Gaseous") : Float.NaN);
+        };
+    };
+
+    @FunctionalInterface
+    public static interface MoleculeConsumer {
+
+        /**
+         * @param molecule
+         * @param concentration In moles per Bucket
+         * @param state The proportion of the Molecule which is gaseous, or {@code NaN} if this wasn't stored because it's obvious from the temperature
+         */
+        public void accept(LegacySpecies molecule, float concentration, float state);
+    };
+};
@@ -3,7 +3,6 @@ package com.petrolpark.destroy.chemistry.legacy;
 import java.text.DecimalFormat;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -16,11 +15,9 @@ import com.petrolpark.destroy.Destroy;
 import com.petrolpark.destroy.chemistry.api.util.Constants;
 import com.petrolpark.destroy.chemistry.legacy.index.DestroyMolecules;
 import com.petrolpark.destroy.util.DestroyLang;
-import com.simibubi.create.foundation.utility.NBTHelper;
 
 import net.minecraft.ChatFormatting;
 import net.minecraft.nbt.CompoundTag;
-import net.minecraft.nbt.ListTag;
 import net.minecraft.network.chat.Component;
 
 /**
@@ -66,8 +63,15 @@ public class ReadOnlyMixture {
      */
     protected float temperature;
 
+    /**
+     * The dense storage of the concentrations and {@link ReadOnlyMixture#states states} of every {@link LegacySpecies} in this Mixture.
+     * {@link ReadOnlyMixture#contents} and {@link ReadOnlyMixture#states} are views of this.
+     */
+    protected final SpeciesIndex speciesIndex;
+
     /**
      * The {@link LegacySpecies Molecules} contained by this Mixture, mapped to their concentrations (in moles per Bucket).
+     * This is a view of the {@link ReadOnlyMixture#speciesIndex species index}.
      */
     protected Map<LegacySpecies, Float> contents;
 
@@ -75,6 +79,9 @@ public class ReadOnlyMixture {
      * The {@link LegacySpecies Molecules} in this Mixture, mapped to the proportion of which are gaseous. For example, {@code 0}
      * means this Molecule is entirely liquid or aqueous, {@code 0.5} means they are half liquid and half gaseous, and {@code 1}
      * means the Molecule is entirely gaseous in this Mixture.
+     * This is a view of the {@link ReadOnlyMixture#speciesIndex species index}, so only Molecules in the {@link ReadOnlyMixture#contents contents} can have a state.
+     * Putting the state of any other Molecule throws an {@link IllegalArgumentException} (use {@link ReadOnlyMixture#setStateIfPresent} if the Molecule might not
+     * have been added), and Molecules can only be removed through the contents.
      */
     protected Map<LegacySpecies, Float> states;
 
@@ -89,13 +96,23 @@ public class ReadOnlyMixture {
 
     public ReadOnlyMixture(float temperature) {
         translationKey = "";
-        contents = new HashMap<>();
+        speciesIndex = new SpeciesIndex();
+        contents = speciesIndex.concentrations();
         if (temperature < 0f) throw new IllegalStateException("Mixtures cannot be below 0K");
         this.temperature = temperature;
-        states = new HashMap<>();
+        states = speciesIndex.states();
         boiling = false;
     };
 
+    /**
+     * Set the {@link ReadOnlyMixture#states state} of a Molecule if it is in this Mixture. Molecules which could not be added (such as hypothetical ones) are ignored.
+     * @param molecule
+     * @param state The proportion of the Molecule which is gaseous
+     */
+    protected void setStateIfPresent(LegacySpecies molecule, float state) {
+        if (contents.containsKey(molecule)) states.put(molecule, state);
+    };
+
     /**
      * Converts this Mixture into a storeable String that can be {@link ReadOnlyMixture#readNBT parsed back} into a Mixture.
      */
@@ -105,14 +122,22 @@ public class ReadOnlyMixture {
             compound.putString("TranslationKey", translationKey);
         };
         compound.putFloat("Temperature", temperature);
-        compound.put("Contents", NBTHelper.writeCompoundList(contents.entrySet().stream().filter(e -> e.getValue() > 0f).toList(), (entry) -> {
-            CompoundTag moleculeTag = new CompoundTag();
-            moleculeTag.putString("Molecule", entry.getKey().getFullID());
-            moleculeTag.putFloat("Concentration", entry.getValue());
-            float gaseous = states.get(entry.getKey());
-            if (gaseous != 1f && gaseous != 0f) moleculeTag.putFloat("Gaseous", states.get(entry.getKey())); // Only put the state if its not obvious from the temperature
-            return moleculeTag;
-        }));
+        PackedMixtureContents.write(compound, contents, states);
+        return compound;
+    };
+
+    /**
+     * {@link ReadOnlyMixture#writeNBT Write} this Mixture with its contents in the legacy format.
+     * This is only kept so the two formats can be {@link com.petrolpark.destroy.commands.MixtureTagBenchmarkCommand compared}.
+     */
+    @Deprecated
+    public CompoundTag writeLegacyNBT() {
+        CompoundTag compound = new CompoundTag();
+        if (translationKey != null && !translationKey.isEmpty()) {
+            compound.putString("TranslationKey", translationKey);
+        };
+        compound.putFloat("Temperature", temperature);
+        PackedMixtureContents.writeLegacy(compound, contents, states);
         return compound;
     };
 
@@ -129,14 +154,11 @@ public class ReadOnlyMixture {
         };
         mixture.translationKey = compound.getString("TranslationKey"); // Set to "" if the key is not present
         if (compound.contains("Temperature")) mixture.temperature = compound.getFloat("Temperature");
-        ListTag contents = compound.getList("Contents", 10);
-        contents.forEach(tag -> {
-            CompoundTag moleculeTag = (CompoundTag) tag;
-            LegacySpecies molecule = LegacySpecies.getMolecule(moleculeTag.getString("Molecule"));
-            mixture.addMolecule(molecule, moleculeTag.getFloat("Concentration"));
-            float state = moleculeTag.getFloat("Gaseous");
+        PackedMixtureContents.read(compound, (molecule, concentration, state) -> {
+            mixture.addMolecule(molecule, concentration);
+            if (Float.isNaN(state)) state = 0f;
             if (state != 0f && state != 1f) mixture.boiling = true;
-            mixture.states.put(molecule, state);
+            mixture.setStateIfPresent(molecule, state);
         });
         mixture.updateName();
         mixture.updateColor();
@@ -196,11 +218,7 @@ public class ReadOnlyMixture {
      * @return 0 if the Mixture does not contain the given Molecule
      */
     public float getConcentrationOf(LegacySpecies molecule) {
-        if (contents.containsKey(molecule)) {
-            return contents.get(molecule);
-        } else {
-            return 0f;
-        }
+        return speciesIndex.getConcentrationOf(molecule);
     };
 
     /**
@@ -209,8 +227,8 @@ public class ReadOnlyMixture {
      */
     public float getTotalConcentration() {
         float total = 0f;
-        for (Float concentration : contents.values()) {
-            total += concentration;
+        for (int slot = 0; slot < speciesIndex.size(); slot++) {
+            total += speciesIndex.getConcentration(slot);
         };
         return total;
     };
@@ -0,0 +1,416 @@
+package com.petrolpark.destroy.chemistry.legacy;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+
+/**
+ * The storage behind the {@link ReadOnlyMixture#contents contents} and {@link ReadOnlyMixture#states states} of a {@link ReadOnlyMixture Mixture}.
+ * Every {@link LegacySpecies} in the Mixture is given a dense slot, and its concentration and the proportion of it which is gaseous are kept in
+ * primitive columns at that slot. This means reacting a Mixture does not need to box {@code float}s or hash Molecules once the slot is known.
+ * <p>Slots are stable while Molecules are only being added. Removing a Molecule moves the Molecule in the last slot into the freed one, so anything
+ * which caches slots should check the {@link SpeciesIndex#getRemovals number of removals}.</p>
+ * <p>The {@code Map} views given by {@link SpeciesIndex#concentrations()} and {@link SpeciesIndex#states()} are backed by this index, so the
+ * existing {@code Map}-based API of Mixtures keeps working.</p>
+ * <p>The {@link SpeciesIndex#getVolumetricHeatCapacity heat capacity} of the Mixture is kept up to date as concentrations change, so it never needs summing.</p>
+ */
+public class SpeciesIndex {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    /**
+     * Molecules mapped to their slots. Molecules are compared by identity, which is how {@link LegacySpecies} are compared everywhere else.
+     */
+    private final Reference2IntOpenHashMap<LegacySpecies> slots;
+
+    private LegacySpecies[] species;
+    private float[] concentrations;
+    private float[] states;
+    /**
+     * The {@link LegacySpecies#getMolarHeatCapacity molar heat capacity} of the Molecule in each slot.
+     */
+    private float[] molarHeatCapacities;
+    private int size;
+
+    /**
+     * The sum of the molar heat capacity multiplied by the concentration of every Molecule.
+     */
+    private double volumetricHeatCapacity;
+
+    /**
+     * Incremented every time a Molecule is added or removed.
+     */
+    private int structureVersion;
+    /**
+     * Incremented every time a Molecule is removed (and so slots may have moved).
+     */
+    private int removals;
+
+    private final Map<LegacySpecies, Float> concentrationsView;
+    private final Map<LegacySpecies, Float> statesView;
+
+    public SpeciesIndex() {
+        slots = new Reference2IntOpenHashMap<>(INITIAL_CAPACITY);
+        slots.defaultReturnValue(-1);
+        species = new LegacySpecies[INITIAL_CAPACITY];
+        concentrations = new float[INITIAL_CAPACITY];
+        states = new float[INITIAL_CAPACITY];
+        molarHeatCapacities = new float[INITIAL_CAPACITY];
+        size = 0;
+        volumetricHeatCapacity = 0d;
+        structureVersion = 0;
+        removals = 0;
+        concentrationsView = new ColumnView(false);
+        statesView = new ColumnView(true);
+    };
+
+    /**
+     * The number of Molecules in this index.
+     */
+    public int size() {
+        return size;
+    };
+
+    /**
+     * The slot of the given Molecule.
+     * @param molecule
+     * @return {@code -1} if the Molecule is not in this index
+     */
+    public int getSlot(LegacySpecies molecule) {
+        if (molecule == null) return -1;
+        return slots.getInt(molecule);
+    };
+
+    public boolean contains(LegacySpecies molecule) {
+        return getSlot(molecule) >= 0;
+    };
+
+    /**
+     * Give the Molecule a slot, if it does not already have one.
+     * @param molecule
+     * @return The slot of the Molecule
+     */
+    public int add(LegacySpecies molecule) {
+        int slot = slots.getInt(molecule);
+        if (slot >= 0) return slot;
+        if (size == species.length) {
+            int newCapacity = species.length * 2;
+            species = Arrays.copyOf(species, newCapacity);
+            concentrations = Arrays.copyOf(concentrations, newCapacity);
+            states = Arrays.copyOf(states, newCapacity);
+            molarHeatCapacities = Arrays.copyOf(molarHeatCapacities, newCapacity);
+        };
+        slot = size++;
+        species[slot] = molecule;
+        concentrations[slot] = 0f;
+        states[slot] = 0f;
+        molarHeatCapacities[slot] = molecule.getMolarHeatCapacity();
+        slots.put(molecule, slot);
+        structureVersion++;
+        return slot;
+    };
+
+    /**
+     * Remove the Molecule from this index, moving the Molecule in the last slot into its slot.
+     * @param molecule
+     * @return Whether the Molecule was in this index
+     */
+    public boolean remove(LegacySpecies molecule) {
+        int slot = getSlot(molecule);
+        if (slot < 0) return false;
+        removeSlot(slot);
+        return true;
+    };
+
+    private void removeSlot(int slot) {
+        slots.removeInt(species[slot]);
+        int last = --size;
+        if (last == 0) {
+            volumetricHeatCapacity = 0d; // Don't let rounding errors build up
+        } else {
+            volumetricHeatCapacity -= (double)molarHeatCapacities[slot] * concentrations[slot];
+        };
+        if (slot != last) {
+            species[slot] = species[last];
+            concentrations[slot] = concentrations[last];
+            states[slot] = states[last];
+            molarHeatCapacities[slot] = molarHeatCapacities[last];
+            slots.put(species[slot], slot);
+        };
+        species[last] = null;
+        structureVersion++;
+        removals++;
+    };
+
+    public LegacySpecies getSpecies(int slot) {
+        return species[slot];
+    };
+
+    public float getConcentration(int slot) {
+        return concentrations[slot];
+    };
+
+    /**
+     * @param molecule
+     * @return {@code 0} if the Molecule is not in this index
+     */
+    public float getConcentrationOf(LegacySpecies molecule) {
+        int slot = getSlot(molecule);
+        return slot < 0 ? 0f : concentrations[slot];
+    };
+
+    public void setConcentration(int slot, float concentration) {
+        volumetricHeatCapacity += (double)molarHeatCapacities[slot] * (concentration - concentrations[slot]);
+        concentrations[slot] = concentration;
+    };
+
+    /**
+     * Get the heat capacity (in joules per bucket-kelvin) of all the Molecules in this index.
+     * @see LegacyMixture#getVolumetricHeatCapacity
+     */
+    public float getVolumetricHeatCapacity() {
+        return (float)volumetricHeatCapacity;
+    };
+
+    private void recalculateVolumetricHeatCapacity() {
+        volumetricHeatCapacity = 0d;
+        for (int slot = 0; slot < size; slot++) volumetricHeatCapacity += (double)molarHeatCapacities[slot] * concentrations[slot];
+    };
+
+    /**
+     * Set a value in a column, keeping the heat capacity up to date if it is a concentration.
+     */
+    private void setInColumn(boolean gaseous, int slot, float value) {
+        if (gaseous) {
+            states[slot] = value;
+        } else {
+            setConcentration(slot, value);
+        };
+    };
+
+    public float getState(int slot) {
+        return states[slot];
+    };
+
+    public void setState(int slot, float state) {
+        states[slot] = state;
+    };
+
+    /**
+     * Get the version of the set of Molecules in this index, which changes every time one is added or removed.
+     */
+    public int getStructureVersion() {
+        return structureVersion;
+    };
+
+    /**
+     * Get the number of Molecules which have ever been removed from this index. If this has not changed, no slots have moved.
+     */
+    public int getRemovals() {
+        return removals;
+    };
+
+    /**
+     * Copy the concentrations of every Molecule into the given array, so they can be {@link SpeciesIndex#concentrationsMatch compared} later.
+     * @param snapshot An array to reuse, which may be {@code null}
+     * @return The given array if it was large enough, or a new one if not
+     */
+    public float[] snapshotConcentrations(float[] snapshot) {
+        if (snapshot == null || snapshot.length < size) snapshot = new float[concentrations.length];
+        System.arraycopy(concentrations, 0, snapshot, 0, size);
+        return snapshot;
+    };
+
+    /**
+     * Whether the concentrations of the first {@code snapshotSize} Molecules are {@link LegacyMixture#areVeryClose very close} to those in the snapshot.
+     * No Molecules may have been removed since the snapshot was taken.
+     * @param snapshot Taken with {@link SpeciesIndex#snapshotConcentrations}
+     * @param snapshotSize The {@link SpeciesIndex#size size} of this index when the snapshot was taken
+     */
+    public boolean concentrationsMatch(float[] snapshot, int snapshotSize) {
+        for (int slot = 0; slot < snapshotSize; slot++) {
+            if (!LegacyMixture.areVeryClose(snapshot[slot], concentrations[slot])) return false;
+        };
+        return true;
+    };
+
+    /**
+     * A view of the Molecules in this index mapped to their concentrations. Putting a new Molecule in this view gives it a slot, and removing one frees its slot.
+     */
+    public Map<LegacySpecies, Float> concentrations() {
+        return concentrationsView;
+    };
+
+    /**
+     * A view of the Molecules in this index mapped to the proportion of them which is gaseous.
+     * States can only be set for Molecules which are already in this index: putting any other Molecule in this view throws an {@link IllegalArgumentException}.
+     * Molecules can't be removed through this view, only through the {@link SpeciesIndex#concentrations() concentrations}, so {@code remove} and {@code clear}
+     * throw an {@link UnsupportedOperationException}.
+     */
+    public Map<LegacySpecies, Float> states() {
+        return statesView;
+    };
+
+    private class ColumnView extends AbstractMap<LegacySpecies, Float> {
+
+        private final boolean gaseous;
+        private final EntrySet entrySet;
+
+        private ColumnView(boolean gaseous) {
+            this.gaseous = gaseous;
+            entrySet = new EntrySet();
+        };
+
+        private float[] column() {
+            return gaseous ? states : concentrations;
+        };
+
+        @Override
+        public int size() {
+            return size;
+        };
+
+        @Override
+        public boolean isEmpty() {
+            return size == 0;
+        };
+
+        @Override
+        public boolean containsKey(Object key) {
+            return key instanceof LegacySpecies molecule && getSlot(molecule) >= 0;
+        };
+
+        @Override
+        public Float get(Object key) {
+            if (!(key instanceof LegacySpecies molecule)) return null;
+            int slot = getSlot(molecule);
+            if (slot < 0) return null;
+            return column()[slot];
+        };
+
+        @Override
+        public Float put(LegacySpecies key, Float value) {
+            if (key == null) return null;
+            int slot = getSlot(key);
+            Float oldValue = slot < 0 ? null : column()[slot];
+            if (slot < 0) {
+                if (gaseous) throw new IllegalArgumentException("Molecule '" + key.getFullID() + "' must be in the Mixture before its state can be set");
+                slot = add(key);
+            };
+            setInColumn(gaseous, slot, value);
+            return oldValue;
+        };
+
+        @Override
+        public Float remove(Object key) {
+            if (gaseous) throw new UnsupportedOperationException("Molecules can only be removed from a Mixture through its contents");
+            if (!(key instanceof LegacySpecies molecule)) return null;
+            int slot = getSlot(molecule);
+            if (slot < 0) return null;
+            Float oldValue = concentrations[slot];
+            removeSlot(slot);
+            return oldValue;
+        };
+
+        @Override
+        public void clear() {
+            if (gaseous) throw new UnsupportedOperationException("Molecules can only be removed from a Mixture through its contents");
+            while (size > 0) removeSlot(size - 1);
+        };
+
+        @Override
+        public void replaceAll(BiFunction<? super LegacySpecies, ? super Float, ? extends Float> function) {
+            float[] column = column();
+            for (int slot = 0; slot < size; slot++) {
+                column[slot] = function.apply(species[slot], column[slot]);
+            };
+            if (!gaseous) recalculateVolumetricHeatCapacity();
+        };
+
+        @Override
+        public Set<Entry<LegacySpecies, Float>> entrySet() {
+            return entrySet;
+        };
+
+        private class EntrySet extends AbstractSet<Entry<LegacySpecies, Float>> {
+
+            @Override
+            public int size() {
+                return size;
+            };
+
+            @Override
+            public Iterator<Entry<LegacySpecies, Float>> iterator() {
+                return new Iterator<>() {
+
+                    private int next = 0;
+                    private int last = -1;
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < size;
+                    };
+
+                    @Override
+                    public Entry<LegacySpecies, Float> next() {
+                        if (next >= size) throw new NoSuchElementException();
+                        last = next++;
+                        return new SlotEntry(last);
+                    };
+
+                    @Override
+                    public void remove() {
+                        if (last < 0) throw new IllegalStateException();
+                        ColumnView.this.remove(species[last]);
+                        next = last; // The Molecule from the last slot has been moved into this one, so visit it next
+                        last = -1;
+                    };
+                };
+            };
+        };
+
+        private class SlotEntry implements Entry<LegacySpecies, Float> {
+
+            private final int slot;
+
+            private SlotEntry(int slot) {
+                this.slot = slot;
+            };
+
+            @Override
+            public LegacySpecies getKey() {
+                return species[slot];
+            };
+
+            @Override
+            public Float getValue() {
+                return column()[slot];
+            };
+
+            @Override
+            public Float setValue(Float value) {
+                float oldValue = column()[slot];
+                setInColumn(gaseous, slot, value);
+                return oldValue;
+            };
+
+            @Override
+            public boolean equals(Object obj) {
+                if (!(obj instanceof Entry<?, ?> entry)) return false;
+                return getKey() == entry.getKey() && getValue().equals(entry.getValue());
+            };
+
+            @Override
+            public int hashCode() {
+                return System.identityHashCode(getKey()) ^ getValue().hashCode();
+            };
+        };
+    };
+};
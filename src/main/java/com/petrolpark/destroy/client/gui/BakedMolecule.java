@@ -0,0 +1,224 @@
+package com.petrolpark.destroy.client.gui;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.joml.Matrix3f;
+import org.joml.Matrix4f;
+import org.joml.Vector3f;
+import org.joml.Vector4f;
+
+import com.jozufozu.flywheel.core.PartialModel;
+import com.mojang.blaze3d.platform.Lighting;
+import com.mojang.blaze3d.systems.RenderSystem;
+import com.mojang.blaze3d.vertex.PoseStack;
+import com.mojang.blaze3d.vertex.VertexConsumer;
+import com.petrolpark.destroy.config.DestroyAllConfigs;
+import com.simibubi.create.foundation.gui.ILightingSettings;
+
+import it.unimi.dsi.fastutil.floats.FloatArrayList;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.gui.GuiGraphics;
+import net.minecraft.client.renderer.LightTexture;
+import net.minecraft.client.renderer.MultiBufferSource;
+import net.minecraft.client.renderer.RenderType;
+import net.minecraft.client.renderer.Sheets;
+import net.minecraft.client.renderer.texture.OverlayTexture;
+import net.minecraft.server.packs.resources.ResourceManager;
+import net.minecraft.server.packs.resources.ResourceManagerReloadListener;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraftforge.client.model.data.ModelData;
+
+/**
+ * The vertices of every Atom and Bond in a {@link MoleculeRenderer rendered Molecule}, worked out once from their models.
+ * Drawing a baked Molecule is then two batches (one for the Bonds and one for the Atoms, as they are lit differently) which only need the
+ * current pose applying, rather than one draw for every Atom and Bond.
+ * <p>Baked Molecules are {@link BakedMolecule#get remembered} by FROWNS code, forgetting the least recently drawn once there are more than
+ * {@link com.petrolpark.destroy.config.DestroyClientChemistryConfigs#bakedMoleculeCacheSize configured}. They are all forgotten when
+ * resources (and so the models) are reloaded. This should only be accessed from the render thread.</p>
+ */
+public class BakedMolecule {
+
+    public static final Listener RELOAD_LISTENER = new Listener();
+
+    private static final RenderType RENDER_TYPE = Sheets.translucentCullBlockSheet();
+    private static final BlockState AIR = Blocks.AIR.defaultBlockState();
+
+    /**
+     * Position (3), color (4), UV (2) and normal (3).
+     */
+    private static final int STRIDE = 12;
+
+    private static final Map<String, BakedMolecule> CACHE = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, BakedMolecule> eldest) {
+            return size() > DestroyAllConfigs.CLIENT.chemistry.bakedMoleculeCacheSize.get();
+        };
+    };
+
+    private final float[] atomVertices;
+    private final float[] bondVertices;
+
+    private BakedMolecule(Builder builder) {
+        atomVertices = builder.atoms.vertices.toFloatArray();
+        bondVertices = builder.bonds.vertices.toFloatArray();
+    };
+
+    /**
+     * Get the baked Molecule with the given FROWNS code, baking it if it has not been drawn recently.
+     * @param frownsCode
+     * @param baker Called with a fresh {@link Builder} if the Molecule needs baking
+     */
+    public static BakedMolecule get(String frownsCode, Consumer<Builder> baker) {
+        BakedMolecule molecule = CACHE.get(frownsCode);
+        if (molecule == null) {
+            Builder builder = new Builder();
+            baker.accept(builder);
+            molecule = new BakedMolecule(builder);
+            CACHE.put(frownsCode, molecule);
+        };
+        return molecule;
+    };
+
+    public static void clear() {
+        CACHE.clear();
+    };
+
+    /**
+     * Draw this Molecule with the current pose of the given graphics.
+     * @param graphics
+     */
+    public void render(GuiGraphics graphics) {
+        PoseStack.Pose pose = graphics.pose().last();
+        MultiBufferSource.BufferSource buffer = graphics.bufferSource();
+        RenderSystem.setShaderColor(1f, 1f, 1f, 1f);
+        RenderSystem.enableDepthTest();
+        RenderSystem.enableBlend();
+        RenderSystem.defaultBlendFunc();
+        renderBatch(pose, buffer, bondVertices, ILightingSettings.DEFAULT_FLAT::applyLighting);
+        renderBatch(pose, buffer, atomVertices, Lighting::setupFor3DItems);
+    };
+
+    private static void renderBatch(PoseStack.Pose pose, MultiBufferSource.BufferSource buffer, float[] vertices, Runnable lighting) {
+        if (vertices.length == 0) return;
+        lighting.run();
+        VertexConsumer consumer = buffer.getBuffer(RENDER_TYPE);
+        Matrix4f matrix = pose.pose();
+        Matrix3f normalMatrix = pose.normal();
+        Vector4f position = new Vector4f();
+        Vector3f normal = new Vector3f();
+        for (int i = 0; i < vertices.length; i += STRIDE) {
+            position.set(vertices[i], vertices[i + 1], vertices[i + 2], 1f);
+            matrix.transform(position);
+            normal.set(vertices[i + 9], vertices[i + 10], vertices[i + 11]);
+            normalMatrix.transform(normal);
+            consumer.vertex(position.x(), position.y(), position.z(), vertices[i + 3], vertices[i + 4], vertices[i + 5], vertices[i + 6], vertices[i + 7], vertices[i + 8], OverlayTexture.NO_OVERLAY, LightTexture.FULL_BRIGHT, normal.x(), normal.y(), normal.z());
+        };
+        buffer.endBatch(RENDER_TYPE);
+    };
+
+    /**
+     * Collects the vertices of each Atom and Bond model in a Molecule, relative to the Molecule.
+     */
+    public static class Builder {
+
+        private final RecordingVertexConsumer atoms = new RecordingVertexConsumer();
+        private final RecordingVertexConsumer bonds = new RecordingVertexConsumer();
+
+        private Builder() {};
+
+        /**
+         * Add an Atom model transformed by the given pose.
+         */
+        public void addAtom(PoseStack poseStack, PartialModel partial) {
+            add(poseStack, partial, atoms);
+        };
+
+        /**
+         * Add a Bond model transformed by the given pose.
+         */
+        public void addBond(PoseStack poseStack, PartialModel partial) {
+            add(poseStack, partial, bonds);
+        };
+
+        private static void add(PoseStack poseStack, PartialModel partial, VertexConsumer consumer) {
+            Minecraft.getInstance().getBlockRenderer().getModelRenderer().renderModel(poseStack.last(), consumer, AIR, partial.get(), 1f, 1f, 1f, LightTexture.FULL_BRIGHT, OverlayTexture.NO_OVERLAY, ModelData.EMPTY, RENDER_TYPE);
+        };
+    };
+
+    /**
+     * Stores the (already transformed) vertices of models rather than drawing them.
+     */
+    private static class RecordingVertexConsumer implements VertexConsumer {
+
+        private final FloatArrayList vertices = new FloatArrayList();
+        private final float[] vertex = new float[STRIDE];
+
+        @Override
+        public VertexConsumer vertex(double x, double y, double z) {
+            vertex[0] = (float)x;
+            vertex[1] = (float)y;
+            vertex[2] = (float)z;
+            vertex[3] = vertex[4] = vertex[5] = vertex[6] = 1f;
+            return this;
+        };
+
+        @Override
+        public VertexConsumer color(int red, int green, int blue, int alpha) {
+            vertex[3] = red / 255f;
+            vertex[4] = green / 255f;
+            vertex[5] = blue / 255f;
+            vertex[6] = alpha / 255f;
+            return this;
+        };
+
+        @Override
+        public VertexConsumer uv(float u, float v) {
+            vertex[7] = u;
+            vertex[8] = v;
+            return this;
+        };
+
+        @Override
+        public VertexConsumer overlayCoords(int u, int v) {
+            return this; // Always drawn with no overlay
+        };
+
+        @Override
+        public VertexConsumer uv2(int u, int v) {
+            return this; // Always drawn fully bright
+        };
+
+        @Override
+        public VertexConsumer normal(float x, float y, float z) {
+            vertex[9] = x;
+            vertex[10] = y;
+            vertex[11] = z;
+            return this;
+        };
+
+        @Override
+        public void endVertex() {
+            vertices.addElements(vertices.size(), vertex);
+        };
+
+        @Override
+        public void defaultColor(int red, int green, int blue, int alpha) {};
+
+        @Override
+        public void unsetDefaultColor() {};
+    };
+
+    /**
+     * Forgets every baked Molecule when resources are reloaded, as the Atom and Bond models might have changed.
+     */
+    public static class Listener implements ResourceManagerReloadListener {
+
+        @Override
+        public void onResourceManagerReload(ResourceManager resourceManager) {
+            clear();
+        };
+    };
+};
@@ -22,7 +22,6 @@ import com.petrolpark.destroy.chemistry.serializer.Branch;
 import com.petrolpark.destroy.chemistry.serializer.Edge;
 import com.petrolpark.destroy.chemistry.serializer.Node;
 import com.petrolpark.util.MathsHelper;
-import com.simibubi.create.foundation.gui.ILightingSettings;
 import com.simibubi.create.foundation.gui.element.GuiGameElement;
 import com.simibubi.create.foundation.utility.Pair;
 
@@ -32,6 +31,10 @@ import net.minecraft.world.phys.Vec3;
 public class MoleculeRenderer {
 
     protected String moleculeID;
+    /**
+     * The key under which the {@link BakedMolecule baked} Atoms and Bonds of this Molecule are remembered.
+     */
+    protected String frownsCode;
 
     /**
      * The distance from 0 to the highest X value of any rendered object.
@@ -65,6 +68,7 @@ public class MoleculeRenderer {
 
     public MoleculeRenderer(LegacySpecies molecule) {
         moleculeID = molecule.getFullID();
+        frownsCode = molecule.getFROWNSCode();
         width = 0;
         height = 0;
         xOffset = 5;
@@ -155,16 +159,25 @@ public class MoleculeRenderer {
      * Draw all Atoms and Bonds in this Molecule.
      */
     public void render(int xPosition, int yPosition, GuiGraphics graphics) {
+        BakedMolecule bakedMolecule = BakedMolecule.get(frownsCode, this::bake);
         PoseStack poseStack = graphics.pose();
         poseStack.pushPose();
         poseStack.translate(xPosition + ((float)width / 2f), yPosition + yOffset, -200);
         TransformStack.cast(poseStack)
             .rotateY(AnimationTickHolder.getRenderTime()); // Rotation
         poseStack.translate(-((float)width) / 2f + xOffset, 0f, 0f);
+        bakedMolecule.render(graphics);
+        poseStack.popPose();
+    };
+
+    /**
+     * Add the models of all Atoms and Bonds in this Molecule, in their places relative to the Molecule, to a {@link BakedMolecule}.
+     */
+    protected void bake(BakedMolecule.Builder builder) {
+        PoseStack poseStack = new PoseStack();
         for (Pair<Vec3, IRenderableMoleculePart> pair : RENDERED_OBJECTS) {
-            pair.getSecond().render(graphics, pair.getFirst());
+            pair.getSecond().bake(poseStack, pair.getFirst(), builder);
         };
-        poseStack.popPose();
     };
 
     /**
@@ -356,7 +369,11 @@ public class MoleculeRenderer {
     };
 
     protected static interface IRenderableMoleculePart {
-        public void render(GuiGraphics graphics, Vec3 location);
+
+        /**
+         * Add this part's model to a {@link BakedMolecule}, transformed to its place in the Molecule.
+         */
+        public void bake(PoseStack poseStack, Vec3 location, BakedMolecule.Builder builder);
     };
 
     protected static record BondRenderInstance(BondType type, Quaternionf rotation) implements IRenderableMoleculePart {
@@ -376,16 +393,13 @@ public class MoleculeRenderer {
         };
 
         @Override
-        public void render(GuiGraphics graphics, Vec3 location) {
-            PoseStack poseStack = graphics.pose();
+        public void bake(PoseStack poseStack, Vec3 location, BakedMolecule.Builder builder) {
             poseStack.pushPose();
             poseStack.translate(location.x, location.y, location.z);
             TransformStack.cast(poseStack)
                 .rotateCentered(rotation);
-            GuiGameElement.of(type().getPartial())
-                .lighting(ILightingSettings.DEFAULT_FLAT)
-                .scale(SCALE)
-                .render(graphics, 0, 0);
+            transformLikeGuiGameElement(poseStack);
+            builder.addBond(poseStack, type().getPartial());
             poseStack.popPose();
         };
     };
@@ -393,15 +407,20 @@ public class MoleculeRenderer {
     protected static record AtomRenderInstance(LegacyAtom atom) implements IRenderableMoleculePart {
 
         @Override
-        public void render(GuiGraphics graphics, Vec3 location) {
-            PoseStack poseStack = graphics.pose();
+        public void bake(PoseStack poseStack, Vec3 location, BakedMolecule.Builder builder) {
             poseStack.pushPose();
             poseStack.translate(location.x, location.y, location.z);
-            GuiGameElement.of(atom.getPartial())
-                .scale(SCALE)
-                //.rotate(15.5d, 22.5d, 0d)
-                .render(graphics, 0, 0);
+            transformLikeGuiGameElement(poseStack);
+            builder.addAtom(poseStack, atom.getPartial());
             poseStack.popPose();
         };
     };
+
+    /**
+     * Apply the same scaling which {@link GuiGameElement} applies to the models it renders in GUIs.
+     */
+    private static void transformLikeGuiGameElement(PoseStack poseStack) {
+        poseStack.scale((float)SCALE, (float)SCALE, (float)SCALE);
+        poseStack.scale(1f, -1f, 1f);
+    };
 };
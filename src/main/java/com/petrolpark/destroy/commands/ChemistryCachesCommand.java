@@ -0,0 +1,36 @@
+package com.petrolpark.destroy.commands;
+
+import com.google.common.cache.CacheStats;
+import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.context.CommandContext;
+import com.petrolpark.destroy.chemistry.legacy.LegacyInternCache;
+
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.network.chat.Component;
+
+/**
+ * Reports how full and how effective each of the {@link LegacyInternCache chemistry caches} is.
+ */
+public class ChemistryCachesCommand {
+
+    public ChemistryCachesCommand(CommandDispatcher<CommandSourceStack> dispatcher) {
+        dispatcher.register(Commands.literal("chemistrycaches")
+            .requires(cs -> cs.hasPermission(2))
+            .executes(ChemistryCachesCommand::report)
+        );
+    };
+
+    private static int report(CommandContext<CommandSourceStack> context) {
+        CommandSourceStack source = context.getSource();
+        source.sendSuccess(() -> Component.translatable("commands.destroy.chemistrycaches"), false);
+        reportCache(source, "novel_molecules", LegacyInternCache.getNovelMoleculeCount(), LegacyInternCache.getNovelMoleculeStats());
+        reportCache(source, "deserialized_molecules", LegacyInternCache.getDeserializedMoleculeCount(), LegacyInternCache.getDeserializedMoleculeStats());
+        reportCache(source, "generated_reactions", LegacyInternCache.getGeneratedReactionCount(), LegacyInternCache.getGeneratedReactionStats());
+        return 3;
+    };
+
+    private static void reportCache(CommandSourceStack source, String name, long size, CacheStats stats) {
+        source.sendSuccess(() -> Component.translatable("commands.destroy.chemistrycaches.cache", Component.translatable("commands.destroy.chemistrycaches.cache." + name), size, stats.hitCount(), stats.missCount(), String.format("%.1f%%", 100d * stats.hitRate()), stats.evictionCount()), false);
+    };
+};
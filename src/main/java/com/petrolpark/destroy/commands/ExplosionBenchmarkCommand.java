@@ -0,0 +1,52 @@
+package com.petrolpark.destroy.commands;
+
+import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.arguments.FloatArgumentType;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.context.CommandContext;
+import com.petrolpark.destroy.world.explosion.SmartExplosion;
+import com.petrolpark.destroy.world.explosion.SmartExplosion.ExplosionResult;
+
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.network.chat.Component;
+
+/**
+ * Compares the time {@link SmartExplosion#getExplosionResult} and the {@link SmartExplosion#getUnindexedExplosionResult original implementation}
+ * take to work out what a perfectly spherical Explosion at the command source would destroy, without actually exploding anything.
+ */
+public class ExplosionBenchmarkCommand {
+
+    public ExplosionBenchmarkCommand(CommandDispatcher<CommandSourceStack> dispatcher) {
+        dispatcher.register(Commands.literal("benchmarkexplosion")
+            .requires(cs -> cs.hasPermission(2))
+            .then(Commands.argument("radius", FloatArgumentType.floatArg(1f, 64f))
+                .executes(context -> benchmark(context, FloatArgumentType.getFloat(context, "radius"), 10))
+                .then(Commands.argument("repeats", IntegerArgumentType.integer(1, 100))
+                    .executes(context -> benchmark(context, FloatArgumentType.getFloat(context, "radius"), IntegerArgumentType.getInteger(context, "repeats")))
+                )
+            )
+        );
+    };
+
+    @SuppressWarnings("deprecation")
+    private static int benchmark(CommandContext<CommandSourceStack> context, float radius, int repeats) {
+        CommandSourceStack source = context.getSource();
+        SmartExplosion explosion = new SmartExplosion(source.getLevel(), null, null, null, source.getPosition(), radius, 0f);
+
+        ExplosionResult result = null;
+        long startTime = System.nanoTime();
+        for (int i = 0; i < repeats; i++) result = explosion.getExplosionResult();
+        long time = System.nanoTime() - startTime;
+
+        ExplosionResult unindexedResult = null;
+        startTime = System.nanoTime();
+        for (int i = 0; i < repeats; i++) unindexedResult = explosion.getUnindexedExplosionResult();
+        long unindexedTime = System.nanoTime() - startTime;
+
+        final String resultString = String.format("%.2fms, %s blocks, %s entities", time / 1000000d / repeats, result.blocksToDestroy().size(), result.entities().size());
+        final String unindexedResultString = String.format("%.2fms, %s blocks, %s entities", unindexedTime / 1000000d / repeats, unindexedResult.blocksToDestroy().size(), unindexedResult.entities().size());
+        source.sendSuccess(() -> Component.translatable("commands.destroy.explosionbenchmark", radius, repeats, resultString, unindexedResultString), true);
+        return result.blocksToDestroy().size();
+    };
+};
@@ -0,0 +1,134 @@
+package com.petrolpark.destroy.commands;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.context.CommandContext;
+import com.petrolpark.destroy.Destroy;
+import com.petrolpark.destroy.block.entity.VatControllerBlockEntity;
+import com.petrolpark.destroy.chemistry.legacy.KineticsEngine;
+import com.petrolpark.destroy.chemistry.legacy.LegacyMixture;
+import com.petrolpark.destroy.chemistry.legacy.LegacyMixture.ReactionContext;
+import com.petrolpark.destroy.chemistry.legacy.LegacyReaction;
+import com.petrolpark.destroy.chemistry.legacy.LegacySpecies;
+
+import net.minecraft.Util;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.network.chat.Component;
+
+/**
+ * Compares the error and time of each {@link KineticsEngine kinetics engine} by reacting a Mixture of the reactants of every one of Destroy's
+ * {@link LegacyReaction Reactions}, against a reference found with the {@link KineticsEngine#EXPLICIT explicit engine} and a very high simulation level.
+ * <p>This can take many seconds, so is run on a background thread (one at a time) and the result is reported back on the server thread.</p>
+ */
+public class KineticsBenchmarkCommand {
+
+    private static final int REFERENCE_CYCLES = 1000;
+
+    private static final AtomicBoolean RUNNING = new AtomicBoolean(false);
+
+    public KineticsBenchmarkCommand(CommandDispatcher<CommandSourceStack> dispatcher) {
+        dispatcher.register(Commands.literal("benchmarkkinetics")
+            .requires(cs -> cs.hasPermission(2))
+            .executes(context -> benchmark(context, 100))
+            .then(Commands.argument("ticks", IntegerArgumentType.integer(1, 1200))
+                .executes(context -> benchmark(context, IntegerArgumentType.getInteger(context, "ticks")))
+            )
+        );
+    };
+
+    private static int benchmark(CommandContext<CommandSourceStack> context, int ticks) {
+        CommandSourceStack source = context.getSource();
+        if (!RUNNING.compareAndSet(false, true)) {
+            source.sendFailure(Component.translatable("commands.destroy.kineticsbenchmark.running"));
+            return 0;
+        };
+        int cycles = VatControllerBlockEntity.getSimulationLevel(); // Read the config on the server thread
+        source.sendSuccess(() -> Component.translatable("commands.destroy.kineticsbenchmark.started", ticks), true);
+        CompletableFuture.supplyAsync(() -> benchmark(ticks, cycles), Util.backgroundExecutor())
+            .whenComplete((result, exception) -> {
+                RUNNING.set(false);
+                source.getServer().execute(() -> {
+                    if (exception != null) {
+                        Destroy.LOGGER.warn("Could not benchmark kinetics", exception);
+                        source.sendFailure(Component.translatable("commands.destroy.kineticsbenchmark.failed"));
+                    } else if (result != null) {
+                        source.sendSuccess(() -> result, true);
+                    };
+                });
+            });
+        return 1;
+    };
+
+    /**
+     * @return The message reporting the results, or {@code null} if no Reactions could be benchmarked
+     */
+    private static Component benchmark(int ticks, int cycles) {
+        ReactionContext reactionContext = new ReactionContext(List.of(), 1f, false);
+
+        int reactions = 0;
+        long explicitTime = 0l;
+        long implicitTime = 0l;
+        double explicitError = 0d;
+        double implicitError = 0d;
+
+        for (LegacyReaction reaction : LegacyReaction.REACTIONS.values()) {
+            if (!Destroy.MOD_ID.equals(reaction.getNameSpace()) || reaction.consumesItem() || !reaction.getItemReactants().isEmpty()) continue;
+            try {
+                LegacyMixture reference = startingMixture(reaction);
+                LegacyMixture explicit = startingMixture(reaction);
+                LegacyMixture implicit = startingMixture(reaction);
+
+                for (int tick = 0; tick < ticks; tick++) reference.reactForTick(reactionContext, REFERENCE_CYCLES, KineticsEngine.EXPLICIT);
+
+                long startTime = System.nanoTime();
+                for (int tick = 0; tick < ticks; tick++) explicit.reactForTick(reactionContext, cycles, KineticsEngine.EXPLICIT);
+                explicitTime += System.nanoTime() - startTime;
+
+                startTime = System.nanoTime();
+                for (int tick = 0; tick < ticks; tick++) implicit.reactForTick(reactionContext, cycles, KineticsEngine.ADAPTIVE_IMPLICIT);
+                implicitTime += System.nanoTime() - startTime;
+
+                explicitError += getError(reference, explicit);
+                implicitError += getError(reference, implicit);
+                reactions++;
+            } catch (RuntimeException e) {
+                Destroy.LOGGER.warn("Could not benchmark Reaction '" + reaction.getFullId() + "'", e);
+            };
+        };
+
+        if (reactions == 0) return null;
+        String explicitResult = String.format("%.2fms, %.3e M", explicitTime / 1000000d, explicitError / reactions);
+        String implicitResult = String.format("%.2fms, %.3e M", implicitTime / 1000000d, implicitError / reactions);
+        return Component.translatable("commands.destroy.kineticsbenchmark", reactions, ticks, cycles, explicitResult, implicitResult);
+    };
+
+    private static LegacyMixture startingMixture(LegacyReaction reaction) {
+        LegacyMixture mixture = new LegacyMixture();
+        for (LegacySpecies reactant : reaction.getOrders().keySet()) mixture.addMolecule(reactant, 1f);
+        for (LegacySpecies reactant : reaction.getReactants()) {
+            if (mixture.getConcentrationOf(reactant) == 0f) mixture.addMolecule(reactant, 1f);
+        };
+        mixture.setTemperature(298f);
+        return mixture;
+    };
+
+    /**
+     * The largest difference in the concentration of any Molecule between the two Mixtures.
+     */
+    private static double getError(LegacyMixture reference, LegacyMixture mixture) {
+        Set<LegacySpecies> molecules = new HashSet<>(reference.getContents(false));
+        molecules.addAll(mixture.getContents(false));
+        double error = 0d;
+        for (LegacySpecies molecule : molecules) {
+            error = Math.max(error, Math.abs(reference.getConcentrationOf(molecule) - mixture.getConcentrationOf(molecule)));
+        };
+        return error;
+    };
+};
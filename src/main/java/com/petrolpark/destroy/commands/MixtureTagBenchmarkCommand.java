@@ -0,0 +1,191 @@
+package com.petrolpark.destroy.commands;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.context.CommandContext;
+import com.petrolpark.destroy.Destroy;
+import com.petrolpark.destroy.chemistry.legacy.PackedMixtureContents;
+import com.petrolpark.destroy.chemistry.legacy.ReadOnlyMixture;
+
+import net.minecraft.Util;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.core.BlockPos;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.NbtIo;
+import net.minecraft.nbt.Tag;
+import net.minecraft.network.chat.Component;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.chunk.LevelChunk;
+
+/**
+ * Compares the size and the time taken to write and read the Mixture tags in a real world, with their contents in the legacy format and
+ * {@link PackedMixtureContents packed}. The Mixture tags are gathered from every Block Entity in the loaded chunks around the command source,
+ * and from the Items of the Player running it. The tags are gathered on the server thread, but the benchmark itself is run on a background thread.
+ * Both formats are written and read once untimed to warm up, and then the order in which they are timed alternates each round.
+ */
+public class MixtureTagBenchmarkCommand {
+
+    private static final AtomicBoolean RUNNING = new AtomicBoolean(false);
+
+    public MixtureTagBenchmarkCommand(CommandDispatcher<CommandSourceStack> dispatcher) {
+        dispatcher.register(Commands.literal("benchmarkmixturetags")
+            .requires(cs -> cs.hasPermission(2))
+            .executes(context -> benchmark(context, 4, 100))
+            .then(Commands.argument("radius", IntegerArgumentType.integer(0, 16))
+                .executes(context -> benchmark(context, IntegerArgumentType.getInteger(context, "radius"), 100))
+                .then(Commands.argument("repeats", IntegerArgumentType.integer(1, 1000))
+                    .executes(context -> benchmark(context, IntegerArgumentType.getInteger(context, "radius"), IntegerArgumentType.getInteger(context, "repeats")))
+                )
+            )
+        );
+    };
+
+    private static int benchmark(CommandContext<CommandSourceStack> context, int radius, int repeats) {
+        CommandSourceStack source = context.getSource();
+        List<CompoundTag> mixtureTags = gatherMixtureTags(source, radius);
+        if (mixtureTags.isEmpty()) {
+            source.sendFailure(Component.translatable("commands.destroy.mixturetagbenchmark.none", radius));
+            return 0;
+        };
+        if (!RUNNING.compareAndSet(false, true)) {
+            source.sendFailure(Component.translatable("commands.destroy.mixturetagbenchmark.running"));
+            return 0;
+        };
+        source.sendSuccess(() -> Component.translatable("commands.destroy.mixturetagbenchmark.started", mixtureTags.size()), true);
+        CompletableFuture.supplyAsync(() -> benchmark(mixtureTags, repeats), Util.backgroundExecutor())
+            .whenComplete((result, exception) -> {
+                RUNNING.set(false);
+                source.getServer().execute(() -> {
+                    if (exception != null) {
+                        Destroy.LOGGER.warn("Could not benchmark Mixture tags", exception);
+                        source.sendFailure(Component.translatable("commands.destroy.mixturetagbenchmark.failed"));
+                    } else {
+                        source.sendSuccess(() -> result, true);
+                    };
+                });
+            });
+        return mixtureTags.size();
+    };
+
+    private static List<CompoundTag> gatherMixtureTags(CommandSourceStack source, int radius) {
+        List<CompoundTag> mixtureTags = new ArrayList<>();
+        ServerLevel level = source.getLevel();
+        ChunkPos center = new ChunkPos(BlockPos.containing(source.getPosition()));
+        for (int x = center.x - radius; x <= center.x + radius; x++) {
+            for (int z = center.z - radius; z <= center.z + radius; z++) {
+                LevelChunk chunk = level.getChunkSource().getChunkNow(x, z);
+                if (chunk == null) continue;
+                for (BlockEntity blockEntity : chunk.getBlockEntities().values()) findMixtureTags(blockEntity.saveWithoutMetadata(), mixtureTags);
+            };
+        };
+        if (source.getEntity() instanceof Player player) {
+            for (int slot = 0; slot < player.getInventory().getContainerSize(); slot++) {
+                ItemStack stack = player.getInventory().getItem(slot);
+                if (stack.hasTag()) findMixtureTags(stack.getTag(), mixtureTags);
+            };
+        };
+        return mixtureTags;
+    };
+
+    private static void findMixtureTags(Tag tag, List<CompoundTag> mixtureTags) {
+        if (tag instanceof CompoundTag compound) {
+            for (String key : compound.getAllKeys()) {
+                Tag child = compound.get(key);
+                if ("Mixture".equals(key) && child instanceof CompoundTag mixtureTag && (mixtureTag.contains(PackedMixtureContents.TAG_KEY) || mixtureTag.contains(PackedMixtureContents.LEGACY_TAG_KEY))) {
+                    mixtureTags.add(mixtureTag.copy());
+                } else {
+                    findMixtureTags(child, mixtureTags);
+                };
+            };
+        } else if (tag instanceof ListTag list) {
+            for (Tag child : list) findMixtureTags(child, mixtureTags);
+        };
+    };
+
+    private static Component benchmark(List<CompoundTag> mixtureTags, int repeats) {
+        List<ReadOnlyMixture> mixtures = mixtureTags.stream().map(tag -> ReadOnlyMixture.readNBT(ReadOnlyMixture::new, tag)).toList();
+
+        // Warm up both formats without timing them, so neither absorbs the cost of loading classes and compiling
+        List<CompoundTag> legacyTags = write(mixtures, true);
+        List<CompoundTag> packedTags = write(mixtures, false);
+        read(legacyTags);
+        read(packedTags);
+
+        // Alternate which format goes first in each round, so neither is always timed on a colder cache
+        long[] legacyTimes = new long[2];
+        long[] packedTimes = new long[2];
+        for (int i = 0; i < repeats; i++) {
+            if (i % 2 == 0) {
+                legacyTags = time(mixtures, true, legacyTimes);
+                packedTags = time(mixtures, false, packedTimes);
+            } else {
+                packedTags = time(mixtures, false, packedTimes);
+                legacyTags = time(mixtures, true, legacyTimes);
+            };
+        };
+
+        String legacyResult = describe(legacyTags, legacyTimes[0], legacyTimes[1], repeats);
+        String packedResult = describe(packedTags, packedTimes[0], packedTimes[1], repeats);
+        return Component.translatable("commands.destroy.mixturetagbenchmark", mixtures.size(), repeats, legacyResult, packedResult);
+    };
+
+    /**
+     * Write and then read every Mixture in one format, adding the time taken to write to {@code times[0]} and to read to {@code times[1]}.
+     * @return The tags which were written
+     */
+    private static List<CompoundTag> time(List<ReadOnlyMixture> mixtures, boolean legacy, long[] times) {
+        long startTime = System.nanoTime();
+        List<CompoundTag> tags = write(mixtures, legacy);
+        times[0] += System.nanoTime() - startTime;
+        startTime = System.nanoTime();
+        read(tags);
+        times[1] += System.nanoTime() - startTime;
+        return tags;
+    };
+
+    @SuppressWarnings("deprecation")
+    private static List<CompoundTag> write(List<ReadOnlyMixture> mixtures, boolean legacy) {
+        List<CompoundTag> tags = new ArrayList<>(mixtures.size());
+        for (ReadOnlyMixture mixture : mixtures) tags.add(legacy ? mixture.writeLegacyNBT() : mixture.writeNBT());
+        return tags;
+    };
+
+    private static void read(List<CompoundTag> tags) {
+        for (CompoundTag tag : tags) ReadOnlyMixture.readNBT(ReadOnlyMixture::new, tag);
+    };
+
+    private static String describe(List<CompoundTag> tags, long writeTime, long readTime, int repeats) {
+        long size = 0l;
+        for (CompoundTag tag : tags) size += getSize(tag);
+        double operations = (double)tags.size() * repeats;
+        return String.format("%s bytes, %.2fμs, %.2fμs", size, writeTime / 1000d / operations, readTime / 1000d / operations);
+    };
+
+    /**
+     * The number of bytes the given tag takes up when saved.
+     */
+    private static int getSize(CompoundTag tag) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            NbtIo.write(tag, output);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        };
+        return bytes.size();
+    };
+};
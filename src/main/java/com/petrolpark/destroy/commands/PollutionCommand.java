@@ -1,8 +1,13 @@
 package com.petrolpark.destroy.commands;
 
+import java.util.Comparator;
+import java.util.Map.Entry;
+
 import com.mojang.brigadier.CommandDispatcher;
 import com.mojang.brigadier.arguments.IntegerArgumentType;
 import com.petrolpark.destroy.capability.Pollution.PollutionType;
+import com.petrolpark.destroy.util.PollutionAccumulator;
+import com.petrolpark.destroy.util.PollutionAccumulator.SourceMetrics;
 import com.petrolpark.destroy.util.PollutionHelper;
 
 import net.minecraft.commands.CommandSourceStack;
@@ -17,7 +22,14 @@ public class PollutionCommand {
     public PollutionCommand(CommandDispatcher<CommandSourceStack> dispatcher) {
         dispatcher.register(Commands.literal("pollution")
             .requires(cs -> cs.hasPermission(2))
-            .then(Commands.argument("position", BlockPosArgument.blockPos())
+            .then(Commands.literal("throughput")
+                .executes(context -> queryThroughput(context.getSource()))
+                .then(Commands.literal("reset").executes(context -> {
+                    PollutionAccumulator.resetMetrics();
+                    context.getSource().sendSuccess(() -> Component.translatable("commands.destroy.pollution.throughput.reset"), true);
+                    return 1;
+                }))
+            ).then(Commands.argument("position", BlockPosArgument.blockPos())
                 .then(Commands.argument("type", EnumArgument.enumArgument(PollutionType.class))
                     .then((Commands.literal("query").executes(context -> {
                         return queryLevelPollution(context.getSource(), BlockPosArgument.getLoadedBlockPos(context, "position"), context.getArgument("type", PollutionType.class));
@@ -31,6 +43,15 @@ public class PollutionCommand {
         );
     };
 
+    private int queryThroughput(CommandSourceStack source) {
+        double seconds = PollutionAccumulator.getMetricsSeconds();
+        source.sendSuccess(() -> Component.translatable("commands.destroy.pollution.throughput", String.format("%.0f", seconds)), false);
+        PollutionAccumulator.getMetrics().entrySet().stream()
+            .sorted(Comparator.comparingDouble((Entry<String, SourceMetrics> entry) -> entry.getValue().getPollution()).reversed())
+            .forEach(entry -> source.sendSuccess(() -> Component.translatable("commands.destroy.pollution.throughput.source", entry.getKey(), entry.getValue().getReleases(), String.format("%.2f", entry.getValue().getPollution() / seconds)), false));
+        return PollutionAccumulator.getMetrics().size();
+    };
+
     private int queryLevelPollution(CommandSourceStack source, BlockPos pos, PollutionType pollutionType) {
         int pollutionLevel = PollutionHelper.getPollution(source.getLevel(), pos, pollutionType);
         source.sendSuccess(() ->  Component.translatable("commands.destroy.pollution.query", pollutionType.name(), pollutionLevel), true);
@@ -1,5 +1,7 @@
 package com.petrolpark.destroy.config;
 
+import com.petrolpark.destroy.chemistry.legacy.KineticsEngine;
+
 public class DestroyBlocksConfigs extends DestroyConfigBase {
 
     public final ConfigInt customExplosiveMixSize = i(5, 0, 16, "customExplosiveMixSize", "Inventory size of Mixed Explosives");
@@ -8,6 +10,7 @@ public class DestroyBlocksConfigs extends DestroyConfigBase {
     public final ConfigInt roundBottomedFlaskCapacity = i(500, "roundBottomedFlaskCapacity", "The capacity (in mB) of Round-Bottomed Flasks");
     public final ConfigInt measuringCylinderCapacity = i(300, "measuringCylinderCapacity", "The capacity (in mB) of Beakers");
     public final ConfigInt balloonPoppingCapacity = i(300, "balloonPoppingCapacity", "The volume of gas (in mB) Balloons can hold before popping");
+    public final ConfigInt blockEntitySyncInterval = i(5, 1, 200, "blockEntitySyncInterval", "[in ticks]", "The shortest time between Vats and Bubble Caps sending their state to clients.", "Increasing this saves bandwidth, but makes Vats and Distillation Towers update less smoothly.");
 
     public final ConfigGroup bubbleCap = group(0, "bubbleCap", "Bubble Cap");
     public final ConfigInt bubbleCapCapacity = i(1000, 1, "bubbleCapCapacity", "[in mB]", "Fluid capacity of Bubble Caps", "[setting this too low may make some recpies impossible]");
@@ -52,6 +55,9 @@ public class DestroyBlocksConfigs extends DestroyConfigBase {
     public final ConfigGroup vat = group(0, "vat", "Vat");
     public final ConfigBool vatExplodesAtHighPressure = b(true, "vatExplodesAtHighPressure", "Whether Vats explode if the pressure exceeds the maximum of the weakest block.");
     public final ConfigInt simulationLevel = i(10, "simulationLevel", "How many times per tick reactions and thermodynamics are simulated.", "Increasing this may cause lag. Decreasing it can cause flickering in Vats.");
+    public final ConfigFloat vatSyncPressureThreshold = f(1000f, 0f, "vatSyncPressureThreshold", "[in Pa]", "How much the pressure in a Vat must change before clients are told about it");
+    public final ConfigFloat vatSyncTemperatureThreshold = f(0.5f, 0f, "vatSyncTemperatureThreshold", "[in K]", "How much the temperature of a Vat must change before clients are told about it");
+    public final ConfigEnum<KineticsEngine> kineticsEngine = e(KineticsEngine.EXPLICIT, "kineticsEngine", "How reactions in Vats are simulated.", "EXPLICIT reacts everything simulationLevel times per tick.", "ADAPTIVE_IMPLICIT takes as many steps as are needed for accuracy, which is usually far fewer for fast equilibria.");
     public final ConfigFloat blazeBurnerHeatingPower = f(15000000f, -Float.MAX_VALUE, Float.MAX_VALUE, "blazeBurnerHeatingPower", "The power supplied by kindled Blaze Burners to Vats and Basins");
     public final ConfigFloat blazeBurnerSuperHeatingPower = f(50000000f, -Float.MAX_VALUE, Float.MAX_VALUE, "blazeBurnerSuperHeatingPower", "The power supplied by superheating Blaze Burners to Vats and Basins");
     public final ConfigFloat coolerHeatingPower = f(-30000000f, -Float.MAX_VALUE, Float.MAX_VALUE, "coolerHeatingPower", "The power supplied by cooling Refrigerstraytors to Vats and Basins");
@@ -7,6 +7,7 @@ public class DestroyClientChemistryConfigs extends DestroyConfigBase {
     public final ConfigBool iupacNames = b(false, "iupacNames", Comments.iupacNames, Comments.reloadRequired);
     public final ConfigEnum<TemperatureUnit> temperatureUnit = e(TemperatureUnit.DEGREES_CELCIUS, "temperatureUnit", Comments.temperatureUnit, Comments.reloadRequired);
     public final ConfigBool nerdMode = b(false, "nerdMode", Comments.nerdMode);
+    public final ConfigInt bakedMoleculeCacheSize = i(256, 1, Integer.MAX_VALUE, "bakedMoleculeCacheSize", Comments.bakedMoleculeCacheSize);
 
     @Override
     public String getName() {
@@ -18,6 +19,7 @@ public class DestroyClientChemistryConfigs extends DestroyConfigBase {
         iupacNames = "Show IUPAC systematic names rather than common names",
         temperatureUnit = "Units of temperature to display by default",
         nerdMode = "Display additional technical details in some tooltips",
+        bakedMoleculeCacheSize = "The number of Molecule structure diagrams whose models are kept ready to render",
         reloadRequired = "[Reload may be required to take full effect]";
     };
 }
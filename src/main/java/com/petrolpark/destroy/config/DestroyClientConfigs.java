@@ -3,6 +3,7 @@ package com.petrolpark.destroy.config;
 public class DestroyClientConfigs extends DestroyConfigBase {
 
     public final ConfigBool tempramentalItemDescriptions = b(true, "TempramentalItemDescriptions", Comments.temperamentalItemDescriptions);
+    public final ConfigInt smogRerenderSectionsPerFrame = i(256, 1, Integer.MAX_VALUE, "smogRerenderSectionsPerFrame", Comments.smogRerenderSectionsPerFrame);
 
     public final DestroyClientChemistryConfigs chemistry = nested(0, DestroyClientChemistryConfigs::new, Comments.chemistry);
     public final DestroyMenuButtonConfig configurationButtons = nested(0, DestroyMenuButtonConfig::new, Comments.configurationButtons);
@@ -73,6 +74,7 @@ public class DestroyClientConfigs extends DestroyConfigBase {
         static String
         chemistry = "Many many molecules",
         configurationButtons = "The buttons to open Destroy's configurations which appear on the main menu and pause menu",
+        smogRerenderSectionsPerFrame = "When the global smog level changes, the number of chunk sections which are re-rendered each frame. Higher values make the change appear faster but can cause stutters.",
         temperamentalItemDescriptions = "Enable the tooltip for Items which are likely to change in the full release of Destroy.";
     };
 }
@@ -1,7 +1,20 @@
 package com.petrolpark.destroy.config;
 
+import com.petrolpark.destroy.chemistry.legacy.LegacyInternCache;
+
 public class DestroyCommonConfigs extends DestroyConfigBase {
     
     public final ConfigBool enableBabyBlue = b(true, "enableBabyBlue", "Allow the crafting and effects of Baby Blue-related products");
     public final ConfigBool enableAlcohol = b(true, "enableAlcohol", "Allow the crafting and effects of alcoholic products");
+    public final ConfigInt deserializedMoleculeCacheSize = i(LegacyInternCache.DEFAULT_MAX_DESERIALIZED_MOLECULES, 16, Integer.MAX_VALUE, "deserializedMoleculeCacheSize", "The number of synthesized Molecules which are remembered by FROWNS code, so they don't have to be rebuilt each time they are loaded");
+
+    @Override
+    public void onLoad() {
+        LegacyInternCache.setMaxDeserializedMolecules(deserializedMoleculeCacheSize.get());
+    };
+
+    @Override
+    public void onReload() {
+        LegacyInternCache.setMaxDeserializedMolecules(deserializedMoleculeCacheSize.get());
+    };
 };
@@ -13,6 +13,10 @@ public class DestroyPollutionConfigs extends DestroyConfigBase {
     public final EnumMap<PollutionType, ConfigFloat> pollutionDecreaseRates = enumFloatMap(PollutionType.class, PollutionType.values(), v -> "pollution" + DestroyLang.pascal(v.name()) + "Decrease", v -> new String[]{"The chance per tick that the "+DestroyLang.pascal(v.name()) + " level of the world will decrease"}, 0f, 1f, 0.002f);
     public final EnumMap<PollutionType, ConfigFloat> pollutionSpreadingRates = enumFloatMap(PollutionType.class, Stream.of(PollutionType.values()).filter(p -> p.local).toArray(i -> new PollutionType[i]), v -> "pollution" + DestroyLang.pascal(v.name()) + "SpreadingRate", v -> new String[]{"The chance per tick that the "+DestroyLang.pascal(v.name()) + " level of two adjacent chunks will transfer"}, 0f, 1f, 0.002f);
     public final EnumMap<PollutionType, ConfigFloat> pollutionSpreadingAmounts = enumFloatMap(PollutionType.class, Stream.of(PollutionType.values()).filter(p -> p.local).toArray(i -> new PollutionType[i]), v -> "pollution" + DestroyLang.pascal(v.name()) + "SpreadingAmount", v -> new String[]{"The "+DestroyLang.pascal(v.name()) + " level transferred between two adjacent chunks", "[If set to 1.0, the two chunks will immediately equalize]"}, 0f, 1f, 0.005f);
+    public final ConfigInt chunkPollutionSyncInterval = i(10, 1, 200, "chunkPollutionSyncInterval", "[in ticks]", "How often changes to the Pollution of chunks are sent to clients");
+    public final ConfigBool pollutionDiffusion = b(false, "pollutionDiffusion", Comments.pollutionDiffusion);
+    public final ConfigInt pollutionDiffusionInterval = i(20, 1, 200, "pollutionDiffusionInterval", "[in ticks]", "How often local Pollution is spread and decreased, if pollutionDiffusion is true");
+    public final ConfigInt pollutionDiffusionParallelRegions = i(16, 0, Integer.MAX_VALUE, "pollutionDiffusionParallelRegions", "[0 to never spread in parallel]", "The number of loaded 32x32-chunk regions above which local Pollution is spread using multiple threads");
     
     public final ConfigGroup configGroup = group(0, Comments.visualChanges);
     public final ConfigBool smog = b(true, "smog", Comments.smog);
@@ -40,6 +44,7 @@ public class DestroyPollutionConfigs extends DestroyConfigBase {
     private static class Comments {
         static String
         enablePollution = "Releasing chemicals increases pollution, and pollution has effects on the world",
+        pollutionDiffusion = "Spread and decrease local Pollution across all loaded chunks at once every few ticks, rather than at random between pairs of chunks every tick",
 
         visualChanges = "Visual Changes",
         smog = "The sky and grass turn browner the higher the Smog level",
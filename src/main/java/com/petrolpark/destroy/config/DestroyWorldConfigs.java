@@ -4,6 +4,7 @@ public class DestroyWorldConfigs extends DestroyConfigBase {
 
     public final ConfigBool automaticGoggles = b(true, "automaticGoggles", "Players in Creative mode are treated as if they are wearing Engineer's Goggles even if they are not");
     public final ConfigBool extendedInventorySafeMode = b(true, "extendedInventorySafeMode", "Only show extra inventory slots in menus which are known not to cause problems", "[Disabling will let extra slots show up in new menus]", "[If you disable this and try a new menu from another mod, then tell me whether it crashes or not at https://github.com/petrolpark/Destroy/issues/1]");
+    public final ConfigInt explosionParallelRadius = i(8, 0, 1024, "explosionParallelRadius", "Explosions from Destroy's explosives with at least this radius work out what they destroy on several threads at once", "[0 to always use the server thread]", "[Blocks from other mods which work out their own explosion resistance are only shown the Block States around them, without any Block Entities, while this happens]");
     public final DestroyBlocksConfigs blocks = nested(0, DestroyBlocksConfigs::new, "Destroy's blocks");
 	public final DestroyPollutionConfigs pollution = nested(0, DestroyPollutionConfigs::new, "The effects of pollution on the world");
     public final DestroySubstancesConfigs substances = nested(0, DestroySubstancesConfigs::new, "Destroy's drugs and medicines");
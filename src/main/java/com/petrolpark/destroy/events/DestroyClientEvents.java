@@ -8,6 +8,7 @@ import com.mojang.datafixers.util.Either;
 import com.petrolpark.destroy.DestroyClient;
 import com.petrolpark.destroy.block.renderer.BlockEntityBehaviourRenderer;
 import com.petrolpark.destroy.capability.Pollution.PollutionType;
+import com.petrolpark.destroy.capability.level.pollution.SmogRerenderer;
 import com.petrolpark.destroy.client.gui.button.OpenDestroyMenuButton;
 import com.petrolpark.destroy.client.gui.screen.CustomExplosiveScreen;
 import com.petrolpark.destroy.config.DestroyAllConfigs;
@@ -16,6 +17,7 @@ import com.petrolpark.destroy.item.SwissArmyKnifeItem;
 import com.petrolpark.destroy.item.renderer.SeismometerItemRenderer;
 import com.petrolpark.destroy.item.tooltip.ExplosivePropertiesTooltip;
 import com.petrolpark.destroy.mixin.accessor.MenuRowsAccessor;
+import com.petrolpark.destroy.recipe.MixtureRecipeIndex;
 import com.petrolpark.destroy.util.DestroyLang;
 import com.petrolpark.destroy.util.FireproofingHelper;
 import com.petrolpark.destroy.util.PollutionHelper;
@@ -38,6 +40,7 @@ import net.minecraft.world.item.Items;
 import net.minecraft.world.level.material.FogType;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
+import net.minecraftforge.client.event.RecipesUpdatedEvent;
 import net.minecraftforge.client.event.RenderTooltipEvent;
 import net.minecraftforge.client.event.ScreenEvent;
 import net.minecraftforge.client.event.ViewportEvent.ComputeFogColor;
@@ -70,6 +73,24 @@ public class DestroyClientEvents {
         };
     };
 
+    /**
+     * Spread re-rendering the world after the smog level changes over several frames.
+     * @param event
+     */
+    @SubscribeEvent
+    public static void onRenderTick(TickEvent.RenderTickEvent event) {
+        if (event.phase == TickEvent.Phase.START) SmogRerenderer.renderTick();
+    };
+
+    /**
+     * Re-index Recipes when the server sends new ones, as the client's Recipe Manager is kept and refilled.
+     * @param event
+     */
+    @SubscribeEvent
+    public static void onRecipesUpdated(RecipesUpdatedEvent event) {
+        MixtureRecipeIndex.clear(event.getRecipeManager());
+    };
+
     /**
      * Render fog according to the world's Smog Level.
      */
@@ -10,7 +10,9 @@ import com.petrolpark.destroy.block.DestroyBlocks;
 import com.petrolpark.destroy.block.color.DyeableCustomExplosiveMixBlockColor;
 import com.petrolpark.destroy.block.color.SmogAffectedBlockColor;
 import com.petrolpark.destroy.block.color.TankPeriodicTableBlockColor;
+import com.petrolpark.destroy.chemistry.legacy.ClientMixtureCache;
 import com.petrolpark.destroy.chemistry.naming.SaltNameOverrides;
+import com.petrolpark.destroy.client.gui.BakedMolecule;
 import com.petrolpark.destroy.client.model.CircuitPatternItemModel;
 import com.petrolpark.destroy.client.model.UniversalArmorTrimModel;
 import com.petrolpark.destroy.entity.renderer.layer.BlowpipeLayer;
@@ -45,6 +47,8 @@ public class DestroyClientModEvents {
     public static void registerClientReloadListeners(RegisterClientReloadListenersEvent event) {
         event.registerReloadListener(SaltNameOverrides.RELOAD_LISTENER);
         event.registerReloadListener(NameLists.RELOAD_LISTENER);
+        event.registerReloadListener(ClientMixtureCache.RELOAD_LISTENER);
+        event.registerReloadListener(BakedMolecule.RELOAD_LISTENER);
     };
 
     @SubscribeEvent
@@ -17,6 +17,10 @@ import com.petrolpark.destroy.block.entity.behaviour.PollutingBehaviour;
 import com.petrolpark.destroy.capability.Pollution;
 import com.petrolpark.destroy.capability.Pollution.PollutionType;
 import com.petrolpark.destroy.capability.chunk.ChunkCrudeOil;
+import com.petrolpark.destroy.capability.chunk.ChunkPollutionSync;
+import com.petrolpark.destroy.capability.chunk.CrudeOilField;
+import com.petrolpark.destroy.capability.chunk.EnvironmentTemperature;
+import com.petrolpark.destroy.capability.chunk.PollutionDiffusion;
 import com.petrolpark.destroy.capability.entity.EntityChemicalPoison;
 import com.petrolpark.destroy.capability.player.PlayerCrouching;
 import com.petrolpark.destroy.capability.player.PlayerNovelCompoundsSynthesized;
@@ -26,7 +30,11 @@ import com.petrolpark.destroy.capability.player.previousposition.PlayerPreviousP
 import com.petrolpark.destroy.capability.player.previousposition.PlayerPreviousPositionsProvider;
 import com.petrolpark.destroy.commands.AttachedCheckCommand;
 import com.petrolpark.destroy.commands.BabyBlueAddictionCommand;
+import com.petrolpark.destroy.commands.ChemistryCachesCommand;
 import com.petrolpark.destroy.commands.CrudeOilCommand;
+import com.petrolpark.destroy.commands.ExplosionBenchmarkCommand;
+import com.petrolpark.destroy.commands.KineticsBenchmarkCommand;
+import com.petrolpark.destroy.commands.MixtureTagBenchmarkCommand;
 import com.petrolpark.destroy.commands.PollutionCommand;
 import com.petrolpark.destroy.commands.RegenerateCircuitPatternCommand;
 import com.petrolpark.destroy.commands.RegenerateCircuitPatternCommand.CircuitPatternIdArgument;
@@ -63,6 +71,7 @@ import com.petrolpark.destroy.util.DestroyLang;
 import com.petrolpark.destroy.util.FireproofingHelper;
 import com.petrolpark.destroy.util.DestroyTags.DestroyItemTags;
 import com.petrolpark.destroy.util.DestroyTags.DestroyMobEffectTags;
+import com.petrolpark.destroy.util.PollutionAccumulator;
 import com.petrolpark.destroy.util.PollutionHelper;
 import com.petrolpark.destroy.util.RedstoneProgrammerItemHandler;
 import com.petrolpark.destroy.util.vat.VatMaterial;
@@ -170,6 +179,7 @@ import net.minecraftforge.event.entity.player.PlayerEvent;
 import net.minecraftforge.event.entity.player.PlayerInteractEvent;
 import net.minecraftforge.event.level.BlockEvent.CropGrowEvent;
 import net.minecraftforge.event.level.BlockEvent.EntityPlaceEvent;
+import net.minecraftforge.event.level.ChunkEvent;
 import net.minecraftforge.event.level.ChunkWatchEvent;
 import net.minecraftforge.event.level.ExplosionEvent;
 import net.minecraftforge.event.level.LevelEvent;
@@ -277,6 +287,11 @@ public class DestroyCommonEvents {
         });
     };
 
+    @SubscribeEvent
+    public static void onChunkUnload(ChunkEvent.Unload event) {
+        if (event.getLevel() instanceof ServerLevel serverLevel) EnvironmentTemperature.forgetChunk(serverLevel, event.getChunk().getPos());
+    };
+
     /**
      * Refresh the Pollution the Player sees and remove information on their previous positions.
      */
@@ -338,6 +353,10 @@ public class DestroyCommonEvents {
         new PollutionCommand(event.getDispatcher());
         new RegenerateCircuitPatternCommand(event.getDispatcher());
         new AttachedCheckCommand(event.getDispatcher());
+        new KineticsBenchmarkCommand(event.getDispatcher());
+        new ExplosionBenchmarkCommand(event.getDispatcher());
+        new ChemistryCachesCommand(event.getDispatcher());
+        new MixtureTagBenchmarkCommand(event.getDispatcher());
     };
 
     @SubscribeEvent
@@ -907,6 +926,13 @@ public class DestroyCommonEvents {
             if (PollutionHelper.pollutionEnabled() && !pollutionType.local && level.random.nextFloat() <= DestroyAllConfigs.SERVER.pollution.pollutionDecreaseRates.get(pollutionType).getF()) PollutionHelper.changePollutionGlobal(event.level, pollutionType, -1);
         };
 
+        // Chunk Pollution
+        if (event.phase == TickEvent.Phase.END && level instanceof ServerLevel serverLevel) {
+            PollutionDiffusion.tick(serverLevel);
+            PollutionAccumulator.apply(serverLevel);
+            ChunkPollutionSync.tick(serverLevel);
+        };
+
     };
 
     @SubscribeEvent
@@ -980,6 +1006,13 @@ public class DestroyCommonEvents {
 	public static void onUnloadWorld(LevelEvent.Unload event) {
 		Destroy.CIRCUIT_PUNCHER_HANDLER.onUnloadWorld(event.getLevel());
         Destroy.CIRCUIT_PATTERN_HANDLER.onLevelUnloaded(event.getLevel());
+        if (event.getLevel() instanceof ServerLevel serverLevel) {
+            PollutionAccumulator.clear(serverLevel);
+            ChunkPollutionSync.clear(serverLevel);
+            CrudeOilField.clear(serverLevel);
+            PollutionDiffusion.clear(serverLevel);
+            EnvironmentTemperature.clear(serverLevel);
+        };
 	};
 
     @EventBusSubscriber(bus = EventBusSubscriber.Bus.MOD)
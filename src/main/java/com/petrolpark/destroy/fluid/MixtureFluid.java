@@ -2,7 +2,7 @@ package com.petrolpark.destroy.fluid;
 
 import javax.annotation.Nullable;
 
-import com.petrolpark.destroy.chemistry.legacy.ClientMixture;
+import com.petrolpark.destroy.chemistry.legacy.ClientMixtureCache;
 import com.petrolpark.destroy.chemistry.legacy.LegacyMixture;
 import com.petrolpark.destroy.chemistry.legacy.ReadOnlyMixture;
 import com.petrolpark.destroy.chemistry.legacy.index.DestroyMolecules;
@@ -93,7 +93,7 @@ public class MixtureFluid extends VirtualFluid {
 
         @Override
         public Component getDescription(FluidStack stack) {
-            return ReadOnlyMixture.readNBT(ClientMixture::new, stack.getChildTag("Mixture")).getName();
+            return ClientMixtureCache.get(stack.getChildTag("Mixture")).getName();
         };
 
     };
@@ -101,7 +101,7 @@ public class MixtureFluid extends VirtualFluid {
     public static int getTintColor(FluidStack stack) {
         if (stack.isEmpty()) return 0x00FFFFFF; // Transparent
         if (!stack.getOrCreateTag().contains("Mixture", Tag.TAG_COMPOUND)) return -1;
-        return ReadOnlyMixture.readNBT(ClientMixture::new, stack.getChildTag("Mixture")).getColor();
+        return ClientMixtureCache.get(stack.getChildTag("Mixture")).getColor();
     };
 
     
@@ -60,6 +60,15 @@ public abstract class ConcentrationRangeFluidIngredient<T extends MixtureFluidIn
         json.addProperty("max_concentration", maxConcentration);
     };
 
+    /**
+     * Whether a Mixture with none of the required Species could still be within the range, given the tolerance
+     * {@link ReadOnlyMixture#hasUsableMolecules allowed} for rounding errors.
+     * @param scale What the concentrations are multiplied by when testing, for example the charge of an ion
+     */
+    protected boolean allowsAbsence(float scale) {
+        return minConcentration * scale - 0.05f < 0f;
+    };
+
     public float getTargetConcentration() {
         return (minConcentration + maxConcentration) / 2f;
     };
@@ -2,7 +2,6 @@ package com.petrolpark.destroy.fluid.ingredient;
 
 import java.util.List;
 
-import com.petrolpark.destroy.chemistry.legacy.LegacyMixture;
 import com.petrolpark.destroy.chemistry.legacy.LegacySpecies;
 import com.petrolpark.destroy.chemistry.legacy.ReadOnlyMixture;
 import com.petrolpark.destroy.chemistry.legacy.index.DestroyMolecules;
@@ -26,7 +25,7 @@ public class IonFluidIngredient extends MoleculeFluidIngredient {
     };
 
     @Override
-    protected boolean testMixture(LegacyMixture mixture) {
+    protected boolean testMixture(ReadOnlyMixture mixture) {
         return mixture.hasUsableMolecule(molecule, minConcentration, maxConcentration, m -> (m.getCharge() != 0 && Math.signum(m.getCharge()) != Math.signum(molecule.getCharge())) || m.equals(DestroyMolecules.PROTON));
     };
 
@@ -1,10 +1,18 @@
 package com.petrolpark.destroy.fluid.ingredient;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
-import com.petrolpark.destroy.chemistry.legacy.LegacyMixture;
+import javax.annotation.Nullable;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.petrolpark.destroy.chemistry.legacy.LegacySpecies;
+import com.petrolpark.destroy.chemistry.legacy.LegacySpeciesTag;
 import com.petrolpark.destroy.chemistry.legacy.ReadOnlyMixture;
 import com.petrolpark.destroy.fluid.DestroyFluids;
 import com.petrolpark.destroy.fluid.MixtureFluid;
@@ -18,6 +26,17 @@ public abstract class MixtureFluidIngredient<T extends MixtureFluidIngredient<T>
 
     public static final Map<String, MixtureFluidIngredientSubType<?>> MIXTURE_FLUID_INGREDIENT_SUBTYPES = new HashMap<>();
 
+    /**
+     * Mixtures decoded from the Mixture tags of Fluid Stacks which have been {@link MixtureFluidIngredient#testInternal tested}, so that testing
+     * the same Fluid Stack against every candidate Recipe in a search only decodes it once. Tags are compared by identity, as the Mixture tag of
+     * a Fluid Stack is replaced rather than modified when the Mixture changes. Mixtures are forgotten shortly after the search.
+     */
+    private static final Cache<CompoundTag, ReadOnlyMixture> TESTED_MIXTURES = CacheBuilder.newBuilder()
+        .weakKeys()
+        .maximumSize(64)
+        .expireAfterAccess(5, TimeUnit.SECONDS)
+        .build();
+
     static {
         registerMixtureFluidIngredientSubType(MoleculeFluidIngredient.TYPE);
         registerMixtureFluidIngredientSubType(SaltFluidIngredient.TYPE);
@@ -35,8 +54,22 @@ public abstract class MixtureFluidIngredient<T extends MixtureFluidIngredient<T>
     protected boolean testInternal(FluidStack fluidStack) {
         if (!(fluidStack.getFluid().getFluidType() == DestroyFluids.MIXTURE.getType())) return false; // If it's not a Mixture
         CompoundTag mixtureTag = fluidStack.getChildTag("Mixture");
-        if (mixtureTag.isEmpty()) return false; // If this Mixture Fluid has no associated Mixture
-        return testMixture(LegacyMixture.readNBT(mixtureTag));
+        if (mixtureTag == null || mixtureTag.isEmpty()) return false; // If this Mixture Fluid has no associated Mixture
+        return testMixture(getTestedMixture(mixtureTag));
+    };
+
+    /**
+     * Get the Mixture stored in a Mixture tag, for testing. This is a Read-Only Mixture, so no Reactions or boiling points are worked out
+     * when reading it.
+     * @param mixtureTag
+     * @return A shared Mixture which should not be modified
+     */
+    public static ReadOnlyMixture getTestedMixture(CompoundTag mixtureTag) {
+        try {
+            return TESTED_MIXTURES.get(mixtureTag, () -> ReadOnlyMixture.readNBT(ReadOnlyMixture::new, mixtureTag));
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Could not read Mixture", e.getCause());
+        }
     };
 
     @Override
@@ -51,7 +84,33 @@ public abstract class MixtureFluidIngredient<T extends MixtureFluidIngredient<T>
 
     public abstract MixtureFluidIngredientSubType<T> getType();
 
-    protected abstract boolean testMixture(LegacyMixture mixture);
+    /**
+     * Whether the given Mixture satisfies this ingredient.
+     * @param mixture A {@link MixtureFluidIngredient#getTestedMixture shared} Mixture, which should not be modified
+     */
+    protected abstract boolean testMixture(ReadOnlyMixture mixture);
+
+    /**
+     * Species of which at least one must be in a Mixture for it to be able to satisfy this ingredient.
+     * This is used to {@link com.petrolpark.destroy.recipe.MixtureRecipeIndex index} Recipes by what they need.
+     * @return {@code null} if this ingredient might be satisfied without any particular Species
+     * @see MixtureFluidIngredient#getRequiredTag
+     */
+    @Nullable
+    public Collection<LegacySpecies> getRequiredSpecies() {
+        return null;
+    };
+
+    /**
+     * A tag of which at least one Species must be in a Mixture for it to be able to satisfy this ingredient.
+     * This is used to {@link com.petrolpark.destroy.recipe.MixtureRecipeIndex index} Recipes by what they need.
+     * @return {@code null} if this ingredient might be satisfied without any Species with a particular tag
+     * @see MixtureFluidIngredient#getRequiredSpecies
+     */
+    @Nullable
+    public LegacySpeciesTag getRequiredTag() {
+        return null;
+    };
 
     /**
      * Add data to the NBT of the Fluid Ingredient when it is displayed in JEI. The only use of this is to control the
@@ -4,7 +4,6 @@ import java.util.Collection;
 import java.util.List;
 
 import com.google.gson.JsonObject;
-import com.petrolpark.destroy.chemistry.legacy.LegacyMixture;
 import com.petrolpark.destroy.chemistry.legacy.LegacySpecies;
 import com.petrolpark.destroy.chemistry.legacy.ReadOnlyMixture;
 import com.petrolpark.destroy.config.DestroyAllConfigs;
@@ -36,10 +35,16 @@ public class MoleculeFluidIngredient extends ConcentrationRangeFluidIngredient<M
     };
 
     @Override
-    protected boolean testMixture(LegacyMixture mixture) {
+    protected boolean testMixture(ReadOnlyMixture mixture) {
         return mixture.hasUsableMolecule(molecule, minConcentration, maxConcentration, null);
     };
 
+    @Override
+    public Collection<LegacySpecies> getRequiredSpecies() {
+        if (allowsAbsence(1f)) return null;
+        return List.of(molecule);
+    };
+
     @Override
     protected void readInternal(FriendlyByteBuf buffer) {
         super.readInternal(buffer);
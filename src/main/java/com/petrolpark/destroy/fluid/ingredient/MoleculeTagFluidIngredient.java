@@ -5,7 +5,6 @@ import java.util.Collection;
 import java.util.List;
 
 import com.google.gson.JsonObject;
-import com.petrolpark.destroy.chemistry.legacy.LegacyMixture;
 import com.petrolpark.destroy.chemistry.legacy.LegacySpecies;
 import com.petrolpark.destroy.chemistry.legacy.LegacySpeciesTag;
 import com.petrolpark.destroy.chemistry.legacy.ReadOnlyMixture;
@@ -39,10 +38,16 @@ public class MoleculeTagFluidIngredient extends ConcentrationRangeFluidIngredien
     };
 
     @Override
-    protected boolean testMixture(LegacyMixture mixture) {
+    protected boolean testMixture(ReadOnlyMixture mixture) {
         return mixture.hasUsableMolecules(m -> m.hasTag(tag), minConcentration, maxConcentration, (m) -> false);
     };
 
+    @Override
+    public LegacySpeciesTag getRequiredTag() {
+        if (allowsAbsence(1f)) return null;
+        return tag;
+    };
+
     @Override
     public void addNBT(CompoundTag fluidTag) {
         super.addNBT(fluidTag);
@@ -31,10 +31,15 @@ public class PureSpeciesFluidIngredient extends MixtureFluidIngredient<PureSpeci
     };
 
     @Override
-    protected boolean testMixture(LegacyMixture mixture) {
+    protected boolean testMixture(ReadOnlyMixture mixture) {
         return mixture.getContents(false).stream().allMatch(s -> s.equals(species) || mixture.getConcentrationOf(s) == 0f);
     };
 
+    @Override
+    public Collection<LegacySpecies> getRequiredSpecies() {
+        return Collections.singleton(species); // Empty Mixtures are also pure, but are always treated as candidates by the index
+    };
+
     @Override
     public void addNBT(CompoundTag fluidTag) {
         fluidTag.putString("Species", species.getFullID());
@@ -4,7 +4,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import com.google.gson.JsonObject;
-import com.petrolpark.destroy.chemistry.legacy.LegacyMixture;
+import com.petrolpark.destroy.chemistry.legacy.ReadOnlyMixture;
 import com.petrolpark.destroy.chemistry.legacy.index.DestroyMolecules;
 import com.petrolpark.destroy.util.DestroyLang;
 import com.simibubi.create.foundation.item.TooltipHelper;
@@ -23,7 +23,7 @@ public class RefrigerantDummyFluidIngredient extends MoleculeTagFluidIngredient
     };
 
     @Override
-    protected boolean testMixture(LegacyMixture mixture) {
+    protected boolean testMixture(ReadOnlyMixture mixture) {
         return false; // This Ingredient should never be used in a Recipe
     };
 
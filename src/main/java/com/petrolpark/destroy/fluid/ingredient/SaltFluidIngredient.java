@@ -5,7 +5,6 @@ import java.util.Collection;
 import java.util.List;
 
 import com.google.gson.JsonObject;
-import com.petrolpark.destroy.chemistry.legacy.LegacyMixture;
 import com.petrolpark.destroy.chemistry.legacy.LegacySpecies;
 import com.petrolpark.destroy.chemistry.legacy.ReadOnlyMixture;
 import com.petrolpark.destroy.chemistry.legacy.index.DestroyMolecules;
@@ -41,10 +40,16 @@ public class SaltFluidIngredient extends ConcentrationRangeFluidIngredient<SaltF
     };
 
     @Override
-    protected boolean testMixture(LegacyMixture mixture) {
+    protected boolean testMixture(ReadOnlyMixture mixture) {
         return mixture.hasUsableMolecule(cation, minConcentration * cation.getCharge(), maxConcentration * cation.getCharge(), (molecule) -> molecule == anion) && mixture.hasUsableMolecule(anion, minConcentration * -anion.getCharge(), maxConcentration * -anion.getCharge(), (molecule) -> molecule == cation);
     };
 
+    @Override
+    public Collection<LegacySpecies> getRequiredSpecies() {
+        if (allowsAbsence(cation.getCharge())) return null;
+        return List.of(cation);
+    };
+
     @Override
     protected void readInternal(FriendlyByteBuf buffer) {
         super.readInternal(buffer);
@@ -10,7 +10,7 @@ import com.petrolpark.destroy.block.ISpecialMixtureContainerBlock;
 import com.petrolpark.destroy.block.entity.VatControllerBlockEntity;
 import com.petrolpark.destroy.block.entity.VatControllerBlockEntity.VatTankWrapper;
 import com.petrolpark.destroy.block.entity.behaviour.fluidTankBehaviour.GeniusFluidTankBehaviour.GeniusFluidTank;
-import com.petrolpark.destroy.chemistry.legacy.ClientMixture;
+import com.petrolpark.destroy.chemistry.legacy.ClientMixtureCache;
 import com.petrolpark.destroy.chemistry.legacy.ReadOnlyMixture;
 import com.petrolpark.destroy.config.DestroyAllConfigs;
 import com.petrolpark.destroy.fluid.MixtureFluid;
@@ -230,7 +230,7 @@ public interface IMixtureStorageItem {
         
             CompoundTag mixtureTag = fluidStack.getOrCreateTag().getCompound("Mixture");
             if (!mixtureTag.isEmpty()) { // If this is a Mixture
-                ReadOnlyMixture mixture = ReadOnlyMixture.readNBT(ClientMixture::new, mixtureTag);
+                ReadOnlyMixture mixture = ClientMixtureCache.get(mixtureTag);
 
                 boolean iupac = DestroyAllConfigs.CLIENT.chemistry.iupacNames.get();
                 temperature = mixture.getTemperature();
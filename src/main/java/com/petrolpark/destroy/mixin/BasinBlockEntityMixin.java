@@ -49,7 +49,7 @@ public abstract class BasinBlockEntityMixin implements IHaveHoveringInformation
     };
     
     /**
-     * Add the 'Basin too full' pop-up if a Basin will not be able to react.
+     * Add the 'Basin too full' pop-up if a Basin will not be able to react, or the 'Reacting' pop-up if that is still being worked out.
      */
     public boolean addToTooltip(List<Component> tooltip, boolean isPlayerSneaking) {
         ExtendedBasinBehaviour behaviour = ((BasinBlockEntity)(Object)this).getBehaviour(ExtendedBasinBehaviour.TYPE);
@@ -60,6 +60,13 @@ public abstract class BasinBlockEntityMixin implements IHaveHoveringInformation
             });
             return true;
         };
+        if (behaviour != null && behaviour.computingReaction) {
+            DestroyLang.translate("tooltip.basin.computing.title").style(ChatFormatting.GOLD).forGoggles(tooltip);
+            TooltipHelper.cutTextComponent(DestroyLang.translate("tooltip.basin.computing").component(), TooltipHelper.Palette.GRAY_AND_WHITE).forEach(component -> {
+                DestroyLang.builder().add(component.copy()).forGoggles(tooltip);
+            });
+            return true;
+        };
         tooltip.add(Component.literal(""));
         return false;
     };
@@ -9,6 +9,7 @@ import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
 import com.petrolpark.destroy.block.color.SmogAffectedBlockColor;
+import com.petrolpark.destroy.capability.level.pollution.SmogRerenderer.SmogTintCaches;
 
 import it.unimi.dsi.fastutil.objects.Object2ObjectArrayMap;
 import net.minecraft.client.color.block.BlockTintCache;
@@ -27,7 +28,7 @@ import net.minecraft.world.level.dimension.DimensionType;
 import net.minecraft.world.level.storage.WritableLevelData;
 
 @Mixin(ClientLevel.class)
-public abstract class ClientLevelMixin extends Level {
+public abstract class ClientLevelMixin extends Level implements SmogTintCaches {
 
     protected ClientLevelMixin(WritableLevelData pLevelData, ResourceKey<Level> pDimension, RegistryAccess pRegistryAccess, Holder<DimensionType> pDimensionTypeRegistration, Supplier<ProfilerFiller> pProfiler, boolean pIsClientSide, boolean pIsDebug, long pBiomeZoomSeed,int pMaxChainedNeighborUpdates) {
         super(pLevelData, pDimension, pRegistryAccess, pDimensionTypeRegistration, pProfiler, pIsClientSide, pIsDebug, pBiomeZoomSeed, pMaxChainedNeighborUpdates);
@@ -59,6 +60,13 @@ public abstract class ClientLevelMixin extends Level {
         }));
     };
 
+    @Override
+    public void invalidateSmogTints(int chunkX, int chunkZ) {
+        getTintCaches().get(SmogAffectedBlockColor.GRASS_COLOR_RESOLVER).invalidateForChunk(chunkX, chunkZ);
+        getTintCaches().get(SmogAffectedBlockColor.FOLIAGE_COLOR_RESOLVER).invalidateForChunk(chunkX, chunkZ);
+        getTintCaches().get(SmogAffectedBlockColor.WATER_COLOR_RESOLVER).invalidateForChunk(chunkX, chunkZ);
+    };
+
     private ClientLevel thisClientLevel() {
         return (ClientLevel)(Object)this;
     };
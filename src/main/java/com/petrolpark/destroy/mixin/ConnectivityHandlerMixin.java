@@ -55,7 +55,7 @@ public class ConnectivityHandlerMixin {
         maxCapacity = ifluidBE.getTankSize(0); // Get how much Fluid can fit in each Tank (I think?)
 
         if (width == 1 && height == 1) { // If this was the only BE in the multi
-            if (toDistribute.getAmount() > 0) PollutionHelper.pollute(level, startPos, toDistribute); // Pollute with the contents of this one Fluid Tank
+            if (toDistribute.getAmount() > 0) PollutionHelper.pollute(level, startPos, "voided_fluid", toDistribute); // Pollute with the contents of this one Fluid Tank
             return;
         };
 
@@ -87,7 +87,7 @@ public class ConnectivityHandlerMixin {
                 };
             };
 
-            if (toDistribute.getAmount() > 0) PollutionHelper.pollute(level, startPos, toDistribute); // Actually do the pollution
+            if (toDistribute.getAmount() > 0) PollutionHelper.pollute(level, startPos, "voided_fluid", toDistribute); // Actually do the pollution
         };
     };
 
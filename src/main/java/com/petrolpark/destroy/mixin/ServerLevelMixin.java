@@ -11,9 +11,9 @@ import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
 import com.petrolpark.destroy.capability.Pollution;
 import com.petrolpark.destroy.capability.Pollution.PollutionType;
+import com.petrolpark.destroy.capability.chunk.ChunkPollutionSync;
+import com.petrolpark.destroy.capability.chunk.PollutionDiffusion;
 import com.petrolpark.destroy.config.DestroyAllConfigs;
-import com.petrolpark.destroy.network.DestroyMessages;
-import com.petrolpark.destroy.network.packet.SyncChunkPollutionS2CPacket;
 import com.petrolpark.destroy.util.PollutionHelper;
 import com.simibubi.create.foundation.utility.Couple;
 
@@ -43,37 +43,41 @@ public abstract class ServerLevelMixin extends Level {
     )
     public void inTickChunk(LevelChunk chunk, int randomTickSpeed, CallbackInfo ci) {
         if (!PollutionHelper.pollutionEnabled()) return;
+        ServerLevel level = (ServerLevel)(Object)this;
         ChunkPos pos = chunk.getPos();
+        if (PollutionDiffusion.enabled()) {
+            PollutionDiffusion.markTicking(level, pos);
+            return;
+        };
         chunk.getCapability(Pollution.CAPABILITY).ifPresent(pollution -> {
 
             // Decrease pollution in this chunk
             for (PollutionType pollutionType : PollutionType.values()) if (pollutionType.local && getRandom().nextFloat() <= DestroyAllConfigs.SERVER.pollution.pollutionDecreaseRates.get(pollutionType).getF()) pollution.change(pollutionType, -1);
             
             // Spread pollution to adjacent chunks
-            if (Math.abs(pos.x) % 2 != Math.abs(pos.z) % 2) return; // Only spread to/from chunks in a checkerboard fashion, as it is really the Chunk boundaries we want to tick
-            List<ChunkPos> adjacentPositions = new ArrayList<>(List.of(new ChunkPos(pos.x - 1, pos.z), new ChunkPos(pos.x + 1, pos.z), new ChunkPos(pos.x, pos.z - 1), new ChunkPos(pos.x, pos.z + 1)));
-            Collections.shuffle(adjacentPositions);
-            for (ChunkPos otherPos : adjacentPositions) {
-                LevelChunk otherChunk = (LevelChunk)getChunk(otherPos.x, otherPos.z, ChunkStatus.FULL, false);
-                if (otherChunk == null) continue;
-                otherChunk.getCapability(Pollution.CAPABILITY).ifPresent(otherPollution -> {
-                    boolean changeOccured = false;
-                    spreadEachType: for (PollutionType pollutionType : PollutionType.values()) {
-                        if (!pollutionType.local || getRandom().nextFloat() >= DestroyAllConfigs.SERVER.pollution.pollutionSpreadingRates.get(pollutionType).getF()) continue spreadEachType;
-                        Couple<Pollution> pollutions = Couple.create(pollution, otherPollution); // The first is the more polluted chunk
-                        if (otherPollution.get(pollutionType) > pollution.get(pollutionType)) pollutions = pollutions.swap();
-                        int transfer = (int)(0.5f + (pollutions.getFirst().get(pollutionType) - pollutions.getSecond().get(pollutionType)) * 0.5f * DestroyAllConfigs.SERVER.pollution.pollutionSpreadingAmounts.get(pollutionType).getF());
-                        if (transfer == 0) continue spreadEachType;
-                        pollutions.getFirst().change(pollutionType, -transfer);
-                        pollutions.getSecond().change(pollutionType, transfer);
-                        changeOccured = true;
-                    };
-                    if (changeOccured) DestroyMessages.sendToClientsTrackingChunk(new SyncChunkPollutionS2CPacket(otherPos, otherPollution), otherChunk);
-                });
+            if (Math.abs(pos.x) % 2 == Math.abs(pos.z) % 2) { // Only spread to/from chunks in a checkerboard fashion, as it is really the Chunk boundaries we want to tick
+                List<ChunkPos> adjacentPositions = new ArrayList<>(List.of(new ChunkPos(pos.x - 1, pos.z), new ChunkPos(pos.x + 1, pos.z), new ChunkPos(pos.x, pos.z - 1), new ChunkPos(pos.x, pos.z + 1)));
+                Collections.shuffle(adjacentPositions);
+                for (ChunkPos otherPos : adjacentPositions) {
+                    LevelChunk otherChunk = (LevelChunk)getChunk(otherPos.x, otherPos.z, ChunkStatus.FULL, false);
+                    if (otherChunk == null) continue;
+                    otherChunk.getCapability(Pollution.CAPABILITY).ifPresent(otherPollution -> {
+                        spreadEachType: for (PollutionType pollutionType : PollutionType.values()) {
+                            if (!pollutionType.local || getRandom().nextFloat() >= DestroyAllConfigs.SERVER.pollution.pollutionSpreadingRates.get(pollutionType).getF()) continue spreadEachType;
+                            Couple<Pollution> pollutions = Couple.create(pollution, otherPollution); // The first is the more polluted chunk
+                            if (otherPollution.get(pollutionType) > pollution.get(pollutionType)) pollutions = pollutions.swap();
+                            int transfer = (int)(0.5f + (pollutions.getFirst().get(pollutionType) - pollutions.getSecond().get(pollutionType)) * 0.5f * DestroyAllConfigs.SERVER.pollution.pollutionSpreadingAmounts.get(pollutionType).getF());
+                            if (transfer == 0) continue spreadEachType;
+                            pollutions.getFirst().change(pollutionType, -transfer);
+                            pollutions.getSecond().change(pollutionType, transfer);
+                        };
+                        ChunkPollutionSync.markDirty(level, otherPos, otherPollution);
+                    });
+                };
             };
-            
-            // Sync to Clients
-            DestroyMessages.sendToClientsTrackingChunk(new SyncChunkPollutionS2CPacket(pos, pollution), chunk);
+
+            // Sync to Clients (if anything changed)
+            ChunkPollutionSync.markDirty(level, pos, pollution);
         });
     };
 };
@@ -14,6 +14,7 @@ import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
 import com.petrolpark.destroy.chemistry.legacy.ClientMixture;
+import com.petrolpark.destroy.chemistry.legacy.ClientMixtureCache;
 import com.petrolpark.destroy.compat.jei.DestroyJEI;
 import com.petrolpark.destroy.config.DestroyAllConfigs;
 import com.petrolpark.destroy.fluid.DestroyFluids;
@@ -121,7 +122,7 @@ public abstract class CreateRecipeCategoryMixin<T extends Recipe<?>> {
                 } else if (view.getRole() == RecipeIngredientRole.OUTPUT) {
                     CompoundTag mixtureTag = fluidTag.getCompound("Mixture");
                     if (!mixtureTag.isEmpty()) {
-                        ClientMixture mixture = ClientMixture.readNBT(ClientMixture::new, mixtureTag);
+                        ClientMixture mixture = ClientMixtureCache.get(mixtureTag);
                         name = mixture.getName();
                         mixtureTooltip = mixture.getContentsTooltip(iupac, false, false, mbAmount, df);
                     } else {
@@ -1,53 +1,102 @@
 package com.petrolpark.destroy.network.packet;
 
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map.Entry;
 import java.util.function.Supplier;
 
 import com.petrolpark.destroy.capability.Pollution;
+import com.petrolpark.destroy.capability.Pollution.PollutionType;
+import com.petrolpark.destroy.capability.level.pollution.SmogRerenderer;
 
 import net.minecraft.client.Minecraft;
-import net.minecraft.client.renderer.chunk.ChunkRenderDispatcher.RenderChunk;
-import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.chunk.LevelChunk;
 import net.minecraftforge.network.NetworkEvent.Context;
 
+/**
+ * Tells a client about the {@link Pollution.Chunk Pollution} of some chunks. Only the types of Pollution which have changed are included.
+ * @see com.petrolpark.destroy.capability.chunk.ChunkPollutionSync
+ */
 public class SyncChunkPollutionS2CPacket extends S2CPacket {
 
-    public final ChunkPos pos;
-    private final CompoundTag chunkPollutionTag;
+    private static final PollutionType[] POLLUTION_TYPES = PollutionType.values();
+
+    private final List<ChunkPollutionChange> changes;
 
     public SyncChunkPollutionS2CPacket(FriendlyByteBuf buffer) {
-        pos = buffer.readChunkPos();  
-        chunkPollutionTag = buffer.readNbt();
+        int chunkCount = buffer.readVarInt();
+        changes = new ArrayList<>(chunkCount);
+        for (int i = 0; i < chunkCount; i++) {
+            ChunkPos pos = new ChunkPos(unzigzag(buffer.readVarInt()), unzigzag(buffer.readVarInt()));
+            EnumMap<PollutionType, Integer> levels = new EnumMap<>(PollutionType.class);
+            int typeCount = buffer.readByte();
+            for (int j = 0; j < typeCount; j++) levels.put(POLLUTION_TYPES[buffer.readByte()], buffer.readVarInt());
+            changes.add(new ChunkPollutionChange(pos, levels));
+        };
     };
 
+    /**
+     * Sync every type of Pollution in a single chunk, for example when a Player starts watching it.
+     */
     public <P extends Pollution> SyncChunkPollutionS2CPacket(ChunkPos pos, P pollution) {
-        this.pos = pos;
-        this.chunkPollutionTag = new CompoundTag();
-        pollution.saveNBTData(chunkPollutionTag);
+        EnumMap<PollutionType, Integer> levels = new EnumMap<>(PollutionType.class);
+        for (PollutionType pollutionType : POLLUTION_TYPES) if (pollutionType.local) levels.put(pollutionType, pollution.get(pollutionType));
+        changes = List.of(new ChunkPollutionChange(pos, levels));
+    };
+
+    public SyncChunkPollutionS2CPacket(List<ChunkPollutionChange> changes) {
+        this.changes = changes;
     };
 
     @Override
     public void toBytes(FriendlyByteBuf buffer) {
-        buffer.writeChunkPos(pos);
-        buffer.writeNbt(chunkPollutionTag);
+        buffer.writeVarInt(changes.size());
+        for (ChunkPollutionChange change : changes) {
+            buffer.writeVarInt(zigzag(change.pos().x));
+            buffer.writeVarInt(zigzag(change.pos().z));
+            buffer.writeByte(change.levels().size());
+            for (Entry<PollutionType, Integer> entry : change.levels().entrySet()) {
+                buffer.writeByte(entry.getKey().ordinal());
+                buffer.writeVarInt(entry.getValue());
+            };
+        };
+    };
+
+    /**
+     * Chunk coordinates can be negative, which Var Ints are bad at storing.
+     */
+    private static int zigzag(int i) {
+        return (i << 1) ^ (i >> 31);
+    };
+
+    private static int unzigzag(int i) {
+        return (i >>> 1) ^ -(i & 1);
     };
 
     @Override
     public boolean handle(Supplier<Context> supplier) {
         supplier.get().enqueueWork(() -> {
             Minecraft mc = Minecraft.getInstance();
-            LevelChunk chunk = mc.level.getChunkSource().getChunk(pos.x, pos.z, false);
-            if (chunk != null) chunk.getCapability(Pollution.CAPABILITY).ifPresent(pollution -> {
-                pollution.loadNBTData(chunkPollutionTag);
-                if (((Pollution.Chunk)pollution).checkRerender()) {
-                    for (RenderChunk renderChunk : mc.levelRenderer.viewArea.chunks) renderChunk.setDirty(true);
-                    mc.level.clearTintCaches();
-                };
-            });
+            if (mc.level == null) return;
+            for (ChunkPollutionChange change : changes) {
+                LevelChunk chunk = mc.level.getChunkSource().getChunk(change.pos().x, change.pos().z, false);
+                if (chunk == null) continue;
+                Pollution pollution = chunk.getCapability(Pollution.CAPABILITY).resolve().orElse(null);
+                if (pollution == null) continue;
+                change.levels().forEach(pollution::set);
+                if (((Pollution.Chunk)pollution).checkRerender()) SmogRerenderer.rerenderAround(change.pos());
+            };
         });
         return true;
     };
-    
+
+    /**
+     * @param pos
+     * @param levels The new values of the types of Pollution which have changed
+     */
+    public static record ChunkPollutionChange(ChunkPos pos, EnumMap<PollutionType, Integer> levels) {};
+
 };
@@ -0,0 +1,64 @@
+package com.petrolpark.destroy.network.packet;
+
+import java.util.function.Supplier;
+
+import com.petrolpark.destroy.block.entity.VatControllerBlockEntity;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraftforge.network.NetworkEvent.Context;
+
+/**
+ * Tells clients about the pressure and temperature of a Vat, and whether anything in it is boiling or reacting, without sending the whole
+ * {@link VatControllerBlockEntity Vat Controller}.
+ */
+public class SyncVatStateS2CPacket extends S2CPacket {
+
+    private static final byte BOILING = 1;
+    private static final byte REACTING = 2;
+
+    private final BlockPos pos;
+    private final float pressure;
+    private final float temperature;
+    private final boolean boiling;
+    private final boolean reacting;
+
+    public SyncVatStateS2CPacket(BlockPos pos, float pressure, float temperature, boolean boiling, boolean reacting) {
+        this.pos = pos;
+        this.pressure = pressure;
+        this.temperature = temperature;
+        this.boiling = boiling;
+        this.reacting = reacting;
+    };
+
+    public SyncVatStateS2CPacket(FriendlyByteBuf buffer) {
+        pos = buffer.readBlockPos();
+        pressure = buffer.readFloat();
+        temperature = buffer.readFloat();
+        byte flags = buffer.readByte();
+        boiling = (flags & BOILING) != 0;
+        reacting = (flags & REACTING) != 0;
+    };
+
+    @Override
+    public void toBytes(FriendlyByteBuf buffer) {
+        buffer.writeBlockPos(pos);
+        buffer.writeFloat(pressure);
+        buffer.writeFloat(temperature);
+        buffer.writeByte((boiling ? BOILING : 0) | (reacting ? REACTING : 0));
+    };
+
+    @Override
+    @SuppressWarnings("resource")
+    public boolean handle(Supplier<Context> supplier) {
+        supplier.get().enqueueWork(() -> {
+            ClientLevel level = Minecraft.getInstance().level;
+            if (level == null || !level.isLoaded(pos)) return;
+            if (level.getBlockEntity(pos) instanceof VatControllerBlockEntity vatController) vatController.receiveVisualState(pressure, temperature, boiling, reacting);
+        });
+        return true;
+    };
+    
+};
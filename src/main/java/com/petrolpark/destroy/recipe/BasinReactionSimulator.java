@@ -0,0 +1,191 @@
+package com.petrolpark.destroy.recipe;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nullable;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.collect.ImmutableMultiset;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.petrolpark.destroy.Destroy;
+import com.petrolpark.destroy.chemistry.api.util.Constants;
+import com.petrolpark.destroy.chemistry.legacy.LegacyMixture;
+import com.petrolpark.destroy.chemistry.legacy.ReactionResult;
+import com.petrolpark.destroy.chemistry.legacy.LegacyMixture.Phases;
+import com.petrolpark.destroy.fluid.MixtureFluid;
+import com.petrolpark.destroy.recipe.ReactionInBasinRecipe.ReactionInBasinResult;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraftforge.fluids.FluidStack;
+
+/**
+ * Works out what happens when Mixtures {@link LegacyMixture#reactInBasin react in a Basin} off the server thread, as this can mean simulating
+ * hundreds of ticks of Reactions. Simulations are remembered by their inputs, so identical Basins (such as in automated setups) only
+ * ever need simulating once. If too many simulations are already waiting, new ones are not started (and certainly not simulated on the
+ * server thread) but tried again on the next tick. Simulations which fail are forgotten, so they are tried again the next time they are needed.
+ * @see ReactionInBasinRecipe
+ */
+public class BasinReactionSimulator {
+
+    public static final int MAX_CACHED_SIMULATIONS = 512;
+    /**
+     * The number of simulations which can be waiting for a thread. Any more are {@link BasinReactionSimulator#retryNextTick tried again later}.
+     */
+    private static final int MAX_QUEUED_SIMULATIONS = 64;
+    private static final long RETRY_DELAY_MILLISECONDS = 50l;
+    private static final int THREADS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 4));
+
+    private static final ThreadPoolExecutor EXECUTOR = new ThreadPoolExecutor(THREADS, THREADS, 30l, TimeUnit.SECONDS, new ArrayBlockingQueue<>(MAX_QUEUED_SIMULATIONS), new SimulatorThreadFactory(), new ThreadPoolExecutor.AbortPolicy());
+    static {
+        EXECUTOR.allowCoreThreadTimeOut(true);
+    };
+
+    private static final Cache<SimulationKey, CompletableFuture<SimulatedReaction>> SIMULATIONS = CacheBuilder.newBuilder()
+        .maximumSize(MAX_CACHED_SIMULATIONS)
+        .recordStats()
+        .build();
+
+    /**
+     * Get the outcome of reacting the given Mixtures and Item Stacks in a Basin, starting to simulate it if it hasn't been already.
+     * @param mixtureStacks Fluid Stacks of Mixtures. These are not modified.
+     * @param itemStacks Item Stacks available for reacting. These are not modified.
+     * @param heatingPower The power being supplied to the Basin by the {@link com.petrolpark.destroy.util.vat.IVatHeaterBlock heater} below it
+     * @param outsideTemperature The {@link com.petrolpark.destroy.capability.Pollution#getLocalTemperature temperature} outside the Basin
+     * @return A future which may already be complete. If the simulation could not be started yet, this completes with {@code null} after about a tick,
+     * and the simulation should be requested again.
+     */
+    public static CompletableFuture<SimulatedReaction> simulate(Collection<FluidStack> mixtureStacks, Collection<ItemStack> itemStacks, float heatingPower, float outsideTemperature) {
+        SimulationKey key = new SimulationKey(
+            mixtureStacks.stream().map(stack -> new MixtureKey(stack.getOrCreateTag().getCompound("Mixture").copy(), stack.getAmount())).collect(ImmutableMultiset.toImmutableMultiset()),
+            itemStacks.stream().filter(stack -> !stack.isEmpty()).map(stack -> new ItemKey(stack.getItem(), stack.getTag() == null ? null : stack.getTag().copy(), stack.getCount())).collect(ImmutableMultiset.toImmutableMultiset()),
+            heatingPower,
+            outsideTemperature
+        );
+        CompletableFuture<SimulatedReaction> simulation;
+        try {
+            simulation = SIMULATIONS.get(key, () -> schedule(key));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            if (e.getCause() instanceof RejectedExecutionException) return retryNextTick(); // Too many simulations are already waiting, so don't cache anything for this one
+            throw new IllegalStateException("Could not schedule Basin Reaction simulation", e.getCause());
+        };
+        if (simulation.isCompletedExceptionally()) SIMULATIONS.asMap().remove(key, simulation); // In case it failed before it was cached
+        return simulation;
+    };
+
+    private static CompletableFuture<SimulatedReaction> schedule(SimulationKey key) {
+        CompletableFuture<SimulatedReaction> simulation = CompletableFuture.supplyAsync(() -> simulate(key), EXECUTOR);
+        simulation.whenComplete((result, exception) -> {
+            if (exception != null) SIMULATIONS.asMap().remove(key, simulation); // Don't remember failures, so the simulation is tried again next time
+        });
+        return simulation;
+    };
+
+    /**
+     * A future which completes with {@code null} after about a tick, so that a Basin {@link com.petrolpark.destroy.block.entity.behaviour.ExtendedBasinBehaviour#awaitReaction waiting}
+     * for it looks for a Recipe (and so requests the simulation) again.
+     */
+    private static CompletableFuture<SimulatedReaction> retryNextTick() {
+        return CompletableFuture.supplyAsync(() -> null, CompletableFuture.delayedExecutor(RETRY_DELAY_MILLISECONDS, TimeUnit.MILLISECONDS));
+    };
+
+    /**
+     * Get the outcome of a {@link BasinReactionSimulator#simulate simulation} which has finished.
+     * @param simulation
+     * @return {@code null} if the simulation failed
+     */
+    @Nullable
+    public static SimulatedReaction getResult(CompletableFuture<SimulatedReaction> simulation) {
+        try {
+            return simulation.getNow(null);
+        } catch (RuntimeException e) {
+            Destroy.LOGGER.warn("Could not simulate Reaction in Basin", e);
+            return null;
+        }
+    };
+
+    private static SimulatedReaction simulate(SimulationKey key) {
+        Map<LegacyMixture, Double> mixtures = new HashMap<>(key.mixtures().size()); // A Map of all available Mixtures to the volume of them available (in Buckets)
+        int totalAmount = 0;
+        for (MixtureKey mixtureKey : key.mixtures()) {
+            mixtures.put(LegacyMixture.readNBT(mixtureKey.mixture()), (double)mixtureKey.amount() / Constants.MILLIBUCKETS_PER_LITER);
+            totalAmount += mixtureKey.amount();
+        };
+        List<ItemStack> availableItems = new ArrayList<>(key.items().size());
+        for (ItemKey itemKey : key.items()) {
+            ItemStack stack = new ItemStack(itemKey.item(), itemKey.count());
+            if (itemKey.tag() != null) stack.setTag(itemKey.tag().copy());
+            availableItems.add(stack);
+        };
+
+        LegacyMixture mixture = LegacyMixture.mix(mixtures);
+        ReactionInBasinResult result = mixture.reactInBasin(totalAmount, availableItems, key.heatingPower(), key.outsideTemperature()); // Mutably react the Mixture and change the Item Stacks
+        if (result.ticks() == 0) return new SimulatedReaction(0, FluidStack.EMPTY, FluidStack.EMPTY, List.of(), Map.of());
+
+        Phases phases = mixture.separatePhases(result.amount(), false);
+        return new SimulatedReaction(
+            result.ticks(),
+            MixtureFluid.of((int)Math.round(phases.liquidVolume()), phases.liquidMixture()),
+            MixtureFluid.of((int)Math.round(phases.gasVolume()), phases.gasMixture()),
+            availableItems.stream().filter(stack -> !stack.isEmpty()).toList(),
+            result.reactionResults()
+        );
+    };
+
+    public static CacheStats getStats() {
+        return SIMULATIONS.stats();
+    };
+
+    /**
+     * Forget every simulation, for example if the known Reactions have changed.
+     */
+    public static void clear() {
+        SIMULATIONS.invalidateAll();
+    };
+
+    /**
+     * The outcome of reacting Mixtures in a Basin. This is shared between every Basin with the same inputs, so none of it should be modified.
+     * @param ticks The number of ticks it took for the Mixture to reach equilibrium, or {@code 0} if nothing happened
+     * @param liquid The resultant liquid Mixture
+     * @param gas The resultant gaseous Mixture, which will escape
+     * @param items The Item Stacks left over
+     * @param reactionResults The {@link ReactionResult results} of reacting
+     */
+    public static record SimulatedReaction(int ticks, FluidStack liquid, FluidStack gas, List<ItemStack> items, Map<ReactionResult, Integer> reactionResults) {};
+
+    /**
+     * The inputs to a simulation, irrespective of which tanks and slots of the Basin they are in.
+     */
+    private static record SimulationKey(ImmutableMultiset<MixtureKey> mixtures, ImmutableMultiset<ItemKey> items, float heatingPower, float outsideTemperature) {};
+
+    private static record MixtureKey(CompoundTag mixture, int amount) {};
+
+    private static record ItemKey(Item item, @Nullable CompoundTag tag, int count) {};
+
+    private static class SimulatorThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "Destroy Basin Reaction Simulator #" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    };
+};
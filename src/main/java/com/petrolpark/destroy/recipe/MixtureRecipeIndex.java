@@ -0,0 +1,163 @@
+package com.petrolpark.destroy.recipe;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nullable;
+
+import com.petrolpark.destroy.chemistry.legacy.LegacySpecies;
+import com.petrolpark.destroy.chemistry.legacy.LegacySpeciesTag;
+import com.petrolpark.destroy.chemistry.legacy.ReadOnlyMixture;
+import com.petrolpark.destroy.fluid.DestroyFluids;
+import com.petrolpark.destroy.fluid.ingredient.MixtureFluidIngredient;
+import com.simibubi.create.content.processing.recipe.ProcessingRecipe;
+import com.simibubi.create.foundation.fluid.FluidHelper;
+import com.simibubi.create.foundation.fluid.FluidIngredient;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.world.item.crafting.Recipe;
+import net.minecraft.world.item.crafting.RecipeManager;
+import net.minecraft.world.item.crafting.RecipeType;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.material.Fluid;
+import net.minecraftforge.fluids.FluidStack;
+
+/**
+ * Indexes the Recipes of a type by what their Fluid ingredients need, so that finding a Recipe for a Fluid Stack only tests the Recipes
+ * which could plausibly accept it. {@link MixtureFluidIngredient Mixture ingredients} are indexed by the {@link MixtureFluidIngredient#getRequiredSpecies Species}
+ * or {@link MixtureFluidIngredient#getRequiredTag tag} they need, and other ingredients by the Fluids which match them. The candidates for a Mixture are then
+ * only the Recipes which need one of the Species (or tags of the Species) it actually contains, and the concentrations are only checked for those.
+ * <p>Each Recipe type is indexed the first time it is looked up after Recipes are (re)loaded. Recipes which can't be indexed (for example those with no Fluid
+ * ingredients) are always candidates, and candidates are always given in the same order as the Recipe Manager, so the same Recipe is found as by testing every one.</p>
+ */
+public class MixtureRecipeIndex {
+
+    private static final Map<RecipeManager, Map<RecipeType<?>, TypeIndex>> INDICES = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Get the Recipes of the given type which might accept the given Fluid Stack as one of their Fluid ingredients.
+     * These still need testing.
+     * @param level
+     * @param type
+     * @param fluidStack
+     * @return Candidate Recipes, in the order they appear in the Recipe Manager
+     */
+    public static List<Recipe<?>> getCandidates(Level level, RecipeType<?> type, FluidStack fluidStack) {
+        return getIndex(level.getRecipeManager(), type).getCandidates(fluidStack);
+    };
+
+    /**
+     * Find the {@link MixtureConversionRecipe} which converts the given non-Mixture Fluid into a Mixture.
+     * @param level
+     * @param fluidStack
+     * @return {@code null} if this Fluid can't be converted
+     */
+    @Nullable
+    public static MixtureConversionRecipe getMixtureConversion(Level level, FluidStack fluidStack) {
+        for (Recipe<?> recipe : getCandidates(level, DestroyRecipeTypes.MIXTURE_CONVERSION.getType(), fluidStack)) {
+            MixtureConversionRecipe conversion = (MixtureConversionRecipe)recipe;
+            if (conversion.getFluidIngredients().get(0).test(fluidStack)) return conversion;
+        };
+        return null;
+    };
+
+    /**
+     * Forget the indices of a Recipe Manager, because its Recipes have been replaced.
+     * Server Recipe Managers are replaced entirely when reloading, so this only needs calling for the client's.
+     * @param recipeManager
+     */
+    public static void clear(RecipeManager recipeManager) {
+        INDICES.remove(recipeManager);
+    };
+
+    private static TypeIndex getIndex(RecipeManager recipeManager, RecipeType<?> type) {
+        return INDICES.computeIfAbsent(recipeManager, m -> new ConcurrentHashMap<>()).computeIfAbsent(type, t -> new TypeIndex(recipeManager, t));
+    };
+
+    private static class TypeIndex {
+
+        private final List<Recipe<?>> recipes = new ArrayList<>();
+
+        /**
+         * Recipes which are candidates for every Fluid Stack.
+         */
+        private final IntList unindexed = new IntArrayList();
+        private final Map<Fluid, IntList> byFluid = new HashMap<>();
+        private final Map<LegacySpecies, IntList> bySpecies = new HashMap<>();
+        private final Map<LegacySpeciesTag, IntList> byTag = new HashMap<>();
+
+        private TypeIndex(RecipeManager recipeManager, RecipeType<?> type) {
+            for (Recipe<?> recipe : recipeManager.getRecipes()) {
+                if (recipe.getType() != type) continue;
+                int i = recipes.size();
+                recipes.add(recipe);
+                if (!(recipe instanceof ProcessingRecipe<?> processingRecipe) || processingRecipe.getFluidIngredients().isEmpty()) {
+                    unindexed.add(i);
+                    continue;
+                };
+                for (FluidIngredient ingredient : processingRecipe.getFluidIngredients()) {
+                    if (!index(i, ingredient)) {
+                        unindexed.add(i);
+                        break;
+                    };
+                };
+            };
+        };
+
+        /**
+         * @return Whether the ingredient could be indexed
+         */
+        private boolean index(int i, FluidIngredient ingredient) {
+            if (ingredient instanceof MixtureFluidIngredient<?> mixtureIngredient) {
+                Collection<LegacySpecies> species = mixtureIngredient.getRequiredSpecies();
+                LegacySpeciesTag tag = mixtureIngredient.getRequiredTag();
+                if (species == null && tag == null) return false;
+                if (species != null) for (LegacySpecies s : species) bySpecies.computeIfAbsent(s, k -> new IntArrayList()).add(i);
+                if (tag != null) byTag.computeIfAbsent(tag, k -> new IntArrayList()).add(i);
+                return true;
+            };
+            List<FluidStack> matchingStacks = ingredient.getMatchingFluidStacks();
+            if (matchingStacks.isEmpty()) return false;
+            for (FluidStack stack : matchingStacks) byFluid.computeIfAbsent(FluidHelper.convertToStill(stack.getFluid()), k -> new IntArrayList()).add(i);
+            return true;
+        };
+
+        private List<Recipe<?>> getCandidates(FluidStack fluidStack) {
+            BitSet candidates = new BitSet(recipes.size());
+            add(candidates, unindexed);
+            if (!fluidStack.isEmpty()) add(candidates, byFluid.get(FluidHelper.convertToStill(fluidStack.getFluid())));
+            if (DestroyFluids.isMixture(fluidStack)) {
+                CompoundTag mixtureTag = fluidStack.getChildTag("Mixture");
+                if (mixtureTag != null && !mixtureTag.isEmpty()) {
+                    ReadOnlyMixture mixture = MixtureFluidIngredient.getTestedMixture(mixtureTag);
+                    List<LegacySpecies> contents = mixture.getContents(false);
+                    if (contents.isEmpty()) { // Ingredients which need a pure Mixture might accept an empty one
+                        candidates.set(0, recipes.size());
+                    } else {
+                        for (LegacySpecies species : contents) {
+                            add(candidates, bySpecies.get(species));
+                            if (!byTag.isEmpty()) for (LegacySpeciesTag tag : species.getTags()) add(candidates, byTag.get(tag));
+                        };
+                    };
+                };
+            };
+            List<Recipe<?>> candidateRecipes = new ArrayList<>(candidates.cardinality());
+            for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) candidateRecipes.add(recipes.get(i));
+            return candidateRecipes;
+        };
+
+        private static void add(BitSet candidates, @Nullable IntList recipes) {
+            if (recipes == null) return;
+            for (int i = 0; i < recipes.size(); i++) candidates.set(recipes.getInt(i));
+        };
+    };
+};
@@ -1,23 +1,22 @@
 package com.petrolpark.destroy.recipe;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import javax.annotation.Nullable;
 
 import com.petrolpark.destroy.Destroy;
 import com.petrolpark.destroy.block.entity.behaviour.ExtendedBasinBehaviour;
 import com.petrolpark.destroy.capability.Pollution;
-import com.petrolpark.destroy.chemistry.api.util.Constants;
-import com.petrolpark.destroy.chemistry.legacy.LegacyMixture;
 import com.petrolpark.destroy.chemistry.legacy.ReactionResult;
-import com.petrolpark.destroy.chemistry.legacy.LegacyMixture.Phases;
 import com.petrolpark.destroy.chemistry.legacy.reactionresult.CombinedReactionResult;
 import com.petrolpark.destroy.chemistry.legacy.reactionresult.PrecipitateReactionResult;
 import com.petrolpark.destroy.fluid.DestroyFluids;
-import com.petrolpark.destroy.fluid.MixtureFluid;
+import com.petrolpark.destroy.recipe.BasinReactionSimulator.SimulatedReaction;
 import com.petrolpark.destroy.util.ItemHelper;
 import com.petrolpark.destroy.util.vat.IVatHeaterBlock;
 import com.simibubi.create.content.processing.basin.BasinBlockEntity;
@@ -25,7 +24,6 @@ import com.simibubi.create.content.processing.basin.BasinRecipe;
 import com.simibubi.create.content.processing.recipe.ProcessingRecipeBuilder;
 import com.simibubi.create.content.processing.recipe.ProcessingRecipeBuilder.ProcessingRecipeParams;
 import com.simibubi.create.foundation.fluid.FluidIngredient;
-import com.simibubi.create.foundation.recipe.RecipeFinder;
 
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
@@ -37,13 +35,18 @@ import net.minecraftforge.fluids.FluidStack;
 
 public class ReactionInBasinRecipe extends BasinRecipe {
 
-    private static final Object recipeCacheKey = new Object();
     private static final int BASIN_MAX_OUTPUT = 1000;
 
     public ReactionInBasinRecipe(ProcessingRecipeParams params) {
         super(params);
     };
 
+    /**
+     * Work out what would happen if the given Fluids and Items reacted in the given Basin.
+     * This is {@link BasinReactionSimulator simulated} off the server thread, so the first time this is called for a given set of inputs
+     * it will probably return {@code null}, and the Basin will be prompted to look for a Recipe again once the simulation has finished.
+     * @return {@code null} if nothing would react, or if it is still being worked out
+     */
     @Nullable
     public static ReactionInBasinRecipe create(Collection<FluidStack> availableFluids, Collection<ItemStack> availableItems, BasinBlockEntity basin) {
         ProcessingRecipeBuilder<ReactionInBasinRecipe> builder = new ProcessingRecipeBuilder<>(ReactionInBasinRecipe::new, Destroy.asResource("reaction_in_basin_"));
@@ -60,55 +63,52 @@ public class ReactionInBasinRecipe extends BasinRecipe {
         float heatingPower = IVatHeaterBlock.getHeatingPower(level, pos.below(), Direction.UP);
         float outsideTemperature = Pollution.getLocalTemperature(level, pos);
 
-        Map<LegacyMixture, Double> mixtures = new HashMap<>(availableFluids.size()); // A Map of all available Mixtures to the volume of them available (in Buckets)
-        int totalAmount = 0; // How much Mixture there is
+        ExtendedBasinBehaviour behaviour = basin.getBehaviour(ExtendedBasinBehaviour.TYPE);
+        List<FluidStack> mixtureStacks = new ArrayList<>(availableFluids.size()); // All available Fluids, as Mixtures
 
         // Check all Fluids are Mixturess
         for (FluidStack fluidStack : availableFluids) {
 
-            LegacyMixture mixture;
             if (DestroyFluids.isMixture(fluidStack)) {
                 // True Mixtures
-                mixture = LegacyMixture.readNBT(fluidStack.getOrCreateTag().getCompound("Mixture"));
+                mixtureStacks.add(fluidStack);
                 containsMixtures = true;
             } else {
                 // Non-Mixture -> Mixture conversions
-                MixtureConversionRecipe recipe = RecipeFinder.get(recipeCacheKey, basin.getLevel(), r -> r.getType() == DestroyRecipeTypes.MIXTURE_CONVERSION.getType())
-                    .stream()
-                    .map(r -> (MixtureConversionRecipe)r)
-                    .filter(r -> r.getFluidIngredients().get(0).test(fluidStack))
-                    .findFirst()
-                    .orElse(null);
+                MixtureConversionRecipe recipe = MixtureRecipeIndex.getMixtureConversion(level, fluidStack);
                 if (recipe == null) {
                     canReact = false;
                     break;
                 } else {
-                    mixture = LegacyMixture.readNBT(recipe.getFluidResults().get(0).getOrCreateTag().getCompound("Mixture"));
+                    FluidStack convertedStack = recipe.getFluidResults().get(0).copy();
+                    convertedStack.setAmount(fluidStack.getAmount());
+                    mixtureStacks.add(convertedStack);
                 };
             };
-
-            int amount = fluidStack.getAmount();
-            totalAmount += amount;
-            mixtures.put(mixture, (double)amount / Constants.MILLIBUCKETS_PER_LITER);
         };
 
         if (!containsMixtures) canReact = false; // Don't react without Mixtures, even if there are fluids which could be converted into Mixtures 
 
         tryReact: if (canReact) {
             // TODO modify temp according to Heat Level
-            LegacyMixture mixture = LegacyMixture.mix(mixtures);
-            ReactionInBasinResult result = mixture.reactInBasin(totalAmount, availableItemsCopy, heatingPower, outsideTemperature); // Mutably react the Mixture and change the Item Stacks
+            CompletableFuture<SimulatedReaction> simulation = BasinReactionSimulator.simulate(mixtureStacks, availableItemsCopy, heatingPower, outsideTemperature);
 
-            // If equilibrium was not disturbed, don't do anything else
-            if (result.ticks() == 0) {
+            // If the simulation hasn't finished yet, come back when it has
+            if (!simulation.isDone()) {
+                behaviour.awaitReaction(simulation);
                 canReact = false;
                 break tryReact;
             };
 
-            Phases phases = mixture.separatePhases(result.amount());
+            // If equilibrium was not disturbed, don't do anything else
+            SimulatedReaction result = BasinReactionSimulator.getResult(simulation);
+            if (result == null || result.ticks() == 0) {
+                canReact = false;
+                break tryReact;
+            };
 
             // Add the resultant Mixture to the results for this Recipe
-            FluidStack outputMixtureStack = MixtureFluid.of((int)Math.round(phases.liquidVolume()), phases.liquidMixture());
+            FluidStack outputMixtureStack = result.liquid().copy();
             builder.output(outputMixtureStack);
 
             // Let the Player know if the Reaction cannot occur because the output Fluid will not fit
@@ -123,9 +123,9 @@ public class ReactionInBasinRecipe extends BasinRecipe {
             builder.duration(duration);
 
             // Add the resultant Item Stacks to the results for this Recipe
-            availableItemsCopy.stream().forEach(stack -> {
+            result.items().stream().forEach(stack -> {
                 if (stack.isEmpty()) return;
-                builder.output(stack);
+                builder.output(stack.copy());
             });
 
             // Add all the given Fluid Stacks as "required ingredients"
@@ -140,12 +140,11 @@ public class ReactionInBasinRecipe extends BasinRecipe {
 
             gatherReactionResults(result.reactionResults(), reactionResults, builder); // Gather all 
 
-            ExtendedBasinBehaviour behaviour = basin.getBehaviour(ExtendedBasinBehaviour.TYPE);
             behaviour.setReactionResults(reactionResults); // Schedule the Reaction Results to occur once the Mixing has finished
-            behaviour.evaporatedFluid = MixtureFluid.of((int)Math.round(phases.gasVolume()), phases.gasMixture());
+            behaviour.evaporatedFluid = result.gas().copy();
         };
 
-        basin.getBehaviour(ExtendedBasinBehaviour.TYPE).tooFullToReact = isBasinTooFullToReact;
+        behaviour.tooFullToReact = isBasinTooFullToReact;
         basin.sendData();
 
         if (!canReact) {
@@ -4,9 +4,11 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Predicate;
 
+import javax.annotation.Nullable;
+
 import com.petrolpark.destroy.capability.entity.EntityChemicalPoison;
-import com.petrolpark.destroy.chemistry.legacy.LegacyElement;
 import com.petrolpark.destroy.chemistry.legacy.LegacySpecies;
+import com.petrolpark.destroy.chemistry.legacy.LegacySpeciesHazards;
 import com.petrolpark.destroy.chemistry.legacy.ReadOnlyMixture;
 import com.petrolpark.destroy.chemistry.legacy.index.DestroyMolecules;
 import com.petrolpark.destroy.effect.DestroyMobEffects;
@@ -34,25 +36,27 @@ public class ChemistryDamageHelper {
      * @param skinContact Whether the entity has contact with the Mixture on a body part other than their mouth (if they are "submerged" in it), regardless of any protective clothing
      */
     public static void damage(Level level, LivingEntity entity, FluidStack stack, boolean skinContact) {
-        if (!DestroyFluids.isMixture(stack)) return;
-        ReadOnlyMixture mixture = ReadOnlyMixture.readNBT(ReadOnlyMixture::new, stack.getOrCreateChildTag("Mixture"));
-        if (mixture.isEmpty()) return;
-
-        boolean burning = mixture.getConcentrationOf(DestroyMolecules.PROTON) > 0.01f || mixture.getConcentrationOf(DestroyMolecules.HYDROXIDE) > 0.01f;
-        boolean smelly = false;
-        boolean carcinogen = false;
-        boolean lacrimator = false;
-        boolean lead = false;
-        LegacySpecies toxicMolecule = null;
-
-        for (LegacySpecies molecule : mixture.getContents(true)) {
-            if (molecule.hasTag(DestroyMolecules.Tags.ACUTELY_TOXIC)) toxicMolecule = molecule;
-            if (molecule.hasTag(DestroyMolecules.Tags.SMELLY)) smelly = true;
-            if (molecule.hasTag(DestroyMolecules.Tags.CARCINOGEN)) carcinogen = true;
-            if (molecule.hasTag(DestroyMolecules.Tags.LACRIMATOR)) lacrimator = true;
-            if (molecule.getMolecularFormula().containsKey(LegacyElement.LEAD)) lead = true;
-            if (toxicMolecule != null && smelly && carcinogen && lacrimator && lead) break;
-        };
+        damage(level, entity, stack, MixtureHazards.of(stack), skinContact);
+    };
+
+    /**
+     * Apply the effects of exposure to a Mixture to an Entity, when the {@link MixtureHazards hazards} of the Mixture have already been worked out
+     * (for example when exposing lots of Entities to the same Mixture).
+     * @param level
+     * @param entity
+     * @param stack
+     * @param hazards The hazards of {@code stack}, or {@code null} if it is not a Mixture
+     * @param skinContact Whether the entity has contact with the Mixture on a body part other than their mouth (if they are "submerged" in it), regardless of any protective clothing
+     */
+    public static void damage(Level level, LivingEntity entity, FluidStack stack, @Nullable MixtureHazards hazards, boolean skinContact) {
+        if (hazards == null) return;
+
+        boolean burning = hazards.burning();
+        boolean smelly = hazards.has(LegacySpeciesHazards.SMELLY);
+        boolean carcinogen = hazards.has(LegacySpeciesHazards.CARCINOGEN);
+        boolean lacrimator = hazards.has(LegacySpeciesHazards.LACRIMATOR);
+        boolean lead = hazards.has(LegacySpeciesHazards.LEAD);
+        LegacySpecies toxicMolecule = hazards.toxicMolecule();
 
         boolean noseProtected = Protection.NOSE.isProtected(entity);
         boolean mouthProtected = Protection.MOUTH.isProtected(entity);
@@ -99,6 +103,39 @@ public class ChemistryDamageHelper {
 
     };
     
+    /**
+     * Everything about a Mixture which affects Entities exposed to it.
+     * @param burning Whether the Mixture is acidic or basic enough to cause burns
+     * @param hazardMask The {@link LegacySpeciesHazards#hazardMask hazards} of all Molecules in the Mixture combined
+     * @param toxicMolecule An {@link LegacySpeciesHazards#ACUTELY_TOXIC acutely toxic} Molecule in the Mixture, or {@code null} if there are none
+     */
+    public static record MixtureHazards(boolean burning, int hazardMask, @Nullable LegacySpecies toxicMolecule) {
+
+        /**
+         * @param stack
+         * @return {@code null} if the Fluid Stack is not a Mixture or is empty
+         */
+        @Nullable
+        public static MixtureHazards of(FluidStack stack) {
+            if (!DestroyFluids.isMixture(stack)) return null;
+            ReadOnlyMixture mixture = ReadOnlyMixture.readNBT(ReadOnlyMixture::new, stack.getOrCreateChildTag("Mixture"));
+            if (mixture.isEmpty()) return null;
+            int hazardMask = 0;
+            LegacySpecies toxicMolecule = null;
+            for (LegacySpecies molecule : mixture.getContents(true)) {
+                LegacySpeciesHazards hazards = molecule.getHazards();
+                hazardMask |= hazards.hazardMask;
+                if (hazards.has(LegacySpeciesHazards.ACUTELY_TOXIC)) toxicMolecule = molecule;
+            };
+            boolean burning = mixture.getConcentrationOf(DestroyMolecules.PROTON) > 0.01f || mixture.getConcentrationOf(DestroyMolecules.HYDROXIDE) > 0.01f;
+            return new MixtureHazards(burning, hazardMask, toxicMolecule);
+        };
+
+        public boolean has(int hazard) {
+            return (hazardMask & hazard) != 0;
+        };
+    };
+    
     public static void contaminate(ItemStack stack, FluidStack fluidStack) {
         if (DestroyItemTags.CONTAMINABLE.matches(stack.getItem())) {
             CompoundTag tag = stack.getOrCreateTag();
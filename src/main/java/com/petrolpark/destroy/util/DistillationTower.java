@@ -1,12 +1,14 @@
 package com.petrolpark.destroy.util;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import com.petrolpark.destroy.Destroy;
 import com.petrolpark.destroy.block.entity.BubbleCapBlockEntity;
 import com.petrolpark.destroy.capability.Pollution;
+import com.petrolpark.destroy.chemistry.api.util.Constants;
 import com.petrolpark.destroy.chemistry.legacy.LegacyMixture;
 import com.petrolpark.destroy.chemistry.legacy.LegacySpecies;
 import com.petrolpark.destroy.chemistry.legacy.ReadOnlyMixture;
@@ -16,10 +18,10 @@ import com.petrolpark.destroy.fluid.DestroyFluids;
 import com.petrolpark.destroy.fluid.MixtureFluid;
 import com.petrolpark.destroy.recipe.DestroyRecipeTypes;
 import com.petrolpark.destroy.recipe.DistillationRecipe;
+import com.petrolpark.destroy.recipe.MixtureRecipeIndex;
 import com.simibubi.create.content.processing.basin.BasinBlockEntity;
 import com.simibubi.create.content.processing.burner.BlazeBurnerBlock.HeatLevel;
 import com.simibubi.create.foundation.fluid.SmartFluidTank;
-import com.simibubi.create.foundation.recipe.RecipeFinder;
 import com.simibubi.create.foundation.utility.Iterate;
 
 import net.minecraft.core.BlockPos;
@@ -34,13 +36,25 @@ import net.minecraftforge.fluids.capability.IFluidHandler.FluidAction;
 
 public class DistillationTower {
 
-    private static final Object distillationRecipeKey = new Object();
 
     private BlockPos position; // The bottom of the Distillation Tower
     private List<BubbleCapBlockEntity> bubbleCaps;
     private DistillationRecipe lastRecipe;
     private int tick;
 
+    /**
+     * The Mixture tag of the Fluid Stack for which the {@link DistillationTower#plannedFractions fractions} were last worked out, compared by identity.
+     */
+    private CompoundTag plannedMixtureTag;
+    private int plannedAmount;
+    private int plannedNumberOfFractions;
+    private float plannedRoomTemperature;
+    private float plannedMaxTemperature;
+    /**
+     * The Fluid Stacks into which the Mixture in the controller Bubble Cap will be separated, worked out once until that Mixture changes.
+     */
+    private List<FluidStack> plannedFractions;
+
     public DistillationTower(Level level, BlockPos controllerPos) { // Create a new Distillation Tower from scratch
         position = controllerPos;
         bubbleCaps = new ArrayList<>();
@@ -128,7 +142,7 @@ public class DistillationTower {
         if (getControllerBubbleCap() == null || level.isClientSide()) return;
         SmartFluidTank inputTank = getControllerBubbleCap().getTank();
         if (lastRecipe == null || !lastRecipe.getRequiredFluid().test(inputTank.getFluid()) || !lastRecipe.isValidAt(level, getControllerPos())) { // If the Recipe has changed
-            List<Recipe<?>> possibleRecipes = RecipeFinder.get(distillationRecipeKey, level, r -> r.getType() == DestroyRecipeTypes.DISTILLATION.getType()).stream().filter(r -> {
+            List<Recipe<?>> possibleRecipes = MixtureRecipeIndex.getCandidates(level, DestroyRecipeTypes.DISTILLATION.getType(), inputTank.getFluid()).stream().filter(r -> {
                 DistillationRecipe recipe = (DistillationRecipe) r;
                 return (recipe.getRequiredFluid().test(inputTank.getFluid())) && recipe.isValidAt(level, getControllerPos()); // If there is sufficient input Fluid and we're in the right biome
             }).collect(Collectors.toList());
@@ -156,8 +170,7 @@ public class DistillationTower {
         FluidStack fluidStack = getControllerBubbleCap().getTank().getFluid();
         if (fluidStack.isEmpty()) return false;
         if (DestroyFluids.isMixture(fluidStack.getFluid()) && fluidStack.getOrCreateTag().contains("Mixture", Tag.TAG_COMPOUND)) {
-            ReadOnlyMixture mixture = ReadOnlyMixture.readNBT(ReadOnlyMixture::new, fluidStack.getOrCreateTag().getCompound("Mixture"));
-            List<FluidStack> fractions = getFractionsOfMixture(mixture, fluidStack.getAmount(), getHeight() - 1);
+            List<FluidStack> fractions = getPlannedFractions(fluidStack.getOrCreateTag().getCompound("Mixture"), fluidStack.getAmount(), getHeight() - 1);
             if (fractions.size() <= 1) return false; // If the only result is the residue, there is no point distilling
             for (boolean simulate : Iterate.trueAndFalse) {
 
@@ -226,33 +239,54 @@ public class DistillationTower {
         return true;
     };
 
+    /**
+     * Get the Fluid Stacks into which a Mixture Fluid Stack will separate when distilled, reusing the last ones worked out if the Mixture,
+     * its amount, the height of this Tower and the temperatures are all the same. These Fluid Stacks are shared, so should not be modified.
+     * @param mixtureTag The Mixture tag of the Fluid Stack being distilled
+     * @param mixtureAmount The amount (in mB) of this Mixture
+     * @param numberOfFractions The maximum number of fractions this should be separated into, not including any possible residue
+     * @see DistillationTower#getFractionsOfMixture
+     */
+    private List<FluidStack> getPlannedFractions(CompoundTag mixtureTag, int mixtureAmount, int numberOfFractions) {
+        Level level = getControllerBubbleCap().getLevel();
+        float roomTemperature = Pollution.getLocalTemperature(level, getControllerPos());
+        float heatedTemperature = getTemperatureForDistillationTower(level, getControllerPos());
+        if (plannedFractions == null || mixtureTag != plannedMixtureTag || mixtureAmount != plannedAmount || numberOfFractions != plannedNumberOfFractions || roomTemperature != plannedRoomTemperature || heatedTemperature != plannedMaxTemperature) {
+            ReadOnlyMixture mixture = ReadOnlyMixture.readNBT(ReadOnlyMixture::new, mixtureTag);
+            plannedFractions = getFractionsOfMixture(mixture, mixtureAmount, numberOfFractions, roomTemperature, Math.max(heatedTemperature, mixture.getTemperature()));
+            plannedMixtureTag = mixtureTag;
+            plannedAmount = mixtureAmount;
+            plannedNumberOfFractions = numberOfFractions;
+            plannedRoomTemperature = roomTemperature;
+            plannedMaxTemperature = heatedTemperature;
+        };
+        return plannedFractions;
+    };
+
     /**
      * Get the Fluid Stacks into which a Mixture Fluid Stack will separate when distilled.
+     * The Molecules which boil in the Tower are sorted by boiling point once, and then shared out between the fractions in one pass.
+     * The fractions are Read-Only Mixtures, so no Reactions are worked out for them.
      * @param mixture The Mixture being distilled
      * @param mixtureAmount The amount (in mB) of this Mixture
      * @param numberOfFractions The maximum number of fractions this should be separated into, not including any possible residue
-     * @param heatLevel The Heat Level of the Blaze Burner (or lack thereof) which is heating the controller Bubble Cap
+     * @param roomTemperature The {@link Pollution#getLocalTemperature temperature} outside the Tower, below which Molecules are gases
+     * @param maxTemperature The temperature to which the Mixture is heated, above which Molecules never boil and so stay in the residue
      * @return A list of Fluid Stacks of maximum size {@code numberOfFractions + 1}, with the first being the residue, and the rest being subsequent fractions
      */
-    private List<FluidStack> getFractionsOfMixture(ReadOnlyMixture mixture, int mixtureAmount, int numberOfFractions) {
+    private static List<FluidStack> getFractionsOfMixture(ReadOnlyMixture mixture, int mixtureAmount, int numberOfFractions, float roomTemperature, float maxTemperature) {
         List<FluidStack> fractions = new ArrayList<>(numberOfFractions);
 
-        float roomTemperature = Pollution.getLocalTemperature(getControllerBubbleCap().getLevel(), getControllerPos());
-        float maxTemperature = Math.max(getTemperatureForDistillationTower(getControllerBubbleCap().getLevel(), getControllerPos()), mixture.getTemperature());
-
         if (numberOfFractions == 0) return fractions;
         if (numberOfFractions == 1) return List.of(MixtureFluid.of(mixtureAmount, mixture));
 
-        LegacyMixture gasMixture = new LegacyMixture().setTemperature(roomTemperature); // If there are gases, these do not separate by boiling point (as they never condense), so these are all grouped into one FluidStack
+        FractionMixture gasMixture = new FractionMixture(roomTemperature); // If there are gases, these do not separate by boiling point (as they never condense), so these are all grouped into one FluidStack
         boolean thereAreGases = false;
 
-        LegacyMixture residueMixture = new LegacyMixture(); // If there are Molecules with a higher boiling point than the Mixture or Blaze Burner can reach, these do not separate by boiling point as they never evaporate
+        FractionMixture residueMixture = new FractionMixture(); // If there are Molecules with a higher boiling point than the Mixture or Blaze Burner can reach, these do not separate by boiling point as they never evaporate
 
         List<LegacySpecies> liquids = new ArrayList<>();
 
-        float lowestBoilingPoint = roomTemperature;
-        float highestBoilingPoint = roomTemperature;
-
         for (LegacySpecies molecule : mixture.getContents(false)) {
             if (molecule.getBoilingPoint() < roomTemperature) { // Add all gases to the gas fraction
                 thereAreGases = true;
@@ -264,30 +298,29 @@ public class DistillationTower {
                 continue;
             };
             liquids.add(molecule);
-            lowestBoilingPoint = Math.min(lowestBoilingPoint, molecule.getBoilingPoint());
-            highestBoilingPoint = Math.max(highestBoilingPoint, molecule.getBoilingPoint());
         };
+        liquids.sort(Comparator.comparingDouble(LegacySpecies::getBoilingPoint));
+
+        float lowestBoilingPoint = liquids.isEmpty() ? roomTemperature : Math.min(roomTemperature, liquids.get(0).getBoilingPoint());
+        float highestBoilingPoint = liquids.isEmpty() ? roomTemperature : Math.max(roomTemperature, liquids.get(liquids.size() - 1).getBoilingPoint());
 
         if (thereAreGases) numberOfFractions--; // If there is a gas fraction, there must be one fewer liquid fractions
 
         float interval = (highestBoilingPoint - lowestBoilingPoint) / numberOfFractions; // Split the whole temperature range into (numberOfFraction) equal-sized temperature ranges...
-        List<LegacyMixture> liquidMixtures = new ArrayList<>(numberOfFractions);
-        for (int i = 0; i < numberOfFractions; i++) liquidMixtures.add(new LegacyMixture().setTemperature(roomTemperature));
-
-        for (LegacySpecies molecule : liquids) {
-            checkEachFraction: for (int fraction = 0; fraction < numberOfFractions; fraction++) { // ...If a Molecule's BP is in the nth temperature range, it goes in the nth fraction
-                if (molecule.getBoilingPoint() <= lowestBoilingPoint + ((fraction + 1) * interval)) {
-                    liquidMixtures.get(fraction).addMolecule(molecule, mixture.getConcentrationOf(molecule));
-                    break checkEachFraction;
-                };
-            };
+        List<FractionMixture> liquidMixtures = new ArrayList<>(numberOfFractions);
+        for (int i = 0; i < numberOfFractions; i++) liquidMixtures.add(new FractionMixture(roomTemperature));
+
+        int fraction = 0;
+        for (LegacySpecies molecule : liquids) { // ...If a Molecule's BP is in the nth temperature range, it goes in the nth fraction. As the Molecules are sorted, the fraction only ever goes up
+            while (fraction < numberOfFractions && molecule.getBoilingPoint() > lowestBoilingPoint + ((fraction + 1) * interval)) fraction++;
+            if (fraction >= numberOfFractions) break;
+            liquidMixtures.get(fraction).addMolecule(molecule, mixture.getConcentrationOf(molecule));
         };
 
         int residueAmount = residueMixture.recalculateVolume(mixtureAmount);
         fractions.add(MixtureFluid.of(residueAmount, residueMixture)); // Add Residue regardless of whether there is anything there
 
-        for (int fraction = 0; fraction < numberOfFractions; fraction++) { // Add all the liquid fractions
-            LegacyMixture fractionMixture = liquidMixtures.get(fraction);
+        for (FractionMixture fractionMixture : liquidMixtures) { // Add all the liquid fractions
             int amount = fractionMixture.recalculateVolume(mixtureAmount);
             if (amount == 0) continue;
             fractions.add(MixtureFluid.of(amount, fractionMixture));
@@ -301,6 +334,45 @@ public class DistillationTower {
         return fractions;
     };
 
+    /**
+     * One fraction of a distilled Mixture. This is a Read-Only Mixture so that adding Molecules to it does not work out Reactions or a name,
+     * but it is {@link FractionMixture#writeNBT written} the same way as the {@link LegacyMixture}s fractions used to be, so Fluid Stacks of
+     * fractions still stack with those distilled before.
+     */
+    private static class FractionMixture extends ReadOnlyMixture {
+
+        private FractionMixture() {
+            super();
+        };
+
+        private FractionMixture(float temperature) {
+            super(temperature);
+        };
+
+        /**
+         * @see LegacyMixture#recalculateVolume
+         */
+        private int recalculateVolume(int initialVolume) {
+            if (contents.isEmpty()) return 0;
+            double initialVolumeInLiters = (double)initialVolume / Constants.MILLIBUCKETS_PER_LITER;
+            double newVolumeInLiters = 0d;
+            for (int slot = 0; slot < speciesIndex.size(); slot++) {
+                newVolumeInLiters += speciesIndex.getConcentration(slot) * initialVolumeInLiters / speciesIndex.getSpecies(slot).getPureConcentration();
+            };
+            for (int slot = 0; slot < speciesIndex.size(); slot++) {
+                speciesIndex.setConcentration(slot, (float)(speciesIndex.getConcentration(slot) * initialVolumeInLiters / newVolumeInLiters));
+            };
+            return (int)((newVolumeInLiters * Constants.MILLIBUCKETS_PER_LITER));
+        };
+
+        @Override
+        public CompoundTag writeNBT() {
+            CompoundTag tag = super.writeNBT();
+            tag.putBoolean("AtEquilibrium", false); // Fractions have never been reacted
+            return tag;
+        };
+    };
+
     public CompoundTag serializeNBT() {
         CompoundTag compound = new CompoundTag();
         compound.putInt("Height", getHeight());
@@ -0,0 +1,197 @@
+package com.petrolpark.destroy.util;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.petrolpark.destroy.capability.Pollution;
+import com.petrolpark.destroy.capability.Pollution.PollutionType;
+import com.petrolpark.destroy.capability.chunk.ChunkPollutionSync;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.Mth;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.chunk.LevelChunk;
+
+/**
+ * Collects the {@link PollutionHelper#pollute pollution} released during a tick, and {@link PollutionAccumulator#apply applies} it all
+ * at once at the end of the tick. This means each chunk's {@link Pollution} is only looked up and {@link ChunkPollutionSync marked for syncing}
+ * once per tick, however many things are polluting it.
+ * <p>Amounts of Pollution don't have to be whole numbers. Only the whole part is applied each tick, and the rest is carried over to the next.
+ * If nothing more is released into a chunk, the leftover fraction is rounded up or down at random (so that on average the right amount is released).</p>
+ * <p>This should only be accessed from the server thread.</p>
+ */
+public class PollutionAccumulator {
+
+    private static final PollutionType[] POLLUTION_TYPES = PollutionType.values();
+
+    private static final Map<ResourceKey<Level>, LevelPollutionDeltas> DELTAS = new HashMap<>();
+
+    private static final Map<String, SourceMetrics> METRICS = new HashMap<>();
+    private static long metricsStartTime = System.nanoTime();
+
+    /**
+     * Release some Pollution, which will be applied at the end of this tick.
+     * @param level
+     * @param pos The position of the Pollution, which only matters if the Pollution Type is {@link PollutionType#local local}
+     * @param pollutionType
+     * @param amount Can be negative, and need not be a whole number
+     * @param source What released this Pollution, only used for {@link PollutionAccumulator#getMetrics metrics}
+     */
+    public static void add(ServerLevel level, BlockPos pos, PollutionType pollutionType, float amount, String source) {
+        if (amount == 0f) return;
+        LevelPollutionDeltas deltas = DELTAS.computeIfAbsent(level.dimension(), d -> new LevelPollutionDeltas());
+        if (pollutionType.local) {
+            long chunkPos = ChunkPos.asLong(SectionPos.blockToSectionCoord(pos.getX()), SectionPos.blockToSectionCoord(pos.getZ()));
+            ChunkPollutionDeltas chunkDeltas = deltas.chunks.get(chunkPos);
+            if (chunkDeltas == null) {
+                chunkDeltas = new ChunkPollutionDeltas();
+                deltas.chunks.put(chunkPos, chunkDeltas);
+            };
+            chunkDeltas.deltas[pollutionType.ordinal()] += amount;
+            chunkDeltas.changedThisTick = true;
+        } else {
+            deltas.global.deltas[pollutionType.ordinal()] += amount;
+            deltas.global.changedThisTick = true;
+        };
+        METRICS.computeIfAbsent(source, s -> new SourceMetrics()).record(amount);
+    };
+
+    /**
+     * Apply all the Pollution released in this Level since the last time this was called. This should be called at the end of every tick.
+     * @param level
+     */
+    public static void apply(ServerLevel level) {
+        LevelPollutionDeltas deltas = DELTAS.get(level.dimension());
+        if (deltas == null) return;
+
+        for (ObjectIterator<Long2ObjectMap.Entry<ChunkPollutionDeltas>> iterator = deltas.chunks.long2ObjectEntrySet().iterator(); iterator.hasNext();) {
+            Long2ObjectMap.Entry<ChunkPollutionDeltas> entry = iterator.next();
+            ChunkPos pos = new ChunkPos(entry.getLongKey());
+            ChunkPollutionDeltas chunkDeltas = entry.getValue();
+            boolean finished = !chunkDeltas.changedThisTick;
+            int[] changes = chunkDeltas.takeWholeChanges(level.random, finished);
+            if (finished) iterator.remove(); // Nothing has been added to this chunk for a tick, so the leftovers have been rounded away
+            if (changes == null) continue;
+            LevelChunk chunk = level.getChunk(pos.x, pos.z);
+            chunk.getCapability(Pollution.CAPABILITY).ifPresent(pollution -> {
+                applyChanges(pollution, changes);
+                ChunkPollutionSync.markDirty(level, pos, pollution);
+            });
+        };
+
+        int[] globalChanges = deltas.global.takeWholeChanges(level.random, !deltas.global.changedThisTick);
+        if (globalChanges != null) level.getCapability(Pollution.CAPABILITY).ifPresent(pollution -> applyChanges(pollution, globalChanges));
+    };
+
+    private static void applyChanges(Pollution pollution, int[] changes) {
+        for (PollutionType pollutionType : POLLUTION_TYPES) {
+            int change = changes[pollutionType.ordinal()];
+            if (change != 0) pollution.set(pollutionType, Mth.clamp(pollution.get(pollutionType) + change, 0, pollutionType.max));
+        };
+    };
+
+    /**
+     * Forget all unapplied Pollution in a Level, for example when it is unloaded.
+     * @param level
+     */
+    public static void clear(ServerLevel level) {
+        DELTAS.remove(level.dimension());
+    };
+
+    /**
+     * How much Pollution each source has released since the metrics were last {@link PollutionAccumulator#resetMetrics reset}.
+     */
+    public static Map<String, SourceMetrics> getMetrics() {
+        return Collections.unmodifiableMap(METRICS);
+    };
+
+    /**
+     * The number of seconds over which the current {@link PollutionAccumulator#getMetrics metrics} have been collected.
+     */
+    public static double getMetricsSeconds() {
+        return (System.nanoTime() - metricsStartTime) / 1000000000d;
+    };
+
+    public static void resetMetrics() {
+        METRICS.clear();
+        metricsStartTime = System.nanoTime();
+    };
+
+    /**
+     * The total Pollution released by one source.
+     */
+    public static class SourceMetrics {
+
+        private long releases;
+        private double pollution;
+
+        private void record(float amount) {
+            releases++;
+            pollution += Math.abs(amount);
+        };
+
+        /**
+         * The number of times this source has released Pollution.
+         */
+        public long getReleases() {
+            return releases;
+        };
+
+        /**
+         * The total (absolute) amount of Pollution this source has released.
+         */
+        public double getPollution() {
+            return pollution;
+        };
+    };
+
+    private static class LevelPollutionDeltas {
+
+        private final Long2ObjectOpenHashMap<ChunkPollutionDeltas> chunks = new Long2ObjectOpenHashMap<>();
+        private final ChunkPollutionDeltas global = new ChunkPollutionDeltas();
+    };
+
+    private static class ChunkPollutionDeltas {
+
+        /**
+         * The unapplied Pollution, indexed by {@link PollutionType#ordinal ordinal}.
+         */
+        private final float[] deltas = new float[POLLUTION_TYPES.length];
+        private boolean changedThisTick = false;
+
+        /**
+         * Remove the whole part of every delta, leaving the fractional part to be carried over.
+         * @param random
+         * @param roundRemainders Whether to get rid of the fractional parts too, by rounding them up or down at random
+         * @return The whole changes indexed by {@link PollutionType#ordinal ordinal}, or {@code null} if there are none
+         */
+        private int[] takeWholeChanges(RandomSource random, boolean roundRemainders) {
+            int[] changes = null;
+            for (int i = 0; i < deltas.length; i++) {
+                float delta = deltas[i];
+                if (delta == 0f) continue;
+                int change = (int)delta; // Rounds towards zero
+                float remainder = delta - change;
+                if (roundRemainders) {
+                    if (random.nextFloat() < Math.abs(remainder)) change += remainder > 0f ? 1 : -1;
+                    remainder = 0f;
+                };
+                deltas[i] = remainder;
+                if (change == 0) continue;
+                if (changes == null) changes = new int[deltas.length];
+                changes[i] = change;
+            };
+            changedThisTick = false;
+            return changes;
+        };
+    };
+};
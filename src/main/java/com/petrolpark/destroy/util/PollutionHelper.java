@@ -8,6 +8,7 @@ import org.joml.Vector3f;
 import com.petrolpark.destroy.Destroy;
 import com.petrolpark.destroy.capability.Pollution;
 import com.petrolpark.destroy.capability.Pollution.PollutionType;
+import com.petrolpark.destroy.capability.chunk.ChunkPollutionSync;
 import com.petrolpark.destroy.chemistry.legacy.LegacySpecies;
 import com.petrolpark.destroy.chemistry.legacy.ReadOnlyMixture;
 import com.petrolpark.destroy.config.DestroyAllConfigs;
@@ -15,24 +16,31 @@ import com.petrolpark.destroy.fluid.DestroyFluids;
 import com.petrolpark.destroy.network.DestroyMessages;
 import com.petrolpark.destroy.network.packet.EvaporatingFluidS2CPacket;
 import com.petrolpark.destroy.network.packet.LevelPollutionS2CPacket;
-import com.petrolpark.destroy.network.packet.SyncChunkPollutionS2CPacket;
+import com.petrolpark.destroy.util.ChemistryDamageHelper.MixtureHazards;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.particles.DustParticleOptions;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.Tag;
+import net.minecraft.resources.ResourceKey;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.util.Mth;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
-import net.minecraft.world.level.chunk.ChunkStatus;
-import net.minecraft.world.level.chunk.LevelChunk;
 import net.minecraft.world.phys.AABB;
 import net.minecraftforge.fluids.FluidStack;
 
 public class PollutionHelper {
 
+    private static final PollutionType[] POLLUTION_TYPES = PollutionType.values();
+
+    private static final Long2ObjectMap<List<LivingEntity>> NEARBY_ENTITIES = new Long2ObjectOpenHashMap<>();
+    private static ResourceKey<Level> nearbyEntitiesLevel = null;
+    private static long nearbyEntitiesTime = -1l;
+
     /**
      * Whether Pollution is enabled in this world.
      */
@@ -69,9 +77,7 @@ public class PollutionHelper {
 
             if (oldValue != newValue && level instanceof ServerLevel serverLevel) {
                 if (pollutionType.local) {
-                    ChunkPos chunkPos = new ChunkPos(pos);
-                    LevelChunk chunk = (LevelChunk)serverLevel.getChunk(chunkPos.x, chunkPos.z, ChunkStatus.FULL, false);
-                    if (chunk != null) DestroyMessages.sendToClientsTrackingChunk(new SyncChunkPollutionS2CPacket(chunkPos, pollution), chunk);
+                    ChunkPollutionSync.markDirty(serverLevel, new ChunkPos(pos), pollution);
                 } else {
                     DestroyMessages.sendToAllClientsInDimension(new LevelPollutionS2CPacket(pollution), serverLevel);
                 };
@@ -83,14 +89,18 @@ public class PollutionHelper {
 
     /**
      * Changes the level of pollution of the given Type in the given Level by the given amount.
-     * The change is broadcast to all clients (Avoid this by using the {@link com.petrolpark.destroy.capability.Pollution#change change()} method instead).
+     * Changes to chunks are broadcast to clients (Avoid this by using the {@link com.petrolpark.destroy.capability.Pollution#change change()} method instead).
      * @param level
      * @param pollutionType
      * @param change Can be positive or negative; will be set within the {@link com.petrolpark.destroy.capability.Pollution.PollutionType bounds}.
      * @return The actual value to which the level of pollution was set (0 if there was no Capability)
      */
     public static int changePollution(Level level, BlockPos pos, PollutionType pollutionType, int change) {
-        return getCapOp(level, pos, pollutionType).map(pollution -> pollution.set(pollutionType, Mth.clamp(pollution.get(pollutionType) + change, 0, pollutionType.max))).orElse(0);
+        return getCapOp(level, pos, pollutionType).map(pollution -> {
+            int newValue = pollution.set(pollutionType, Mth.clamp(pollution.get(pollutionType) + change, 0, pollutionType.max));
+            if (pollutionType.local && level instanceof ServerLevel serverLevel) ChunkPollutionSync.markDirty(serverLevel, new ChunkPos(pos), pollution);
+            return newValue;
+        }).orElse(0);
     };
 
     public static int changePollutionGlobal(Level level, PollutionType pollutionType, int change) {
@@ -101,43 +111,66 @@ public class PollutionHelper {
         return changePollution(level, BlockPos.ZERO, pollutionType, change);
     };
 
+    /**
+     * The {@link PollutionAccumulator#getMetrics source} of Pollution released by callers which don't say what they are.
+     */
+    public static final String UNKNOWN_SOURCE = "unknown";
+
     /**
      * Pollute a single Fluid Stack, with no Particles, and without damaging nearby Entities.
      * @param level
      * @param fluidStack
      * @see PollutionHelper#pollute(Level, BlockPos, int, FluidStack...) Harming Entities and showing evaporation particles too
      */
-    @SuppressWarnings("deprecation")
     public static void pollute(Level level, BlockPos pos, float multiplier, FluidStack fluidStack) {
+        pollute(level, pos, UNKNOWN_SOURCE, multiplier, fluidStack);
+    };
+
+    /**
+     * Pollute a single Fluid Stack, with no Particles, and without damaging nearby Entities.
+     * On the server, the Pollution is {@link PollutionAccumulator accumulated} and applied at the end of the tick.
+     * @param level
+     * @param source What is releasing this Pollution, for {@link PollutionAccumulator#getMetrics metrics}
+     * @param fluidStack
+     */
+    @SuppressWarnings("deprecation")
+    public static void pollute(Level level, BlockPos pos, String source, float multiplier, FluidStack fluidStack) {
         if (DestroyFluids.isMixture(fluidStack) && fluidStack.getOrCreateTag().contains("Mixture", Tag.TAG_COMPOUND)) {
-            polluteMixture(level, pos, multiplier, fluidStack.getAmount(), fluidStack.getOrCreateTag());
+            polluteMixture(level, pos, source, multiplier, fluidStack.getAmount(), fluidStack.getOrCreateTag());
         } else {
             for (PollutionType pollutionType : PollutionType.values()) {
-                if (fluidStack.getFluid().is(pollutionType.fluidTag)) {
-                    float pollutionAmount = multiplier * (float)fluidStack.getAmount() / 250f;
-                    if (pollutionAmount < 1f) {
-                        if (level.random.nextFloat() <= pollutionAmount) changePollution(level, pos, pollutionType, 1);
-                    } else {
-                        changePollution(level, pos, pollutionType, (int)pollutionAmount);
-                    };
-                };
+                if (fluidStack.getFluid().is(pollutionType.fluidTag)) release(level, pos, pollutionType, multiplier * (float)fluidStack.getAmount() / 250f, source);
             };
         };
     };
 
     public static void polluteMixture(Level level, BlockPos pos, float multiplier, int amount, CompoundTag fluidTag) {
+        polluteMixture(level, pos, UNKNOWN_SOURCE, multiplier, amount, fluidTag);
+    };
+
+    public static void polluteMixture(Level level, BlockPos pos, String source, float multiplier, int amount, CompoundTag fluidTag) {
         ReadOnlyMixture mixture = ReadOnlyMixture.readNBT(ReadOnlyMixture::new, fluidTag.getCompound("Mixture"));
+        float[] pollution = new float[POLLUTION_TYPES.length];
         for (LegacySpecies molecule : mixture.getContents(true)) {
-            float pollutionAmount = multiplier * mixture.getConcentrationOf(molecule) * amount / 1000; // One mole of polluting Molecule = one point of Pollution
-            for (PollutionType pollutionType : PollutionType.values()) {
-                if (molecule.hasTag(pollutionType.moleculeTag)) {
-                    if (pollutionAmount < 1) {
-                        if (level.random.nextFloat() <= pollutionAmount) changePollution(level, pos, pollutionType, 1);
-                    } else {
-                        changePollution(level, pos, pollutionType, (int)pollutionAmount);
-                    };
-                };
-            };
+            molecule.getHazards().addPollution(multiplier * mixture.getConcentrationOf(molecule) * amount / 1000, pollution);
+        };
+        for (PollutionType pollutionType : POLLUTION_TYPES) {
+            float pollutionAmount = pollution[pollutionType.ordinal()];
+            if (pollutionAmount != 0f) release(level, pos, pollutionType, pollutionAmount, source);
+        };
+    };
+
+    /**
+     * Release a (not necessarily whole) amount of Pollution. On the server this is {@link PollutionAccumulator accumulated}, and otherwise
+     * fractions of a point of Pollution are released with a probability equal to the fraction.
+     */
+    private static void release(Level level, BlockPos pos, PollutionType pollutionType, float pollutionAmount, String source) {
+        if (level instanceof ServerLevel serverLevel) {
+            PollutionAccumulator.add(serverLevel, pos, pollutionType, pollutionAmount, source);
+        } else if (pollutionAmount < 1f) {
+            if (level.random.nextFloat() <= pollutionAmount) changePollution(level, pos, pollutionType, 1);
+        } else {
+            changePollution(level, pos, pollutionType, (int)pollutionAmount);
         };
     };
 
@@ -149,19 +182,51 @@ public class PollutionHelper {
      * @param fluidStacks The Fluids with which to pollute
      */
     public static void pollute(Level level, BlockPos blockPos, float multiplier, int particleWeight, FluidStack ...fluidStacks) {
+        pollute(level, blockPos, UNKNOWN_SOURCE, multiplier, particleWeight, fluidStacks);
+    };
+
+    /**
+     * Release the given Fluids into the environment, sometimes summon evaporation particles, and expose nearby entities to the effects of the chemicals.
+     * @param level The level in which the pollution is taking place
+     * @param blockPos The position from which the evaporation Particles should originate
+     * @param source What is releasing this Pollution, for {@link PollutionAccumulator#getMetrics metrics}
+     * @param particleWeight There will be a {@code 1} in {@code particleWeight} chance of a Particle being shown. If this is {@code 1} (as is the default), there will always be a Particle
+     * @param fluidStacks The Fluids with which to pollute
+     */
+    public static void pollute(Level level, BlockPos blockPos, String source, float multiplier, int particleWeight, FluidStack ...fluidStacks) {
         if (level.isClientSide()) return;
-        List<LivingEntity> nearbyEntities = level.getEntities(null, new AABB(blockPos).inflate(2)).stream().filter(e -> e instanceof LivingEntity).map(e -> (LivingEntity)e).toList();
-        for (FluidStack fluidStack : List.of(fluidStacks)) {
-            pollute(level, blockPos, multiplier, fluidStack);
-            if (particleWeight == 1 || level.getRandom().nextInt(particleWeight) == 0); DestroyMessages.sendToAllClients(new EvaporatingFluidS2CPacket(blockPos, fluidStack));
+        List<LivingEntity> nearbyEntities = getNearbyEntities(level, blockPos);
+        for (FluidStack fluidStack : fluidStacks) {
+            pollute(level, blockPos, source, multiplier, fluidStack);
+            if (particleWeight == 1 || level.getRandom().nextInt(particleWeight) == 0) DestroyMessages.sendToAllClients(new EvaporatingFluidS2CPacket(blockPos, fluidStack));
+            if (nearbyEntities.isEmpty()) continue;
+            MixtureHazards hazards = MixtureHazards.of(fluidStack);
+            if (hazards == null) continue;
             for (LivingEntity entity : nearbyEntities) {
-                ChemistryDamageHelper.damage(level, entity, fluidStack, true);
+                if (entity.isAlive()) ChemistryDamageHelper.damage(level, entity, fluidStack, hazards, true);
             };
         };
     };
 
+    /**
+     * The Living Entities close enough to a position to be affected by Fluids released there. These are only searched for once per tick
+     * for each position, as things like Catalytic Converters release Fluids several times a tick.
+     */
+    private static List<LivingEntity> getNearbyEntities(Level level, BlockPos pos) {
+        if (level.dimension() != nearbyEntitiesLevel || level.getGameTime() != nearbyEntitiesTime) {
+            NEARBY_ENTITIES.clear();
+            nearbyEntitiesLevel = level.dimension();
+            nearbyEntitiesTime = level.getGameTime();
+        };
+        return NEARBY_ENTITIES.computeIfAbsent(pos.asLong(), l -> level.getEntitiesOfClass(LivingEntity.class, new AABB(pos).inflate(2)));
+    };
+
     public static void pollute(Level level, BlockPos pos, FluidStack ...fluidStacks) {
-        pollute(level, pos, 1f, 1, fluidStacks);
+        pollute(level, pos, UNKNOWN_SOURCE, fluidStacks);
+    };
+
+    public static void pollute(Level level, BlockPos pos, String source, FluidStack ...fluidStacks) {
+        pollute(level, pos, source, 1f, 1, fluidStacks);
     };
 
     /**
@@ -171,7 +236,11 @@ public class PollutionHelper {
      * @param fluidStacks The Fluids with which to pollute
      */
     public static void pollute(Level level, BlockPos blockPos, float multiplier, FluidStack ...fluidStacks) {
-        pollute(level, blockPos, multiplier, 1, fluidStacks);
+        pollute(level, blockPos, UNKNOWN_SOURCE, multiplier, 1, fluidStacks);
+    };
+
+    public static void pollute(Level level, BlockPos blockPos, String source, float multiplier, FluidStack ...fluidStacks) {
+        pollute(level, blockPos, source, multiplier, 1, fluidStacks);
     };
 
     public static DustParticleOptions cropGrowthFailureParticles() {
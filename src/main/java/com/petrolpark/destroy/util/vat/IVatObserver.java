@@ -0,0 +1,14 @@
+package com.petrolpark.destroy.util.vat;
+
+/**
+ * Interface for things which {@link com.petrolpark.destroy.block.entity.VatControllerBlockEntity#observe observe} the contents of a {@link Vat},
+ * and are sent a new {@link VatSnapshot} whenever they change rather than reading the Vat's Fluids themselves.
+ */
+public interface IVatObserver {
+
+    /**
+     * Called when first observing a Vat, and then at most once a tick whenever the contents, temperature or pressure of the Vat change.
+     * @param snapshot
+     */
+    public void onVatSnapshot(VatSnapshot snapshot);
+};
@@ -0,0 +1,91 @@
+package com.petrolpark.destroy.util.vat;
+
+import javax.annotation.Nullable;
+
+import com.petrolpark.destroy.chemistry.legacy.LegacySpecies;
+import com.petrolpark.destroy.chemistry.legacy.ReadOnlyMixture;
+import com.petrolpark.destroy.fluid.DestroyFluids;
+
+import it.unimi.dsi.fastutil.objects.Object2FloatMap;
+import it.unimi.dsi.fastutil.objects.Object2FloatMaps;
+import it.unimi.dsi.fastutil.objects.Object2FloatOpenHashMap;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraftforge.fluids.FluidStack;
+
+/**
+ * The contents of a {@link Vat} at one moment: the concentration of each Species in the liquid and the gas, the temperature and the pressure.
+ * These are {@link IVatObserver published} by the Vat Controller, so things observing a Vat don't each have to read the Mixtures of its Fluids every tick.
+ * <p>The Mixture of a phase is only read again if the Mixture tag of that Fluid has been replaced since the last snapshot, so a Vat which
+ * is only heating up doesn't have its contents read again.</p>
+ */
+public class VatSnapshot {
+
+    public static final VatSnapshot EMPTY = new VatSnapshot(null, Object2FloatMaps.emptyMap(), null, Object2FloatMaps.emptyMap(), 0f, 0f);
+
+    @Nullable
+    private final CompoundTag liquidMixtureTag;
+    private final Object2FloatMap<LegacySpecies> liquidConcentrations;
+    @Nullable
+    private final CompoundTag gasMixtureTag;
+    private final Object2FloatMap<LegacySpecies> gasConcentrations;
+
+    /**
+     * In kelvins.
+     */
+    public final float temperature;
+    /**
+     * Above air pressure, in pascals.
+     */
+    public final float pressure;
+
+    private VatSnapshot(@Nullable CompoundTag liquidMixtureTag, Object2FloatMap<LegacySpecies> liquidConcentrations, @Nullable CompoundTag gasMixtureTag, Object2FloatMap<LegacySpecies> gasConcentrations, float temperature, float pressure) {
+        this.liquidMixtureTag = liquidMixtureTag;
+        this.liquidConcentrations = liquidConcentrations;
+        this.gasMixtureTag = gasMixtureTag;
+        this.gasConcentrations = gasConcentrations;
+        this.temperature = temperature;
+        this.pressure = pressure;
+    };
+
+    /**
+     * Take a new snapshot, reusing the concentrations of any phase which hasn't changed since the previous one.
+     * @param previous
+     * @param liquid The Fluid in the liquid tank of the Vat, which will not be modified
+     * @param gas The Fluid in the gas tank of the Vat, which will not be modified
+     * @param temperature
+     * @param pressure
+     */
+    public static VatSnapshot of(VatSnapshot previous, FluidStack liquid, FluidStack gas, float temperature, float pressure) {
+        CompoundTag liquidMixtureTag = getMixtureTag(liquid);
+        CompoundTag gasMixtureTag = getMixtureTag(gas);
+        return new VatSnapshot(
+            liquidMixtureTag, liquidMixtureTag == previous.liquidMixtureTag ? previous.liquidConcentrations : readConcentrations(liquidMixtureTag),
+            gasMixtureTag, gasMixtureTag == previous.gasMixtureTag ? previous.gasConcentrations : readConcentrations(gasMixtureTag),
+            temperature, pressure
+        );
+    };
+
+    /**
+     * The concentration of a Species in one phase of the Vat.
+     * @param species
+     * @param gas Whether to look in the gas rather than the liquid
+     * @return Concentration in moles per bucket
+     */
+    public float getConcentration(LegacySpecies species, boolean gas) {
+        return (gas ? gasConcentrations : liquidConcentrations).getFloat(species);
+    };
+
+    @Nullable
+    private static CompoundTag getMixtureTag(FluidStack stack) {
+        if (!DestroyFluids.isMixture(stack)) return null;
+        return stack.getChildTag("Mixture");
+    };
+
+    private static Object2FloatMap<LegacySpecies> readConcentrations(@Nullable CompoundTag mixtureTag) {
+        if (mixtureTag == null || mixtureTag.isEmpty()) return Object2FloatMaps.emptyMap();
+        ReadOnlyMixture mixture = ReadOnlyMixture.readNBT(ReadOnlyMixture::new, mixtureTag);
+        Object2FloatMap<LegacySpecies> concentrations = new Object2FloatOpenHashMap<>();
+        for (LegacySpecies species : mixture.getContents(false)) concentrations.put(species, mixture.getConcentrationOf(species));
+        return concentrations;
+    };
+};
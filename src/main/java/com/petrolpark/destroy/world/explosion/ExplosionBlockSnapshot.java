@@ -0,0 +1,135 @@
+package com.petrolpark.destroy.world.explosion;
+
+import javax.annotation.Nullable;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.ChunkStatus;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.material.FluidState;
+import net.minecraft.world.phys.Vec3;
+
+/**
+ * The chunk sections around an Explosion, gathered on the server thread so that the Block States in them can be read from other
+ * threads while {@link SmartExplosion#getExplosionResult rays are being marched}. This does not copy the sections, so it must not be
+ * used while the Level might be changing.
+ * <p>Only chunks which are already loaded are gathered, so an Explosion never loads or generates chunks. Rays should stop at the edge of the
+ * {@link ExplosionBlockSnapshot#isLoaded loaded} chunks. Block Entities are read from the Level, unless the snapshot is going to be read from other
+ * threads, in which case they are not available.</p>
+ */
+public class ExplosionBlockSnapshot implements BlockGetter {
+
+    private static final BlockState AIR = Blocks.AIR.defaultBlockState();
+
+    /**
+     * The Level from which to read Block Entities, or {@code null} if this snapshot may be read from other threads.
+     */
+    @Nullable
+    private final Level level;
+
+    private final int minBuildHeight;
+    private final int height;
+
+    private final int minSectionX;
+    private final int minSectionY;
+    private final int minSectionZ;
+    private final int sizeX;
+    private final int sizeY;
+    private final int sizeZ;
+
+    /**
+     * Indexed by {@code (x * sizeY + y) * sizeZ + z}, relative to the minimum section. {@code null} for sections outside the Level.
+     */
+    private final LevelChunkSection[] sections;
+    /**
+     * Indexed by {@code x * sizeZ + z}, relative to the minimum section.
+     */
+    private final boolean[] loadedChunks;
+
+    /**
+     * Gather every chunk section containing a Block within the given distance of the given position.
+     * Chunks which are not loaded are not loaded by this.
+     * @param level
+     * @param center
+     * @param distance In blocks
+     * @param threadSafe Whether this will be read from threads other than the one which owns the Level, in which case Block Entities are not available
+     */
+    public ExplosionBlockSnapshot(Level level, Vec3 center, double distance, boolean threadSafe) {
+        this.level = threadSafe ? null : level;
+        minBuildHeight = level.getMinBuildHeight();
+        height = level.getHeight();
+
+        minSectionX = SectionPos.blockToSectionCoord(center.x - distance);
+        minSectionY = Math.max(level.getMinSection(), SectionPos.blockToSectionCoord(center.y - distance));
+        minSectionZ = SectionPos.blockToSectionCoord(center.z - distance);
+        int maxSectionY = Math.min(level.getMaxSection() - 1, SectionPos.blockToSectionCoord(center.y + distance));
+        sizeX = SectionPos.blockToSectionCoord(center.x + distance) - minSectionX + 1;
+        sizeY = Math.max(0, maxSectionY - minSectionY + 1);
+        sizeZ = SectionPos.blockToSectionCoord(center.z + distance) - minSectionZ + 1;
+
+        sections = new LevelChunkSection[sizeX * sizeY * sizeZ];
+        loadedChunks = new boolean[sizeX * sizeZ];
+        for (int x = 0; x < sizeX; x++) {
+            for (int z = 0; z < sizeZ; z++) {
+                ChunkAccess chunk = level.getChunk(minSectionX + x, minSectionZ + z, ChunkStatus.FULL, false);
+                if (chunk == null) continue;
+                loadedChunks[x * sizeZ + z] = true;
+                LevelChunkSection[] chunkSections = chunk.getSections();
+                for (int y = 0; y < sizeY; y++) {
+                    sections[(x * sizeY + y) * sizeZ + z] = chunkSections[level.getSectionIndexFromSectionY(minSectionY + y)];
+                };
+            };
+        };
+    };
+
+    /**
+     * Whether the chunk containing the given position was loaded when this snapshot was taken.
+     * Positions in chunks which weren't (or which are outside this snapshot) should be treated as impossible to explode.
+     * @param pos
+     */
+    public boolean isLoaded(BlockPos pos) {
+        int x = SectionPos.blockToSectionCoord(pos.getX()) - minSectionX;
+        int z = SectionPos.blockToSectionCoord(pos.getZ()) - minSectionZ;
+        if (x < 0 || z < 0 || x >= sizeX || z >= sizeZ) return false;
+        return loadedChunks[x * sizeZ + z];
+    };
+
+    @Override
+    public BlockState getBlockState(BlockPos pos) {
+        int x = SectionPos.blockToSectionCoord(pos.getX()) - minSectionX;
+        int y = SectionPos.blockToSectionCoord(pos.getY()) - minSectionY;
+        int z = SectionPos.blockToSectionCoord(pos.getZ()) - minSectionZ;
+        if (x < 0 || y < 0 || z < 0 || x >= sizeX || y >= sizeY || z >= sizeZ) return AIR;
+        LevelChunkSection section = sections[(x * sizeY + y) * sizeZ + z];
+        if (section == null || section.hasOnlyAir()) return AIR;
+        return section.getBlockState(pos.getX() & 15, pos.getY() & 15, pos.getZ() & 15);
+    };
+
+    @Override
+    public FluidState getFluidState(BlockPos pos) {
+        return getBlockState(pos).getFluidState();
+    };
+
+    @Override
+    @Nullable
+    public BlockEntity getBlockEntity(BlockPos pos) {
+        if (level == null || !isLoaded(pos)) return null;
+        return level.getBlockEntity(pos);
+    };
+
+    @Override
+    public int getHeight() {
+        return height;
+    };
+
+    @Override
+    public int getMinBuildHeight() {
+        return minBuildHeight;
+    };
+};
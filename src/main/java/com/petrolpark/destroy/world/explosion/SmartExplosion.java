@@ -1,19 +1,24 @@
 package com.petrolpark.destroy.world.explosion;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
 import java.util.Map.Entry;
 
 import javax.annotation.Nullable;
 
 import com.petrolpark.destroy.Destroy;
 import com.petrolpark.destroy.advancement.DestroyAdvancementTrigger;
+import com.petrolpark.destroy.config.DestroyAllConfigs;
 import com.petrolpark.destroy.network.packet.SmartExplosionS2CPacket;
 import com.petrolpark.destroy.world.loot.DestroyLootContextParams;
 
@@ -77,6 +82,19 @@ public class SmartExplosion extends Explosion {
         register(CustomExplosiveMixExplosion.SERIALIZER);
     };
 
+    /**
+     * Rays are fired through a (2 * resolution) by (2 * resolution) grid on each face of a cube.
+     */
+    private static final int RAY_RESOLUTION = 8;
+    private static final float STEP_LENGTH = 0.3f;
+    private static final float MOMENTUM_LOST_PER_STEP = 0.225f;
+    /**
+     * How much larger than their bounding boxes Entities are when checking if rays hit them, the same as for {@link ProjectileUtil#getEntityHitResult projectiles}.
+     */
+    private static final double ENTITY_HIT_INFLATION = 0.3d;
+
+    private static final ForkJoinPool RAY_MARCHING_POOL = new ForkJoinPool(Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
+
     public static Explosion explode(Level level, SmartExplosion explosion) {
         if (ForgeEventFactory.onExplosionStart(level, explosion)) return explosion; // True if cancelled
         explosion.explode();
@@ -172,9 +190,161 @@ public class SmartExplosion extends Explosion {
 
     /**
      * Get the list of Blocks Positions this explosion should destroy, and the Entities this Explosion should affect.
-     * Default implementation is mostly copied from the Minecraft {@link net.minecraft.world.level.Explosion#explode source code}.
+     * Default implementation is based on the Minecraft {@link net.minecraft.world.level.Explosion#explode source code}:
+     * rays are fired from the center and lose momentum as they pass through Blocks and Entities.
+     * <p>The Entities which could be in the way are gathered once and sorted onto the rays which pass through them, and Blocks are read
+     * from an {@link ExplosionBlockSnapshot}, so large Explosions can march their rays on {@link SmartExplosion#canMarchRaysInParallel several threads}.
+     * The results are merged in the same order regardless. Rays stop at chunks which aren't loaded rather than loading them.</p>
      */
     public ExplosionResult getExplosionResult() {
+        float maxMomentum = radius * (1f + irregularity / 2f); // The maximum momentum any Block or Entity could experience from this Explosion
+        double maxDistance = maxMomentum / MOMENTUM_LOST_PER_STEP * STEP_LENGTH + STEP_LENGTH; // The furthest any ray could travel
+
+        // Pick the direction and (slightly randomised) starting momentum of each ray here, so the random numbers are drawn in the same order however the rays are marched
+        List<Vec3> directions = getRayDirections();
+        float[] momenta = new float[directions.size()];
+        for (int i = 0; i < momenta.length; i++) momenta[i] = radius * ((1f - irregularity / 2f) + random.nextFloat() * irregularity);
+
+        int parallelRadius = level instanceof ServerLevel ? DestroyAllConfigs.SERVER.explosionParallelRadius.get() : 0;
+        boolean parallel = parallelRadius > 0 && radius >= parallelRadius && canMarchRaysInParallel();
+
+        ExplosionBlockSnapshot blocks = new ExplosionBlockSnapshot(level, position, maxDistance, parallel);
+        List<Entity> entities = level.getEntities((Entity)null, new AABB(position, position).inflate(maxDistance), entity -> !entity.ignoreExplosion());
+
+        List<RayResult> rayResults;
+        if (parallel) {
+            rayResults = RAY_MARCHING_POOL.submit(() -> IntStream.range(0, momenta.length)
+                .parallel()
+                .mapToObj(i -> marchRay(directions.get(i), momenta[i], maxMomentum, maxDistance, blocks, entities))
+                .toList()
+            ).join();
+        } else {
+            rayResults = new ArrayList<>(momenta.length);
+            for (int i = 0; i < momenta.length; i++) rayResults.add(marchRay(directions.get(i), momenta[i], maxMomentum, maxDistance, blocks, entities));
+        };
+
+        // Merge the results of each ray, in order
+        Set<BlockPos> blocksToDestroy = new LinkedHashSet<>();
+        Map<Entity, Float> affectedEntities = new HashMap<>();
+        for (RayResult rayResult : rayResults) {
+            blocksToDestroy.addAll(rayResult.blocks());
+            rayResult.entities().forEach((entity, strength) -> affectedEntities.merge(entity, strength, Math::max));
+        };
+        return new ExplosionResult(blocksToDestroy, affectedEntities);
+    };
+
+    /**
+     * Whether the rays of large Explosions can be marched on threads other than the server thread. By default this is only the case if
+     * the {@link ExplosionDamageCalculator} is the vanilla one, which only looks at the Block and Fluid States it is given. Explosions
+     * whose calculator (and {@link SmartExplosion#marchRay ray marching}) only read the {@link ExplosionBlockSnapshot} they are given,
+     * and never Block Entities, can override this to return {@code true}.
+     * <p>Even with the vanilla calculator, Blocks which override {@link net.minecraftforge.common.extensions.IForgeBlock#getExplosionResistance getExplosionResistance}
+     * are given the snapshot rather than the Level, so any Block Entity they look up there is {@code null}. This is documented on
+     * {@link com.petrolpark.destroy.config.DestroyWorldConfigs#explosionParallelRadius the config} which turns parallel marching on.</p>
+     */
+    protected boolean canMarchRaysInParallel() {
+        return damageCalculator.getClass() == ExplosionDamageCalculator.class;
+    };
+
+    /**
+     * The direction of every ray this Explosion fires. Imagine a cube around the center of the explosion with a (2 * resolution) by (2 * resolution)
+     * grid on each face. There is a ray from the center through the center of each grid square.
+     */
+    private static List<Vec3> getRayDirections() {
+        List<Vec3> directions = new ArrayList<>();
+        for (int i = -RAY_RESOLUTION; i <= RAY_RESOLUTION; i++) {
+            for (int j = -RAY_RESOLUTION; j <= RAY_RESOLUTION; j++) {
+                for (int k = -RAY_RESOLUTION; k <= RAY_RESOLUTION; k++) {
+                    if (i == -RAY_RESOLUTION || i == RAY_RESOLUTION || j == -RAY_RESOLUTION || j == RAY_RESOLUTION || k == -RAY_RESOLUTION || k == RAY_RESOLUTION) directions.add(new Vec3(i, j, k).normalize());
+                };
+            };
+        };
+        return directions;
+    };
+
+    /**
+     * Follow a single ray out from the center of this Explosion until it runs out of momentum.
+     * This may be called from any thread, so must not access the Level except through the {@code blocks} snapshot.
+     * @param direction Normalized
+     * @param momentum The starting momentum of this ray
+     * @param maxMomentum The maximum momentum of any ray
+     * @param maxDistance The furthest any ray could travel
+     * @param blocks
+     * @param entities Every Entity which any ray could hit
+     */
+    protected RayResult marchRay(Vec3 direction, float momentum, float maxMomentum, double maxDistance, ExplosionBlockSnapshot blocks, List<Entity> entities) {
+        List<BlockPos> blocksToDestroy = new ArrayList<>();
+        Map<Entity, Float> affectedEntities = new HashMap<>(2);
+
+        // Find the Entities in the way of this ray, and how far along it they are
+        List<RayEntity> rayEntities = new ArrayList<>(2);
+        Vec3 furthestPosition = position.add(direction.scale(maxDistance));
+        for (Entity entity : entities) {
+            AABB boundingBox = entity.getBoundingBox();
+            boundingBox.inflate(ENTITY_HIT_INFLATION).clip(position, furthestPosition).ifPresent(hitPosition -> rayEntities.add(new RayEntity(entity, boundingBox, position.distanceToSqr(hitPosition))));
+        };
+
+        Vec3 positionToExplode = position;
+        while (momentum > 0f) {
+
+            // If there's an Entity in the way...
+            if (!rayEntities.isEmpty()) {
+                double distanceSqr = position.distanceToSqr(positionToExplode);
+                AABB searchArea = new AABB(position, positionToExplode);
+                RayEntity hit = null;
+                for (RayEntity rayEntity : rayEntities) {
+                    if (rayEntity.distanceSqr() <= distanceSqr && (hit == null || rayEntity.distanceSqr() < hit.distanceSqr()) && rayEntity.boundingBox().intersects(searchArea)) hit = rayEntity;
+                };
+                if (hit != null) {
+                    Entity entity = hit.entity();
+                    // ...update the Entity to experience the maximum strength it could experience from this Explosion...
+                    affectedEntities.merge(entity, momentum / maxMomentum, Math::max);
+                    // ...and decrease the momentum of the explosion in this direction
+                    if (entity instanceof LivingEntity livingEntity) {
+                        momentum -= 0.1f + (0.125f
+                            * (1d - ProtectionEnchantment.getExplosionKnockbackAfterDampener(livingEntity, momentum)) // Increase the momentum loss if the Entity has Blast Resistance
+                            * (livingEntity.getAttributeValue(Attributes.KNOCKBACK_RESISTANCE))); // Increase the momentum loss if the Entity has knockback resistance
+                    } else {
+                        momentum -= 0.1f;
+                    };
+                };
+            };
+
+            BlockPos blockPosToExplode = BlockPos.containing(positionToExplode);
+
+            // Don't continue if we've moved outside the world, or into chunks which aren't loaded
+            if (!level.isInWorldBounds(blockPosToExplode) || !blocks.isLoaded(blockPosToExplode)) break;
+
+            BlockState blockState = blocks.getBlockState(blockPosToExplode);
+            FluidState fluidState = blockState.getFluidState();
+
+            // Determine the decrease in momentum due to the Block or Fluid State
+            Optional<Float> optional = damageCalculator.getBlockExplosionResistance(this, blocks, blockPosToExplode, blockState, fluidState);
+            if (optional.isPresent()) { // If it's not just air...
+                momentum -= (optional.get() + 0.3f) * 0.3f; //... decrease the momentum in this direction
+            };
+
+            // Determine whether the Block should be removed
+            if (momentum > 0.0f && damageCalculator.shouldBlockExplode(this, blocks, blockPosToExplode, blockState, momentum)) {
+                blocksToDestroy.add(blockPosToExplode); // If so, add it to the list of Blocks to remove
+            };
+
+            // Move along the line of the direction vector
+            positionToExplode = positionToExplode.add(direction.scale(STEP_LENGTH));
+
+            // Decrease the momentum due to the extra distance moved
+            momentum -= MOMENTUM_LOST_PER_STEP;
+        };
+
+        return new RayResult(blocksToDestroy, affectedEntities);
+    };
+
+    /**
+     * The original implementation of {@link SmartExplosion#getExplosionResult}, which searches the Level for Entities at every step of every ray.
+     * This is only kept so the two can be {@link com.petrolpark.destroy.commands.ExplosionBenchmarkCommand compared}.
+     */
+    @Deprecated
+    public ExplosionResult getUnindexedExplosionResult() {
         Set<BlockPos> blocks = new HashSet<>();
         Map<Entity, Float> entities = new HashMap<>();
 
@@ -393,6 +563,19 @@ public class SmartExplosion extends Explosion {
 
     };
 
+    /**
+     * @param blocks The Blocks one ray has destroyed, in the order it reached them
+     * @param entities The Entities one ray has hit, mapped to how strongly
+     */
+    protected static record RayResult(List<BlockPos> blocks, Map<Entity, Float> entities) {};
+
+    /**
+     * @param entity
+     * @param boundingBox
+     * @param distanceSqr How far along the ray (squared) the Entity is first hit
+     */
+    private static record RayEntity(Entity entity, AABB boundingBox, double distanceSqr) {};
+
     /**
      * @param blocksToDestroy The Blocks which this Explosion should remove
      * @param entities The Entities this Explosion should affect mapped to how strongly they are affected: